@@ -0,0 +1,48 @@
+package com.triptune.loadtest;
+
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+/**
+ * 블로킹 I/O 처리량 비교 : 고정 동시 사용자(closed model)로 DB, Redis, Mongo 를 거치는 요청을 반복
+ * Tomcat 기본 스레드 수(200)보다 많은 동시 사용자로 플랫폼 스레드 / 가상 스레드 모드의 처리량(req/s) 비교
+ * 1. ./gradlew bootRun                       -> ./gradlew gatlingRun-com.triptune.loadtest.BlockingIoThroughputSimulation
+ * 2. ./gradlew bootRun -Pjava21 -PvirtualThreads -> 같은 시뮬레이션 실행 후 두 리포트 비교
+ * - loadtest.concurrency : 동시 사용자 수
+ */
+public class BlockingIoThroughputSimulation extends Simulation {
+
+    private static final int CONCURRENCY = Integer.parseInt(System.getProperty("loadtest.concurrency", "600"));
+    private static final String AUTHORIZATION = "Bearer #{accessToken}";
+
+    private final ScenarioBuilder blockingIo = scenario("블로킹 I/O 처리량")
+            .exec(LoadTestConfig.login())
+            .forever().on(
+                    exec(LoadTestConfig.randomLocation())
+                    .exec(http("일정 목록 조회")
+                            .get("/api/schedules?page=1")
+                            .header("Authorization", AUTHORIZATION)
+                            .check(status().is(200))
+                            .check(jsonPath("$.data.content[*].scheduleId").findRandom().saveAs("scheduleId")))
+                    .exec(http("채팅 이력 조회")
+                            .get("/api/schedules/#{scheduleId}/chats/history")
+                            .header("Authorization", AUTHORIZATION)
+                            .check(status().is(200)))
+                    .exec(http("주변 여행지 조회")
+                            .post("/api/travels?page=1")
+                            .header("Authorization", AUTHORIZATION)
+                            .body(StringBody("{\"latitude\":#{latitude},\"longitude\":#{longitude}}"))
+                            .check(status().is(200))));
+
+    {
+        setUp(blockingIo.injectClosed(
+                        rampConcurrentUsers(0).to(CONCURRENCY).during(LoadTestConfig.RAMP),
+                        constantConcurrentUsers(CONCURRENCY).during(LoadTestConfig.DURATION)))
+                .protocols(LoadTestConfig.httpProtocol())
+                .maxDuration(LoadTestConfig.RAMP.plus(LoadTestConfig.DURATION));
+    }
+}
@@ -0,0 +1,46 @@
+package com.triptune.loadtest;
+
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+/**
+ * 북마크 : 로그인 -> 주변 여행지 조회 -> 북마크 추가 -> 북마크 목록 -> 북마크 취소
+ */
+public class BookmarkSimulation extends Simulation {
+
+    private static final String AUTHORIZATION = "Bearer #{accessToken}";
+
+    private final ScenarioBuilder bookmark = scenario("북마크")
+            .exec(LoadTestConfig.login())
+            .exec(LoadTestConfig.randomLocation())
+            .exec(http("주변 여행지 조회")
+                    .post("/api/travels?page=1")
+                    .header("Authorization", AUTHORIZATION)
+                    .body(StringBody("{\"latitude\":#{latitude},\"longitude\":#{longitude}}"))
+                    .check(status().is(200))
+                    .check(jsonPath("$.data.content[?(@.bookmarkStatus == false)].placeId").findRandom().optional().saveAs("placeId")))
+            .doIf(session -> session.contains("placeId")).then(
+                    exec(http("북마크 추가")
+                            .post("/api/bookmarks")
+                            .header("Authorization", AUTHORIZATION)
+                            .body(StringBody("{\"placeId\":#{placeId}}"))
+                            .check(status().is(200)))
+                    .pause(1)
+                    .exec(http("북마크 목록 조회")
+                            .get("/api/members/bookmark?page=1&sort=newest")
+                            .header("Authorization", AUTHORIZATION)
+                            .check(status().is(200)))
+                    .exec(http("북마크 취소")
+                            .delete("/api/bookmarks/#{placeId}")
+                            .header("Authorization", AUTHORIZATION)
+                            .check(status().is(200))));
+
+    {
+        setUp(bookmark.injectOpen(LoadTestConfig.injection()))
+                .protocols(LoadTestConfig.httpProtocol());
+    }
+}
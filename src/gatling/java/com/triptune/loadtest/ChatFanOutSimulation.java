@@ -0,0 +1,55 @@
+package com.triptune.loadtest;
+
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+
+import java.time.Duration;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+import static io.gatling.javaapi.http.HttpDsl.ws;
+
+/**
+ * STOMP 채팅 fan-out : 로그인 -> 채팅방 일정 조회 -> 연결, 구독 -> 메시지 전송 후 본인 메시지 수신까지 측정
+ * 같은 채팅방(loadtest-chat-n)의 참석자가 모두 구독하므로 전송 한 번이 채팅방 인원만큼 전달된다.
+ * - loadtest.chatMessages : 사용자별 전송 메시지 수
+ */
+public class ChatFanOutSimulation extends Simulation {
+
+    private static final int CHAT_MESSAGES = Integer.parseInt(System.getProperty("loadtest.chatMessages", "10"));
+    private static final Duration RECEIVE_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final String CONNECT_FRAME = "CONNECT\naccept-version:1.2\nheart-beat:0,0\nAuthorization:Bearer #{accessToken}\n\n\u0000";
+    private static final String SUBSCRIBE_FRAME = "SUBSCRIBE\nid:sub-0\ndestination:/sub/schedules/#{scheduleId}/chats\n\n\u0000";
+    private static final String SEND_FRAME = "SEND\ndestination:/pub/chats\ncontent-type:application/json\n\n"
+            + "{\"scheduleId\":#{scheduleId},\"message\":\"#{userId}-#{chatIndex}\"}\u0000";
+
+    private final ScenarioBuilder chat = scenario("채팅 fan-out")
+            .exec(LoadTestConfig.login())
+            .exec(http("채팅방 일정 조회")
+                    .get("/api/schedules/search?page=1&type=all&keyword=loadtest-chat-")
+                    .header("Authorization", "Bearer #{accessToken}")
+                    .check(status().is(200))
+                    .check(jsonPath("$.data.content[0].scheduleId").saveAs("scheduleId")))
+            .exec(ws("STOMP 연결").connect("/ws"))
+            .exec(ws("STOMP CONNECT")
+                    .sendText(CONNECT_FRAME)
+                    .await(RECEIVE_TIMEOUT).on(
+                            ws.checkTextMessage("CONNECTED").check(regex("^CONNECTED"))))
+            .exec(ws("STOMP SUBSCRIBE").sendText(SUBSCRIBE_FRAME))
+            .repeat(CHAT_MESSAGES, "chatIndex").on(
+                    pause(1)
+                    .exec(ws("채팅 전송")
+                            .sendText(SEND_FRAME)
+                            .await(RECEIVE_TIMEOUT).on(
+                                    ws.checkTextMessage("채팅 수신")
+                                            .matching(substring("#{userId}-#{chatIndex}"))
+                                            .check(regex("^MESSAGE")))))
+            .exec(ws("STOMP 종료").close());
+
+    {
+        setUp(chat.injectOpen(LoadTestConfig.injection()))
+                .protocols(LoadTestConfig.httpProtocol());
+    }
+}
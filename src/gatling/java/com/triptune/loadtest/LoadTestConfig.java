@@ -0,0 +1,88 @@
+package com.triptune.loadtest;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.OpenInjectionStep;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.http;
+
+/**
+ * 부하 테스트 공통 설정 (-Ploadtest.* 로 변경)
+ * - loadtest.baseUrl : 대상 서버 (기본 http://localhost:8080)
+ * - loadtest.rate : 초당 유입 사용자 수, loadtest.durationSeconds : 유지 시간
+ * - loadtest.members, loadtest.password : LoadTestDataSeeder 로 생성한 회원 수, 비밀번호 (비밀번호는 필수)
+ */
+public final class LoadTestConfig {
+
+    public static final String BASE_URL = System.getProperty("loadtest.baseUrl", "http://localhost:8080");
+    public static final double RATE = Double.parseDouble(System.getProperty("loadtest.rate", "20"));
+    public static final Duration RAMP = Duration.ofSeconds(Long.parseLong(System.getProperty("loadtest.rampSeconds", "30")));
+    public static final Duration DURATION = Duration.ofSeconds(Long.parseLong(System.getProperty("loadtest.durationSeconds", "120")));
+    public static final int MEMBERS = Integer.parseInt(System.getProperty("loadtest.members", "2000"));
+    public static final String PASSWORD = Objects.requireNonNull(System.getProperty("loadtest.password"), "-Ploadtest.password 를 지정해야 합니다.");
+
+    public static final List<String> PLACE_KEYWORDS = List.of("해변", "공원", "시장", "박물관", "카페", "사찰", "전망대", "숲길", "미술관", "야시장");
+
+    private static final String USER_ID_PREFIX = "loadtest";
+
+    // 국내 위경도 범위
+    private static final double MIN_LATITUDE = 33.1;
+    private static final double MAX_LATITUDE = 38.6;
+    private static final double MIN_LONGITUDE = 124.6;
+    private static final double MAX_LONGITUDE = 131.9;
+
+    private LoadTestConfig(){
+    }
+
+    public static HttpProtocolBuilder httpProtocol(){
+        return http.baseUrl(BASE_URL)
+                .wsBaseUrl(BASE_URL.replaceFirst("^http", "ws"))
+                .acceptHeader("application/json")
+                .contentTypeHeader("application/json");
+    }
+
+    public static OpenInjectionStep[] injection(){
+        return new OpenInjectionStep[]{
+                rampUsersPerSec(1).to(RATE).during(RAMP),
+                constantUsersPerSec(RATE).during(DURATION)
+        };
+    }
+
+    /**
+     * loadtest1 ~ loadtestN 을 순서대로 돌려가며 로그인, accessToken 저장
+     */
+    public static ChainBuilder login(){
+        AtomicInteger sequence = new AtomicInteger();
+        Iterator<Map<String, Object>> members = Stream.generate(() -> Map.<String, Object>of("userId", USER_ID_PREFIX + (sequence.getAndIncrement() % MEMBERS + 1)))
+                .iterator();
+
+        return feed(members)
+                .exec(http("로그인")
+                        .post("/api/members/login")
+                        .body(StringBody("{\"userId\":\"#{userId}\",\"password\":\"" + PASSWORD + "\"}"))
+                        .check(jsonPath("$.data.accessToken").saveAs("accessToken")));
+    }
+
+    /**
+     * 국내 임의 위치와 검색어 저장
+     */
+    public static ChainBuilder randomLocation(){
+        return exec(session -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            return session.set("latitude", random.nextDouble(MIN_LATITUDE, MAX_LATITUDE))
+                    .set("longitude", random.nextDouble(MIN_LONGITUDE, MAX_LONGITUDE))
+                    .set("keyword", PLACE_KEYWORDS.get(random.nextInt(PLACE_KEYWORDS.size())));
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package com.triptune.loadtest;
+
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+/**
+ * 일정 대시보드 : 로그인 -> 일정 목록, 공유 일정 목록 -> 일정 상세, 여행 루트, 채팅 이력
+ */
+public class ScheduleDashboardSimulation extends Simulation {
+
+    private static final String AUTHORIZATION = "Bearer #{accessToken}";
+
+    private final ScenarioBuilder dashboard = scenario("일정 대시보드")
+            .exec(LoadTestConfig.login())
+            .exec(http("일정 목록 조회")
+                    .get("/api/schedules?page=1")
+                    .header("Authorization", AUTHORIZATION)
+                    .check(status().is(200))
+                    .check(jsonPath("$.data.content[*].scheduleId").findRandom().saveAs("scheduleId")))
+            .exec(http("공유 일정 목록 조회")
+                    .get("/api/schedules/shared?page=1")
+                    .header("Authorization", AUTHORIZATION)
+                    .check(status().is(200)))
+            .pause(1)
+            .exec(http("일정 상세 조회")
+                    .get("/api/schedules/#{scheduleId}?page=1")
+                    .header("Authorization", AUTHORIZATION)
+                    .check(status().is(200)))
+            .exec(http("여행 루트 조회")
+                    .get("/api/schedules/#{scheduleId}/routes?page=1")
+                    .header("Authorization", AUTHORIZATION)
+                    .check(status().is(200)))
+            .exec(http("채팅 이력 조회")
+                    .get("/api/schedules/#{scheduleId}/chats/history")
+                    .header("Authorization", AUTHORIZATION)
+                    .check(status().is(200)));
+
+    {
+        setUp(dashboard.injectOpen(LoadTestConfig.injection()))
+                .protocols(LoadTestConfig.httpProtocol());
+    }
+}
@@ -0,0 +1,37 @@
+package com.triptune.loadtest;
+
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+/**
+ * 여행지 탐색 : 주변 여행지 조회 -> 검색 -> 상세 조회 (비로그인)
+ */
+public class TravelSimulation extends Simulation {
+
+    private final ScenarioBuilder travel = scenario("여행지 탐색")
+            .exec(LoadTestConfig.randomLocation())
+            .exec(http("주변 여행지 조회")
+                    .post("/api/travels?page=1")
+                    .body(StringBody("{\"latitude\":#{latitude},\"longitude\":#{longitude}}"))
+                    .check(status().is(200))
+                    .check(jsonPath("$.data.content[*].placeId").findRandom().optional().saveAs("placeId")))
+            .pause(1)
+            .exec(http("여행지 검색")
+                    .post("/api/travels/search?page=1")
+                    .body(StringBody("{\"keyword\":\"#{keyword}\",\"latitude\":#{latitude},\"longitude\":#{longitude}}"))
+                    .check(status().is(200)))
+            .pause(1)
+            .doIf(session -> session.contains("placeId")).then(
+                    exec(http("여행지 상세 조회")
+                            .get("/api/travels/#{placeId}")
+                            .check(status().is(200))));
+
+    {
+        setUp(travel.injectOpen(LoadTestConfig.injection()))
+                .protocols(LoadTestConfig.httpProtocol());
+    }
+}
@@ -0,0 +1,101 @@
+package com.triptune.email;
+
+import com.triptune.email.dto.EmailTemplateRequest;
+import com.triptune.email.service.EmailTemplateRenderer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.util.ReflectionUtils;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이메일 생성 처리량 비교 (기존 MimeMessageHelper 방식 / EmailTemplateRenderer)
+ * 실행 : ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EmailTemplateBenchmark {
+
+    private static final String SENDER_EMAIL = "sender@email.com";
+
+    private JavaMailSenderImpl javaMailSender;
+    private TemplateEngine templateEngine;
+    private EmailTemplateRenderer emailTemplateRenderer;
+    private EmailTemplateRequest templateRequest;
+
+    @Setup
+    public void setUp() throws MessagingException {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+        templateResolver.setCacheable(true);
+
+        templateEngine = new TemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+
+        javaMailSender = new JavaMailSenderImpl();
+
+        emailTemplateRenderer = new EmailTemplateRenderer(javaMailSender, templateEngine);
+        Field senderEmail = ReflectionUtils.findField(EmailTemplateRenderer.class, "senderEmail");
+        ReflectionUtils.makeAccessible(senderEmail);
+        ReflectionUtils.setField(senderEmail, emailTemplateRenderer, SENDER_EMAIL);
+        emailTemplateRenderer.init();
+
+        templateRequest = new EmailTemplateRequest(
+                "[TripTune] 이메일 인증 코드가 발급되었습니다.",
+                "test@email.com",
+                Map.of("authCode", "Abc123"),
+                "certificationEmail"
+        );
+    }
+
+    @Benchmark
+    public byte[] before() throws MessagingException, IOException {
+        MimeMessage message = javaMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+
+        helper.setSubject(templateRequest.subject());
+        helper.setTo(templateRequest.recipientEmail());
+        helper.setCc(SENDER_EMAIL);
+
+        Context context = new Context();
+        templateRequest.emailValues().forEach(context::setVariable);
+
+        String emailHTML = templateEngine.process(templateRequest.templateName(), context);
+        helper.setText(emailHTML, true);
+
+        helper.addInline("image", new ClassPathResource("static/images/logo-removebg.png"));
+
+        return write(message);
+    }
+
+    @Benchmark
+    public byte[] after() throws MessagingException, IOException {
+        return write(emailTemplateRenderer.createEmailTemplate(templateRequest));
+    }
+
+    // 실제 발송 시와 동일하게 인코딩 비용까지 포함해 측정
+    private byte[] write(MimeMessage message) throws MessagingException, IOException {
+        message.saveChanges();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        message.writeTo(outputStream);
+
+        return outputStream.toByteArray();
+    }
+}
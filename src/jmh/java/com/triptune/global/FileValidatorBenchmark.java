@@ -0,0 +1,110 @@
+package com.triptune.global;
+
+import com.triptune.global.util.FileValidator;
+import org.apache.tika.Tika;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 파일 형식 검사 비교 (기존 방식 : 호출마다 Tika 생성 + 업로드 시 재조회 / FileValidator)
+ * bytesRead 는 업로드 1건당 파일에서 읽은 바이트 수, 할당량은 -prof gc 로 확인
+ * 실행 : ./gradlew jmh -Pjmh.includes=FileValidatorBenchmark -Pjmh.profilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FileValidatorBenchmark {
+
+    private final FileValidator fileValidator = new FileValidator();
+    private byte[] content;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ReadCounter {
+        public long bytesRead;
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        BufferedImage image = new BufferedImage(1024, 1024, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+        content = outputStream.toByteArray();
+    }
+
+    @Benchmark
+    public long before(ReadCounter counter) throws IOException {
+        MultipartFile file = new CountingMultipartFile(content, counter);
+
+        // 검사 시 Tika 생성 후 스트림 조회, 업로드 시 스트림 재조회
+        try (InputStream inputStream = file.getInputStream()) {
+            new Tika().detect(inputStream);
+        }
+
+        try (InputStream inputStream = file.getInputStream()) {
+            return drain(inputStream);
+        }
+    }
+
+    @Benchmark
+    public long after(ReadCounter counter) throws IOException {
+        MultipartFile file = new CountingMultipartFile(content, counter);
+
+        try (FileValidator.ValidatedFile validatedFile = fileValidator.validateImage(file)) {
+            return drain(validatedFile.getInputStream());
+        }
+    }
+
+    // 업로드 시 스트림을 끝까지 읽는 것과 동일
+    private long drain(InputStream inputStream) throws IOException {
+        return inputStream.transferTo(OutputStream.nullOutputStream());
+    }
+
+
+    private static class CountingMultipartFile implements MultipartFile {
+        private final byte[] content;
+        private final ReadCounter counter;
+
+        CountingMultipartFile(byte[] content, ReadCounter counter) {
+            this.content = content;
+            this.counter = counter;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(content) {
+                @Override
+                public synchronized int read() {
+                    int value = super.read();
+                    if (value >= 0) counter.bytesRead++;
+                    return value;
+                }
+
+                @Override
+                public synchronized int read(byte[] b, int off, int len) {
+                    int read = super.read(b, off, len);
+                    if (read > 0) counter.bytesRead += read;
+                    return read;
+                }
+            };
+        }
+
+        @Override public String getName() { return "profileImage"; }
+        @Override public String getOriginalFilename() { return "image.png"; }
+        @Override public String getContentType() { return "image/png"; }
+        @Override public boolean isEmpty() { return content.length == 0; }
+        @Override public long getSize() { return content.length; }
+        @Override public byte[] getBytes() { return content.clone(); }
+        @Override public void transferTo(File dest) { throw new UnsupportedOperationException(); }
+    }
+}
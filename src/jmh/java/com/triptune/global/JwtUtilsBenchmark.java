@@ -0,0 +1,53 @@
+package com.triptune.global;
+
+import com.triptune.global.util.JwtUtils;
+import com.triptune.global.util.RedisUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급, 검증 처리량 (검증 시 Redis 로그아웃 조회는 제외)
+ * 실행 : ./gradlew jmh -Pjmh.includes=JwtUtilsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtUtilsBenchmark {
+
+    private static final long EXPIRATION_TIME = 3600000;
+
+    private JwtUtils jwtUtils;
+    private String token;
+
+    @Setup
+    public void setUp(){
+        String secretKey = Base64.getEncoder().encodeToString("triptune-jmh-benchmark-secret-key-0123456789".getBytes());
+
+        RedisUtils redisUtils = new RedisUtils(null) {
+            @Override
+            public boolean isLogoutToken(String accessToken) {
+                return false;
+            }
+        };
+
+        jwtUtils = new JwtUtils(secretKey, null, redisUtils);
+        token = jwtUtils.createToken("member", EXPIRATION_TIME);
+    }
+
+    @Benchmark
+    public String createToken(){
+        return jwtUtils.createToken("member", EXPIRATION_TIME);
+    }
+
+    @Benchmark
+    public boolean validateToken(){
+        return jwtUtils.validateToken(token);
+    }
+
+    @Benchmark
+    public String parseClaims(){
+        return jwtUtils.parseClaims(token).getSubject();
+    }
+}
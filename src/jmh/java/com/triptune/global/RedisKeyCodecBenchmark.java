@@ -0,0 +1,49 @@
+package com.triptune.global;
+
+import com.triptune.global.enumclass.RedisKeyType;
+import com.triptune.global.util.JwtUtils;
+import com.triptune.global.util.RedisKeyCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 키 생성 비용 (변경 전 String.format, 토큰 원문 키 vs RedisKeyCodec)
+ * 실행 : ./gradlew jmh -Pjmh.includes=RedisKeyCodecBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RedisKeyCodecBenchmark {
+
+    private static final String EMAIL = "loadtest1@triptune.com";
+
+    private String accessToken;
+
+    @Setup
+    public void setUp(){
+        String secretKey = Base64.getEncoder().encodeToString("triptune-jmh-benchmark-secret-key-0123456789".getBytes());
+        accessToken = new JwtUtils(secretKey, null, null).createToken("member", 3600000);
+    }
+
+    @Benchmark
+    public String emailKey_format(){
+        return String.format("email:%s:%s", EMAIL, RedisKeyType.AUTH_CODE.getKeyType());
+    }
+
+    @Benchmark
+    public String emailKey_codec(){
+        return RedisKeyCodec.emailKey(RedisKeyType.AUTH_CODE, EMAIL);
+    }
+
+    @Benchmark
+    public String logoutTokenKey_raw(){
+        return RedisKeyCodec.legacyTokenKey(accessToken);
+    }
+
+    @Benchmark
+    public String logoutTokenKey_digest(){
+        return RedisKeyCodec.logoutTokenKey(accessToken);
+    }
+}
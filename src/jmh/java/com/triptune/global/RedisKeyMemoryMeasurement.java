@@ -0,0 +1,99 @@
+package com.triptune.global;
+
+import com.triptune.global.enumclass.RedisKeyType;
+import com.triptune.global.util.JwtUtils;
+import com.triptune.global.util.RedisKeyCodec;
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.sync.RedisCommands;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 키 형식별 Redis 메모리 사용량 측정 (변경 전 키 vs RedisKeyCodec)
+ * 형식마다 키를 파이프라인으로 저장한 뒤 INFO memory 의 used_memory 증가량을 출력
+ * 다른 데이터가 섞이지 않도록 비어있는 DB 에서만 실행하고, 형식마다 측정 후 FLUSHDB
+ * 실행 : ./gradlew redisKeyMemory -Predis.uri=redis://localhost:6379/15 -Predis.keys=1000000
+ */
+public class RedisKeyMemoryMeasurement {
+
+    private static final Pattern USED_MEMORY_PATTERN = Pattern.compile("used_memory:(\\d+)");
+    private static final int BATCH_SIZE = 10_000;
+    private static final long TTL_SECONDS = 3600;
+
+    public static void main(String[] args) {
+        String uri = System.getProperty("redis.uri", "redis://localhost:6379/15");
+        int count = Integer.getInteger("redis.keys", 1_000_000);
+
+        String secretKey = Base64.getEncoder().encodeToString("triptune-jmh-benchmark-secret-key-0123456789".getBytes());
+        JwtUtils jwtUtils = new JwtUtils(secretKey, null, null);
+
+        RedisClient client = RedisClient.create(uri);
+
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+            if (connection.sync().dbsize() > 0){
+                throw new IllegalStateException("비어있는 DB 에서 실행해야 합니다. (" + uri + ")");
+            }
+
+            System.out.printf("%-16s %12s %16s %12s%n", "scheme", "keys", "bytes/1M keys", "bytes/key");
+
+            measure(connection, "email legacy", count, i -> RedisKeyCodec.legacyEmailKey(RedisKeyType.AUTH_CODE, email(i)), "123456");
+            measure(connection, "email codec", count, i -> RedisKeyCodec.emailKey(RedisKeyType.AUTH_CODE, email(i)), "123456");
+            measure(connection, "logout legacy", count, i -> RedisKeyCodec.legacyTokenKey(jwtUtils.createToken("member" + i, TTL_SECONDS * 1000)), "logout");
+            measure(connection, "logout codec", count, i -> RedisKeyCodec.logoutTokenKey(jwtUtils.createToken("member" + i, TTL_SECONDS * 1000)), "logout");
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    private static void measure(StatefulRedisConnection<String, String> connection, String scheme, int count, IntFunction<String> keyGenerator, String value){
+        RedisCommands<String, String> sync = connection.sync();
+        RedisAsyncCommands<String, String> async = connection.async();
+
+        long before = usedMemory(sync);
+
+        connection.setAutoFlushCommands(false);
+        try {
+            for (int start = 0; start < count; start += BATCH_SIZE){
+                List<RedisFuture<String>> futures = new ArrayList<>(BATCH_SIZE);
+
+                for (int i = start; i < Math.min(start + BATCH_SIZE, count); i++){
+                    futures.add(async.setex(keyGenerator.apply(i), TTL_SECONDS, value));
+                }
+
+                connection.flushCommands();
+                LettuceFutures.awaitAll(Duration.ofMinutes(1), futures.toArray(new RedisFuture[0]));
+            }
+        } finally {
+            connection.setAutoFlushCommands(true);
+        }
+
+        long used = usedMemory(sync) - before;
+        System.out.printf("%-16s %12d %16d %12.1f%n", scheme, count, used * 1_000_000L / count, (double) used / count);
+
+        sync.flushdb();
+    }
+
+    private static long usedMemory(RedisCommands<String, String> sync){
+        Matcher matcher = USED_MEMORY_PATTERN.matcher(sync.info("memory"));
+
+        if (!matcher.find()){
+            throw new IllegalStateException("used_memory 를 찾을 수 없습니다.");
+        }
+
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private static String email(int i){
+        return "loadtest" + i + "@triptune.com";
+    }
+}
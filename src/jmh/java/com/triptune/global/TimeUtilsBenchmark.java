@@ -0,0 +1,37 @@
+package com.triptune.global;
+
+import com.triptune.global.util.TimeUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정 목록의 "n분 전" 표시 계산 (분, 일, 30일 초과 시 날짜 포맷)
+ * 실행 : ./gradlew jmh -Pjmh.includes=TimeUtilsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TimeUtilsBenchmark {
+
+    @Param({"10", "4320", "86400"})
+    private long minutesAgo;
+
+    private LocalDateTime updateTime;
+
+    @Setup
+    public void setUp(){
+        updateTime = LocalDateTime.now().minusMinutes(minutesAgo);
+    }
+
+    @Benchmark
+    public String timeDuration(){
+        return TimeUtils.timeDuration(updateTime);
+    }
+
+    @Benchmark
+    public LocalDateTime convertToKST(){
+        return TimeUtils.convertToKST(updateTime);
+    }
+}
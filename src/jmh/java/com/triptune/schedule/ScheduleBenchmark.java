@@ -0,0 +1,91 @@
+package com.triptune.schedule;
+
+import com.triptune.member.dto.response.MemberProfileResponse;
+import com.triptune.schedule.dto.AuthorDTO;
+import com.triptune.schedule.dto.response.ChatResponse;
+import com.triptune.schedule.dto.response.ScheduleInfoResponse;
+import com.triptune.schedule.entity.ChatMessage;
+import com.triptune.schedule.entity.TravelSchedule;
+import com.triptune.schedule.enumclass.AttendeeRole;
+import com.triptune.schedule.service.ChatService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.BeanUtils;
+
+import java.lang.reflect.Constructor;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정, 채팅 조회 경로의 DTO 변환
+ * - 채팅 페이지 변환 (ChatService.convertChatResponse, 저장소 접근 없음)
+ * - 일정 목록 항목 변환 (ScheduleInfoResponse.from)
+ * 실행 : ./gradlew jmh -Pjmh.includes=ScheduleBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ScheduleBenchmark {
+
+    @Param({"30", "100"})
+    private int chatSize;
+
+    @Param({"5"})
+    private int memberSize;
+
+    private ChatService chatService;
+    private List<ChatMessage> chatMessages;
+    private Map<Long, MemberProfileResponse> memberProfileMap;
+
+    private TravelSchedule schedule;
+    private AuthorDTO author;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp(){
+        // convertChatResponse 는 의존성을 사용하지 않으므로 빈 없이 생성
+        Constructor<ChatService> constructor = (Constructor<ChatService>) ChatService.class.getDeclaredConstructors()[0];
+        chatService = BeanUtils.instantiateClass(constructor, new Object[constructor.getParameterCount()]);
+
+        memberProfileMap = new HashMap<>();
+        for (long memberId = 1; memberId <= memberSize; memberId++){
+            memberProfileMap.put(memberId, MemberProfileResponse.of(memberId, "member" + memberId, "/test/profile" + memberId + ".jpg"));
+        }
+
+        chatMessages = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < chatSize; i++){
+            chatMessages.add(ChatMessage.builder()
+                    .messageId("message" + i)
+                    .scheduleId(1L)
+                    .memberId((long) (i % memberSize) + 1)
+                    .message("테스트 메시지 " + i)
+                    .timestamp(now.minusMinutes(chatSize - i))
+                    .build());
+        }
+
+        schedule = TravelSchedule.builder()
+                .scheduleId(1L)
+                .scheduleName("테스트 일정")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(3))
+                .createdAt(now.minusDays(3))
+                .updatedAt(now.minusHours(5))
+                .build();
+        author = AuthorDTO.of("member1", "/test/profile1.jpg");
+    }
+
+    @Benchmark
+    public List<ChatResponse> convertChatResponse(){
+        return chatService.convertChatResponse(chatMessages, memberProfileMap);
+    }
+
+    @Benchmark
+    public ScheduleInfoResponse scheduleInfoResponse(){
+        return ScheduleInfoResponse.from(schedule, AttendeeRole.AUTHOR, "/test/thumbnail.jpg", author);
+    }
+}
@@ -0,0 +1,115 @@
+package com.triptune.travel;
+
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPQLSerializer;
+import com.querydsl.jpa.JPQLTemplates;
+import com.triptune.common.entity.ApiContentType;
+import com.triptune.common.entity.City;
+import com.triptune.common.entity.Country;
+import com.triptune.common.entity.District;
+import com.triptune.travel.dto.response.PlaceDetailResponse;
+import com.triptune.travel.entity.TravelImage;
+import com.triptune.travel.entity.TravelPlace;
+import com.triptune.travel.enumclass.CityType;
+import com.triptune.travel.enumclass.ThemeType;
+import com.triptune.travel.repository.TravelPlaceRepositoryCustomImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여행지 조회 경로의 CPU 작업
+ * - 지역, 테마 파라미터 변환 (CityType.from, ThemeType.from)
+ * - 거리 계산식 생성 (거리 계산은 DB 에서 하므로 QueryDSL 식 생성 + JPQL 직렬화 비용)
+ * - 여행지 상세 DTO 변환
+ * 실행 : ./gradlew jmh -Pjmh.includes=TravelBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TravelBenchmark {
+
+    @Param({"all", "chungcheong"})
+    private String cityType;
+
+    @Param({"all", "food"})
+    private String themeType;
+
+    private TravelPlace travelPlace;
+    private TravelPlaceRepositoryCustomImpl travelPlaceRepository;
+    private Method harversineFormula;
+
+    @Setup
+    public void setUp(){
+        Country country = Country.builder().countryName("대한민국").build();
+        City city = City.builder().cityName("서울").country(country).build();
+        District district = District.builder().districtName("강남구").city(city).build();
+        ApiContentType apiContentType = ApiContentType.builder()
+                .contentTypeName(ThemeType.ATTRACTIONS.getApiContentTypeName())
+                .apiContentTypeId(ThemeType.ATTRACTIONS.getApiContentTypeId())
+                .build();
+
+        List<TravelImage> travelImages = new ArrayList<>();
+        travelPlace = TravelPlace.builder()
+                .placeId(1L)
+                .country(country)
+                .city(city)
+                .district(district)
+                .apiContentType(apiContentType)
+                .address("테스트 주소")
+                .detailAddress("테스트 상세주소")
+                .homepage("www.test.com")
+                .phoneNumber("010-0000-0000")
+                .latitude(37.5)
+                .longitude(127.0281573537)
+                .placeName("테스트 장소명")
+                .createdAt(LocalDateTime.now())
+                .description("테스트 장소 설명")
+                .travelImageList(travelImages)
+                .build();
+
+        for (int i = 0; i < 10; i++){
+            travelImages.add(TravelImage.builder()
+                    .travelImageId((long) i)
+                    .travelPlace(travelPlace)
+                    .s3ObjectUrl("/test/image" + i + ".jpg")
+                    .fileName("image" + i + ".jpg")
+                    .isThumbnail(i == 0)
+                    .build());
+        }
+
+        travelPlaceRepository = new TravelPlaceRepositoryCustomImpl(null);
+        harversineFormula = ReflectionUtils.findMethod(TravelPlaceRepositoryCustomImpl.class, "getHarversineFormula", double.class, double.class);
+        ReflectionUtils.makeAccessible(harversineFormula);
+    }
+
+    @Benchmark
+    public CityType cityTypeFrom(){
+        return CityType.from(cityType);
+    }
+
+    @Benchmark
+    public ThemeType themeTypeFrom(){
+        return ThemeType.from(themeType);
+    }
+
+    @Benchmark
+    public PlaceDetailResponse placeDetailResponse(){
+        return PlaceDetailResponse.from(travelPlace, true);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public String harversineFormula(){
+        NumberExpression<Double> expression = (NumberExpression<Double>) ReflectionUtils.invokeMethod(harversineFormula, travelPlaceRepository, 37.4970465429, 127.0281573537);
+
+        JPQLSerializer serializer = new JPQLSerializer(JPQLTemplates.DEFAULT);
+        serializer.handle(expression);
+        return serializer.toString();
+    }
+}
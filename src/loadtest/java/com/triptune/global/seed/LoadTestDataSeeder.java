@@ -0,0 +1,478 @@
+package com.triptune.global.seed;
+
+import com.triptune.schedule.entity.ChatMessage;
+import com.triptune.schedule.enumclass.AttendeePermission;
+import com.triptune.schedule.enumclass.AttendeeRole;
+import com.triptune.travel.enumclass.CityType;
+import com.triptune.travel.enumclass.ThemeType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * 부하 테스트용 합성 데이터 생성 (seed 프로필에서만 동작, 배포 jar 에 포함되지 않도록 loadtest source set 에 위치)
+ * 실행 : ./gradlew seedLoadTestData -Pseed.profiles=local -Papp.loadtest.seed.password=비밀번호
+ * - 여행지 + 썸네일, 회원 + 프로필 이미지, 북마크
+ * - 회원별 일정 (여행 루트, 작성자 + 게스트)과 채팅 이력
+ * - 채팅 fan-out 시나리오용 단체 채팅 일정 (일정명 loadtest-chat-n)
+ * 회원 아이디는 loadtest1 ~ loadtestN, 이미 생성되어 있으면 건너뛴다.
+ * MySQL 에서는 JDBC URL 에 rewriteBatchedStatements=true 를 추가해야 배치 insert 가 묶여서 전송된다.
+ */
+@Slf4j
+@Component
+@Profile("seed")
+@RequiredArgsConstructor
+public class LoadTestDataSeeder implements ApplicationRunner {
+
+    public static final String USER_ID_PREFIX = "loadtest";
+    public static final String CHAT_ROOM_PREFIX = "loadtest-chat-";
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int DISTRICTS_PER_CITY = 5;
+    private static final String[] PLACE_KEYWORDS = {"해변", "공원", "시장", "박물관", "카페", "사찰", "전망대", "숲길", "미술관", "야시장"};
+    private static final AttendeePermission[] GUEST_PERMISSIONS = {AttendeePermission.ALL, AttendeePermission.CHAT, AttendeePermission.EDIT, AttendeePermission.READ};
+
+    // 국내 위경도 범위
+    private static final double MIN_LATITUDE = 33.1;
+    private static final double MAX_LATITUDE = 38.6;
+    private static final double MIN_LONGITUDE = 124.6;
+    private static final double MAX_LONGITUDE = 131.9;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MongoTemplate mongoTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${app.loadtest.seed.places:1000000}")
+    private int placeCount;
+
+    @Value("${app.loadtest.seed.members:2000}")
+    private int memberCount;
+
+    // 기본값 없이 실행 시 지정
+    @Value("${app.loadtest.seed.password}")
+    private String password;
+
+    @Value("${app.loadtest.seed.schedules-per-member:10}")
+    private int schedulesPerMember;
+
+    @Value("${app.loadtest.seed.routes-per-schedule:5}")
+    private int routesPerSchedule;
+
+    @Value("${app.loadtest.seed.guests-per-schedule:2}")
+    private int guestsPerSchedule;
+
+    @Value("${app.loadtest.seed.chats-per-schedule:20}")
+    private int chatsPerSchedule;
+
+    @Value("${app.loadtest.seed.bookmarks-per-member:10}")
+    private int bookmarksPerMember;
+
+    @Value("${app.loadtest.seed.chat-room-size:20}")
+    private int chatRoomSize;
+
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer seeded = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM member WHERE user_id = ?", Integer.class, USER_ID_PREFIX + 1);
+
+        if (seeded != null && seeded > 0){
+            log.info("부하 테스트 데이터가 이미 존재하여 생성을 건너뜁니다.");
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+
+        List<long[]> districts = seedRegions();
+        List<Long> contentTypeIds = seedContentTypes();
+        long[] placeIds = seedTravelPlaces(districts, contentTypeIds);
+        long[] memberIds = seedMembers();
+        seedBookmarks(memberIds, placeIds);
+        seedSchedules(memberIds, placeIds);
+        seedChatRooms(memberIds);
+
+        log.info("부하 테스트 데이터 생성 완료 ({}ms) : 여행지 {}건, 회원 {}명", System.currentTimeMillis() - start, placeIds.length, memberIds.length);
+    }
+
+
+    /**
+     * 국가, 도시, 지역 생성
+     * @return [countryId, cityId, districtId] 목록
+     */
+    private List<long[]> seedRegions(){
+        long countryId = findOrInsert("SELECT country_id FROM country WHERE country_name = ?",
+                "INSERT INTO country (country_name) VALUES (?)", "대한민국");
+
+        List<long[]> districts = new ArrayList<>();
+
+        for (CityType cityType : CityType.values()){
+            if (cityType == CityType.ALL) continue;
+
+            for (String cityName : cityType.getDbCityGrouping()){
+                long cityId = findOrInsert("SELECT city_id FROM city WHERE city_name = ?",
+                        "INSERT INTO city (city_name, country_id) VALUES (?, " + countryId + ")", cityName);
+
+                for (int i = 1; i <= DISTRICTS_PER_CITY; i++){
+                    long districtId = findOrInsert("SELECT district_id FROM district WHERE district_name = ?",
+                            "INSERT INTO district (district_name, city_id) VALUES (?, " + cityId + ")", cityName + " " + i + "구");
+
+                    districts.add(new long[]{countryId, cityId, districtId});
+                }
+            }
+        }
+
+        return districts;
+    }
+
+    private List<Long> seedContentTypes(){
+        List<Long> contentTypeIds = new ArrayList<>();
+
+        for (ThemeType themeType : ThemeType.values()){
+            if (themeType == ThemeType.All) continue;
+
+            List<Long> ids = jdbcTemplate.queryForList("SELECT content_type_id FROM api_content_type WHERE api_content_type_id = ?", Long.class, themeType.getApiContentTypeId());
+
+            if (ids.isEmpty()){
+                ids = insertReturningKeys("INSERT INTO api_content_type (content_type_name, api_content_type_id) VALUES (?, ?)",
+                        List.of(themeType), (ps, type) -> {
+                            ps.setString(1, type.getApiContentTypeName());
+                            ps.setInt(2, type.getApiContentTypeId());
+                        });
+            }
+
+            contentTypeIds.add(ids.get(0));
+        }
+
+        return contentTypeIds;
+    }
+
+    private long[] seedTravelPlaces(List<long[]> districts, List<Long> contentTypeIds){
+        long[] placeIds = new long[placeCount];
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int from = 0; from < placeCount; from += BATCH_SIZE){
+            List<Integer> indexes = range(from, Math.min(from + BATCH_SIZE, placeCount));
+
+            List<Long> ids = insertReturningKeys("INSERT INTO travel_place (country_id, city_id, district_id, content_type_id, place_name, address, detail_address, use_time, homepage, phone_number, " +
+                            "longitude, latitude, description, bookmark_cnt, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                    indexes, (ps, index) -> {
+                        ThreadLocalRandom random = ThreadLocalRandom.current();
+                        long[] district = districts.get(index % districts.size());
+                        String keyword = PLACE_KEYWORDS[index % PLACE_KEYWORDS.length];
+
+                        ps.setLong(1, district[0]);
+                        ps.setLong(2, district[1]);
+                        ps.setLong(3, district[2]);
+                        ps.setLong(4, contentTypeIds.get(index % contentTypeIds.size()));
+                        ps.setString(5, "테스트 " + keyword + " " + index);
+                        ps.setString(6, "테스트 주소 " + index);
+                        ps.setString(7, "테스트 상세주소");
+                        ps.setString(8, "09:00 ~ 18:00");
+                        ps.setString(9, "www.triptune.test");
+                        ps.setString(10, "010-0000-0000");
+                        ps.setDouble(11, random.nextDouble(MIN_LONGITUDE, MAX_LONGITUDE));
+                        ps.setDouble(12, random.nextDouble(MIN_LATITUDE, MAX_LATITUDE));
+                        ps.setString(13, "부하 테스트용 " + keyword + " 설명");
+                        ps.setInt(14, random.nextInt(100));
+                        ps.setTimestamp(15, Timestamp.valueOf(now));
+                        ps.setTimestamp(16, Timestamp.valueOf(now));
+                    });
+
+            for (int i = 0; i < ids.size(); i++){
+                placeIds[from + i] = ids.get(i);
+            }
+
+            jdbcTemplate.batchUpdate("INSERT INTO travel_image (place_id, s3_object_url, original_name, file_name, file_type, file_size, created_at, is_thumbnail) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                    ids, BATCH_SIZE, (ps, placeId) -> {
+                        ps.setLong(1, placeId);
+                        ps.setString(2, "/loadtest/place/" + placeId + ".jpg");
+                        ps.setString(3, placeId + ".jpg");
+                        ps.setString(4, placeId + ".jpg");
+                        ps.setString(5, "jpg");
+                        ps.setDouble(6, 20);
+                        ps.setTimestamp(7, Timestamp.valueOf(now));
+                        ps.setBoolean(8, true);
+                    });
+
+            logProgress("여행지", from + ids.size(), placeCount);
+        }
+
+        return placeIds;
+    }
+
+    private long[] seedMembers(){
+        // BCrypt 는 느리므로 한 번만 인코딩해 모든 회원이 같은 해시를 사용
+        String encodedPassword = passwordEncoder.encode(password);
+        long[] memberIds = new long[memberCount];
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int from = 0; from < memberCount; from += BATCH_SIZE){
+            List<Integer> indexes = range(from, Math.min(from + BATCH_SIZE, memberCount));
+
+            List<Long> profileImageIds = insertReturningKeys("INSERT INTO profile_image (s3_object_url, s3_file_key, original_name, file_name, file_type, file_size, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    indexes, (ps, index) -> {
+                        ps.setString(1, "/loadtest/profile/" + index + ".png");
+                        ps.setString(2, "loadtest/profile/" + index + ".png");
+                        ps.setString(3, index + ".png");
+                        ps.setString(4, index + ".png");
+                        ps.setString(5, "png");
+                        ps.setDouble(6, 20);
+                        ps.setTimestamp(7, Timestamp.valueOf(now));
+                    });
+
+            List<Long> ids = insertReturningKeys("INSERT INTO member (profile_image_id, user_id, nickname, email, password, is_social_login, is_active, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                    indexes, (ps, index) -> {
+                        int number = index + 1;
+
+                        ps.setLong(1, profileImageIds.get(index % BATCH_SIZE));
+                        ps.setString(2, USER_ID_PREFIX + number);
+                        ps.setString(3, USER_ID_PREFIX + number);
+                        ps.setString(4, USER_ID_PREFIX + number + "@triptune.test");
+                        ps.setString(5, encodedPassword);
+                        ps.setBoolean(6, false);
+                        ps.setBoolean(7, true);
+                        ps.setTimestamp(8, Timestamp.valueOf(now));
+                    });
+
+            for (int i = 0; i < ids.size(); i++){
+                memberIds[from + i] = ids.get(i);
+            }
+        }
+
+        log.info("회원 {}명 생성", memberCount);
+        return memberIds;
+    }
+
+    private void seedBookmarks(long[] memberIds, long[] placeIds){
+        List<long[]> bookmarks = new ArrayList<>();
+
+        for (long memberId : memberIds){
+            Set<Long> bookmarkedPlaceIds = new HashSet<>();
+
+            while (bookmarkedPlaceIds.size() < Math.min(bookmarksPerMember, placeIds.length)){
+                bookmarkedPlaceIds.add(randomOf(placeIds));
+            }
+
+            bookmarkedPlaceIds.forEach(placeId -> bookmarks.add(new long[]{memberId, placeId}));
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("INSERT INTO bookmark (member_id, place_id, created_at) VALUES (?, ?, ?)",
+                bookmarks, BATCH_SIZE, (ps, bookmark) -> {
+                    ps.setLong(1, bookmark[0]);
+                    ps.setLong(2, bookmark[1]);
+                    ps.setTimestamp(3, now);
+                });
+
+        log.info("북마크 {}건 생성", bookmarks.size());
+    }
+
+    /**
+     * 회원마다 일정 생성, 다음 순번의 회원들을 게스트로 추가
+     */
+    private void seedSchedules(long[] memberIds, long[] placeIds){
+        int total = memberIds.length * schedulesPerMember;
+
+        for (int from = 0; from < total; from += BATCH_SIZE){
+            List<Integer> indexes = range(from, Math.min(from + BATCH_SIZE, total));
+            List<Long> scheduleIds = insertSchedules(indexes, index -> "테스트 일정 " + index);
+
+            List<Object[]> attendees = new ArrayList<>();
+            List<long[]> routes = new ArrayList<>();
+
+            for (int i = 0; i < scheduleIds.size(); i++){
+                long scheduleId = scheduleIds.get(i);
+                int authorIndex = indexes.get(i) / schedulesPerMember;
+
+                attendees.add(new Object[]{scheduleId, memberIds[authorIndex], AttendeeRole.AUTHOR, AttendeePermission.ALL});
+
+                for (int guest = 1; guest <= guestsPerSchedule && guest < memberIds.length; guest++){
+                    long guestId = memberIds[(authorIndex + guest) % memberIds.length];
+                    attendees.add(new Object[]{scheduleId, guestId, AttendeeRole.GUEST, GUEST_PERMISSIONS[(guest - 1) % GUEST_PERMISSIONS.length]});
+                }
+
+                for (int order = 1; order <= routesPerSchedule; order++){
+                    routes.add(new long[]{scheduleId, randomOf(placeIds), order});
+                }
+            }
+
+            insertAttendees(attendees);
+
+            jdbcTemplate.batchUpdate("INSERT INTO travel_route (schedule_id, place_id, route_order) VALUES (?, ?, ?)",
+                    routes, BATCH_SIZE, (ps, route) -> {
+                        ps.setLong(1, route[0]);
+                        ps.setLong(2, route[1]);
+                        ps.setInt(3, (int) route[2]);
+                    });
+
+            insertChatMessages(scheduleIds, attendees, chatsPerSchedule);
+            logProgress("일정", from + scheduleIds.size(), total);
+        }
+    }
+
+    /**
+     * chat-room-size 명씩 묶어 한 일정에 참석시켜 채팅 fan-out 대상 생성
+     */
+    private void seedChatRooms(long[] memberIds){
+        if (chatRoomSize <= 1) return;
+
+        int roomCount = memberIds.length / chatRoomSize;
+        List<Long> scheduleIds = insertSchedules(range(0, roomCount), index -> CHAT_ROOM_PREFIX + index);
+
+        List<Object[]> attendees = new ArrayList<>();
+
+        for (int room = 0; room < roomCount; room++){
+            for (int seat = 0; seat < chatRoomSize; seat++){
+                long memberId = memberIds[room * chatRoomSize + seat];
+
+                attendees.add(seat == 0
+                        ? new Object[]{scheduleIds.get(room), memberId, AttendeeRole.AUTHOR, AttendeePermission.ALL}
+                        : new Object[]{scheduleIds.get(room), memberId, AttendeeRole.GUEST, AttendeePermission.CHAT});
+            }
+        }
+
+        insertAttendees(attendees);
+        insertChatMessages(scheduleIds, attendees, chatsPerSchedule);
+
+        log.info("채팅방 일정 {}건 생성 ({}명씩)", roomCount, chatRoomSize);
+    }
+
+    private List<Long> insertSchedules(List<Integer> indexes, IntFunction<String> scheduleName){
+        LocalDateTime now = LocalDateTime.now();
+
+        return insertReturningKeys("INSERT INTO travel_schedule (schedule_name, start_date, end_date, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                indexes, (ps, index) -> {
+                    LocalDate startDate = LocalDate.now().plusDays(index % 60);
+                    LocalDateTime updatedAt = now.minusMinutes(index % 100000);
+
+                    ps.setString(1, scheduleName.apply(index));
+                    ps.setDate(2, Date.valueOf(startDate));
+                    ps.setDate(3, Date.valueOf(startDate.plusDays(3)));
+                    ps.setTimestamp(4, Timestamp.valueOf(updatedAt));
+                    ps.setTimestamp(5, Timestamp.valueOf(updatedAt));
+                });
+    }
+
+    private void insertAttendees(List<Object[]> attendees){
+        jdbcTemplate.batchUpdate("INSERT INTO travel_attendee (schedule_id, member_id, role, permission) VALUES (?, ?, ?, ?)",
+                attendees, BATCH_SIZE, (ps, attendee) -> {
+                    ps.setLong(1, (Long) attendee[0]);
+                    ps.setLong(2, (Long) attendee[1]);
+                    ps.setString(3, ((AttendeeRole) attendee[2]).name());
+                    ps.setString(4, ((AttendeePermission) attendee[3]).name());
+                });
+    }
+
+    /**
+     * 일정의 참석자들이 번갈아 보낸 채팅 이력 생성
+     */
+    private void insertChatMessages(List<Long> scheduleIds, List<Object[]> attendees, int chatCount){
+        if (chatCount <= 0) return;
+
+        Map<Long, List<Long>> attendeeMap = new HashMap<>();
+        attendees.forEach(attendee -> attendeeMap.computeIfAbsent((Long) attendee[0], key -> new ArrayList<>()).add((Long) attendee[1]));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ChatMessage> chatMessages = new ArrayList<>(BATCH_SIZE);
+
+        for (Long scheduleId : scheduleIds){
+            List<Long> memberIds = attendeeMap.get(scheduleId);
+
+            for (int i = 0; i < chatCount; i++){
+                chatMessages.add(ChatMessage.builder()
+                        .scheduleId(scheduleId)
+                        .memberId(memberIds.get(i % memberIds.size()))
+                        .message("테스트 메시지 " + i)
+                        .timestamp(now.minusMinutes(chatCount - i))
+                        .build());
+
+                if (chatMessages.size() == BATCH_SIZE){
+                    flushChatMessages(chatMessages);
+                }
+            }
+        }
+
+        flushChatMessages(chatMessages);
+    }
+
+    private void flushChatMessages(List<ChatMessage> chatMessages){
+        if (chatMessages.isEmpty()) return;
+
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatMessage.class)
+                .insert(chatMessages)
+                .execute();
+
+        chatMessages.clear();
+    }
+
+    private long findOrInsert(String selectSql, String insertSql, String name){
+        List<Long> ids = jdbcTemplate.queryForList(selectSql, Long.class, name);
+
+        if (!ids.isEmpty()){
+            return ids.get(0);
+        }
+
+        return insertReturningKeys(insertSql, List.of(name), (ps, value) -> ps.setString(1, value)).get(0);
+    }
+
+    /**
+     * 배치 insert 후 생성된 키를 입력 순서대로 반환
+     */
+    private <T> List<Long> insertReturningKeys(String sql, List<T> items, ParameterizedPreparedStatementSetter<T> setter){
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            List<Long> keys = new ArrayList<>(items.size());
+
+            try (PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (T item : items){
+                    setter.setValues(ps, item);
+                    ps.addBatch();
+                }
+
+                ps.executeBatch();
+
+                try (ResultSet rs = ps.getGeneratedKeys()) {
+                    while (rs.next()){
+                        keys.add(rs.getLong(1));
+                    }
+                }
+            }
+
+            return keys;
+        });
+    }
+
+    private List<Integer> range(int from, int to){
+        return IntStream.range(from, to).boxed().toList();
+    }
+
+    private long randomOf(long[] ids){
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+
+    private void logProgress(String target, int current, int total){
+        if (current % (BATCH_SIZE * 50) == 0 || current == total){
+            log.info("{} {}/{} 생성", target, current, total);
+        }
+    }
+}
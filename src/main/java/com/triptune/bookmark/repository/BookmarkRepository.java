@@ -2,12 +2,25 @@ package com.triptune.bookmark.repository;
 
 import com.triptune.bookmark.entity.Bookmark;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface BookmarkRepository extends JpaRepository<Bookmark, Long>, BookmarkRepositoryCustom {
     boolean existsByMember_UserIdAndTravelPlace_PlaceId(@Param("userId") String userId, @Param("placeId") Long placeId);
+
+    @Query("SELECT b.travelPlace.placeId FROM Bookmark b WHERE b.member.userId = :userId AND b.travelPlace.placeId IN :placeIds")
+    List<Long> findBookmarkedPlaceIds(@Param("userId") String userId, @Param("placeIds") Collection<Long> placeIds);
+
     void deleteByMember_UserIdAndTravelPlace_PlaceId(@Param("userId") String userId, @Param("placeId") Long placeId);
     void deleteAllByMember_UserId(@Param("userId") String userId);
+
+    @Modifying
+    @Query("DELETE FROM Bookmark b WHERE b.member.memberId = :memberId")
+    int deleteAllByMemberId(@Param("memberId") Long memberId);
 }
@@ -11,11 +11,11 @@ import com.triptune.travel.repository.TravelPlaceRepository;
 import com.triptune.global.enumclass.ErrorCode;
 import com.triptune.global.exception.DataExistException;
 import com.triptune.global.exception.DataNotFoundException;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Transactional
@@ -66,6 +66,7 @@ public class BookmarkService {
         return bookmarkRepository.existsByMember_UserIdAndTravelPlace_PlaceId(userId, placeId);
     }
 
+    @Transactional(readOnly = true)
     public Page<TravelPlace> getBookmarkTravelPlaces(String userId, Pageable pageable, BookmarkSortType sortType) {
         return bookmarkRepository.findBookmarksByUserId(userId, pageable, sortType);
     }
@@ -7,9 +7,10 @@ import com.triptune.email.exception.EmailVerifyException;
 import com.triptune.email.service.EmailService;
 import com.triptune.global.enumclass.ErrorCode;
 import com.triptune.global.response.ApiResponse;
+import com.triptune.global.util.ClientIpResolver;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.mail.MessagingException;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,12 +28,13 @@ public class EmailController {
 
     private final MemberService memberService;
     private final EmailService emailService;
+    private final ClientIpResolver clientIpResolver;
 
     @PostMapping("/verify-request")
     @Operation(summary = "이메일 인증 요청", description = "이메일 인증을 요청합니다.")
-    public ApiResponse<?> verifyRequest(@Valid @RequestBody EmailRequest emailRequest) throws MessagingException {
+    public ApiResponse<?> verifyRequest(@Valid @RequestBody EmailRequest emailRequest, HttpServletRequest request) {
         memberService.checkDuplicateEmail(emailRequest.getEmail());
-        emailService.sendCertificationEmail(emailRequest.getEmail());
+        emailService.sendCertificationEmail(emailRequest.getEmail(), clientIpResolver.resolve(request));
 
         return ApiResponse.okResponse();
     }
@@ -0,0 +1,18 @@
+package com.triptune.email.exception;
+
+import com.triptune.global.enumclass.ErrorCode;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+
+@Getter
+public class EmailRateLimitException extends RuntimeException{
+    private final HttpStatus httpStatus;
+    private final long retryAfterSeconds;
+
+    public EmailRateLimitException(ErrorCode errorCode, long retryAfterSeconds){
+        super(errorCode.getMessage());
+        this.httpStatus = errorCode.getStatus();
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
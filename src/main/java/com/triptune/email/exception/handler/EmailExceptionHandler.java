@@ -1,9 +1,12 @@
 package com.triptune.email.exception.handler;
 
+import com.triptune.email.exception.EmailRateLimitException;
 import com.triptune.email.exception.EmailVerifyException;
 import com.triptune.global.response.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -24,4 +27,17 @@ public class EmailExceptionHandler {
                 .build();
 
     }
+
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public ErrorResponse handleEmailRateLimitExceptionHandler(EmailRateLimitException ex, HttpServletRequest request, HttpServletResponse response){
+        log.error("EmailRateLimitException at {}: {}", request.getRequestURI(), ex.getMessage());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+
+        return ErrorResponse.builder()
+                .errorCode(ex.getHttpStatus().value())
+                .message(ex.getMessage())
+                .build();
+
+    }
 }
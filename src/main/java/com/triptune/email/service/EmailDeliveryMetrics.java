@@ -0,0 +1,35 @@
+package com.triptune.email.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Getter
+@Component
+public class EmailDeliveryMetrics implements MeterBinder {
+
+    private static final String METRIC_NAME = "triptune.email.delivery";
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bind(registry, "enqueued", enqueued);
+        bind(registry, "sent", sent);
+        bind(registry, "retried", retried);
+        bind(registry, "dead_lettered", deadLettered);
+    }
+
+    private void bind(MeterRegistry registry, String result, AtomicLong counter){
+        FunctionCounter.builder(METRIC_NAME, counter, AtomicLong::get)
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,302 @@
+package com.triptune.email.service;
+
+import com.triptune.email.dto.EmailTemplateRequest;
+import com.triptune.global.config.RedisConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Redis stream 에 저장된 이메일을 consumer group 으로 읽어 발송한다.
+ * 종료되거나 교체된 노드의 consumer 가 읽고 처리하지 못한 이메일은 일정 시간이 지나면 다른 consumer 가 가져와 발송한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailDeliveryWorker {
+
+    public static final String CONSUMER_GROUP = "email-delivery";
+    public static final long DEFAULT_BLOCK_MILLIS = 500;
+
+    private final StringRedisTemplate redisTemplate;
+    private final JavaMailSender javaMailSender;
+    private final EmailTemplateRenderer emailTemplateRenderer;
+    private final EmailOutboxService emailOutboxService;
+    private final EmailDeliveryMetrics emailDeliveryMetrics;
+
+    @Value("${app.backend.email.queue.workers:2}")
+    private int workers;
+
+    @Value("${app.backend.email.queue.batch-size:10}")
+    private int batchSize;
+
+    @Value("${app.backend.email.queue.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.backend.email.queue.block-millis:" + DEFAULT_BLOCK_MILLIS + "}")
+    private long blockMillis;
+
+    // 발송 중인 이메일을 가져가지 않도록 SMTP 발송 시간보다 충분히 길게 설정
+    @Value("${app.backend.email.queue.claim-idle-millis:300000}")
+    private long claimIdleMillis;
+
+    @Value("${app.backend.email.queue.claim-interval-millis:60000}")
+    private long claimIntervalMillis;
+
+    @Value("${" + RedisConfig.COMMAND_TIMEOUT_PROPERTY + ":" + RedisConfig.DEFAULT_COMMAND_TIMEOUT_MILLIS + "}")
+    private long commandTimeoutMillis;
+
+    private final List<Thread> workerThreads = new ArrayList<>();
+    private volatile boolean running;
+
+
+    @PostConstruct
+    public void start(){
+        validateBlockMillis();
+        createConsumerGroup();
+        running = true;
+
+        String hostName = getHostName();
+
+        for (int i = 0; i < workers; i++){
+            String consumerName = hostName + "-" + i;
+
+            Thread thread = new Thread(() -> run(consumerName), "email-delivery-" + i);
+            thread.setDaemon(true);
+            thread.start();
+
+            workerThreads.add(thread);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 발송 중인 이메일이 끊기지 않도록 interrupt 없이 종료 대기, 남은 이메일은 stream 에 남아 재시작 시 발송
+        running = false;
+
+        for (Thread thread : workerThreads){
+            thread.join(blockMillis + 5000);
+        }
+    }
+
+
+    private void run(String consumerName){
+        Consumer consumer = Consumer.from(CONSUMER_GROUP, consumerName);
+
+        // 재시작 전 읽고 처리하지 못한 이메일부터 발송
+        boolean hasPending = true;
+        long nextClaimAt = 0;
+
+        while (running){
+            try {
+                emailOutboxService.moveDueRetries(batchSize);
+
+                if (System.currentTimeMillis() >= nextClaimAt){
+                    nextClaimAt = System.currentTimeMillis() + claimIntervalMillis;
+                    List<MapRecord<String, Object, Object>> claimed = claimIdlePending(consumerName);
+
+                    if (!claimed.isEmpty()){
+                        deliver(claimed);
+                        continue;
+                    }
+                }
+
+                ReadOffset offset = hasPending ? ReadOffset.from("0") : ReadOffset.lastConsumed();
+                StreamReadOptions options = hasPending
+                        ? StreamReadOptions.empty().count(batchSize)
+                        : StreamReadOptions.empty().count(batchSize).block(Duration.ofMillis(blockMillis));
+
+                List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                        .read(consumer, options, StreamOffset.create(EmailOutboxService.OUTBOX_KEY, offset));
+
+                if (records == null || records.isEmpty()){
+                    hasPending = false;
+                    continue;
+                }
+
+                deliver(records);
+            } catch (DataAccessException e) {
+                log.error("이메일 발송 대기열 조회 실패: {}", e.getMessage());
+                hasPending = true;
+                sleepQuietly(blockMillis);
+            } catch (RuntimeException e) {
+                // 예외로 worker 스레드가 종료되지 않도록 처리하지 못한 이메일은 pending 목록에서 다시 읽어 재시도
+                log.error("이메일 발송 처리 실패", e);
+                hasPending = true;
+                sleepQuietly(blockMillis);
+            }
+        }
+    }
+
+    /**
+     * 다른 consumer 의 pending 목록에서 claimIdleMillis 이상 처리되지 않은 이메일을 가져온다.
+     * XCLAIM 의 최소 대기 시간 조건으로 여러 consumer 가 같은 이메일을 동시에 가져가지 않는다.
+     */
+    List<MapRecord<String, Object, Object>> claimIdlePending(String consumerName){
+        PendingMessages pendingMessages = redisTemplate.opsForStream()
+                .pending(EmailOutboxService.OUTBOX_KEY, CONSUMER_GROUP, Range.unbounded(), batchSize);
+
+        if (pendingMessages == null || pendingMessages.isEmpty()){
+            return List.of();
+        }
+
+        RecordId[] idleRecordIds = pendingMessages.stream()
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().toMillis() >= claimIdleMillis)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+
+        if (idleRecordIds.length == 0){
+            return List.of();
+        }
+
+        List<MapRecord<String, Object, Object>> claimed = redisTemplate.opsForStream()
+                .claim(EmailOutboxService.OUTBOX_KEY, CONSUMER_GROUP, consumerName, Duration.ofMillis(claimIdleMillis), idleRecordIds);
+
+        if (claimed != null && !claimed.isEmpty()){
+            log.warn("처리되지 않은 이메일 {}건을 {} 에서 발송", claimed.size(), consumerName);
+        }
+
+        return claimed == null ? List.of() : claimed;
+    }
+
+    /**
+     * 조회한 이메일을 하나의 SMTP 연결로 발송하고, 실패한 이메일은 재시도 또는 실패 처리한다.
+     */
+    void deliver(List<MapRecord<String, Object, Object>> records){
+        List<EmailTemplateRequest> templateRequests = new ArrayList<>();
+        List<Integer> attempts = new ArrayList<>();
+        List<MimeMessage> messages = new ArrayList<>();
+
+        for (MapRecord<String, Object, Object> record : records){
+            Map<Object, Object> fields = record.getValue();
+            EmailTemplateRequest templateRequest;
+
+            try {
+                templateRequest = emailOutboxService.toTemplateRequest(fields);
+            } catch (IllegalStateException e) {
+                log.error("잘못된 이메일 데이터 : {}", record.getId());
+                continue;
+            }
+
+            int attempt = emailOutboxService.getAttempt(fields) + 1;
+
+            try {
+                messages.add(emailTemplateRenderer.createEmailTemplate(templateRequest));
+                templateRequests.add(templateRequest);
+                attempts.add(attempt);
+            } catch (MessagingException e) {
+                // 템플릿 생성 실패는 재시도해도 동일하므로 바로 실패 처리
+                log.error("이메일 템플릿 생성 실패: {}", e.getMessage());
+                emailOutboxService.deadLetter(templateRequest, attempt);
+            }
+        }
+
+        Map<Object, Exception> failedMessages = Map.of();
+
+        try {
+            if (!messages.isEmpty()){
+                javaMailSender.send(messages.toArray(new MimeMessage[0]));
+            }
+        } catch (MailSendException e) {
+            failedMessages = e.getFailedMessages();
+
+            if (failedMessages.isEmpty()){
+                failedMessages = toFailedMessages(messages, e);
+            }
+        } catch (MailException e) {
+            log.error("이메일 발송 실패: {}", e.getMessage());
+            failedMessages = toFailedMessages(messages, e);
+        }
+
+        for (int i = 0; i < messages.size(); i++){
+            if (failedMessages.containsKey(messages.get(i))){
+                retryOrDeadLetter(templateRequests.get(i), attempts.get(i));
+            } else {
+                emailDeliveryMetrics.getSent().incrementAndGet();
+                log.info("이메일 전송 완료 : {}", templateRequests.get(i).recipientEmail());
+            }
+        }
+
+        RecordId[] recordIds = records.stream().map(MapRecord::getId).toArray(RecordId[]::new);
+        redisTemplate.opsForStream().acknowledge(EmailOutboxService.OUTBOX_KEY, CONSUMER_GROUP, recordIds);
+        redisTemplate.opsForStream().delete(EmailOutboxService.OUTBOX_KEY, recordIds);
+    }
+
+    private void retryOrDeadLetter(EmailTemplateRequest templateRequest, int attempt){
+        if (attempt >= maxAttempts){
+            emailOutboxService.deadLetter(templateRequest, attempt);
+        } else {
+            emailOutboxService.scheduleRetry(templateRequest, attempt);
+        }
+    }
+
+    private Map<Object, Exception> toFailedMessages(List<MimeMessage> messages, Exception e){
+        Map<Object, Exception> failedMessages = new HashMap<>();
+        messages.forEach(message -> failedMessages.put(message, e));
+
+        return failedMessages;
+    }
+
+    private void validateBlockMillis(){
+        // BLOCK 조회도 Redis 명령 타임아웃이 적용되므로, 대기 시간이 더 길면 이메일이 없을 때마다 타임아웃 예외 발생
+        if (blockMillis >= commandTimeoutMillis){
+            throw new IllegalStateException("app.backend.email.queue.block-millis(" + blockMillis + ") 는 "
+                    + RedisConfig.COMMAND_TIMEOUT_PROPERTY + "(" + commandTimeoutMillis + ") 보다 작아야 합니다.");
+        }
+    }
+
+    private void createConsumerGroup(){
+        try {
+            redisTemplate.opsForStream().createGroup(EmailOutboxService.OUTBOX_KEY, ReadOffset.from("0"), CONSUMER_GROUP);
+        } catch (DataAccessException e) {
+            // 이미 생성된 group 인 경우 무시
+            if (e.getMostSpecificCause().getMessage() == null || !e.getMostSpecificCause().getMessage().contains("BUSYGROUP")){
+                throw e;
+            }
+        }
+    }
+
+    private String getHostName(){
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return UUID.randomUUID().toString();
+        }
+    }
+
+    private void sleepQuietly(long millis){
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
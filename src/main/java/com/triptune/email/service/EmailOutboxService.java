@@ -0,0 +1,129 @@
+package com.triptune.email.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.triptune.email.dto.EmailTemplateRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 발송할 이메일을 Redis stream 에 저장하고 재시도, 실패 이메일을 관리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxService {
+
+    public static final String OUTBOX_KEY = "email:outbox";
+    public static final String RETRY_KEY = "email:outbox:retry";
+    public static final String DEAD_LETTER_KEY = "email:outbox:dead";
+    private static final long DEAD_LETTER_SIZE = 1000;
+    private static final RedisScript<Long> MOVE_DUE_RETRIES_SCRIPT = createScript("scripts/email-move-retries.lua", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final EmailDeliveryMetrics emailDeliveryMetrics;
+
+    @Value("${app.backend.email.queue.base-backoff-millis:5000}")
+    private long baseBackoffMillis;
+
+    @Value("${app.backend.email.queue.max-backoff-millis:600000}")
+    private long maxBackoffMillis;
+
+
+    public void enqueue(EmailTemplateRequest templateRequest){
+        add(createFields(templateRequest, 0));
+        emailDeliveryMetrics.getEnqueued().incrementAndGet();
+    }
+
+    public void scheduleRetry(EmailTemplateRequest templateRequest, int attempt){
+        // 재시도 횟수에 따라 대기 시간을 2배씩 늘림
+        long backoffMillis = Math.min(baseBackoffMillis * (1L << Math.min(attempt, 20)), maxBackoffMillis);
+        long retryAt = System.currentTimeMillis() + backoffMillis;
+
+        redisTemplate.opsForZSet().add(RETRY_KEY, toJson(createFields(templateRequest, attempt)), retryAt);
+        emailDeliveryMetrics.getRetried().incrementAndGet();
+    }
+
+    public void deadLetter(EmailTemplateRequest templateRequest, int attempt){
+        redisTemplate.opsForList().leftPush(DEAD_LETTER_KEY, toJson(createFields(templateRequest, attempt)));
+        redisTemplate.opsForList().trim(DEAD_LETTER_KEY, 0, DEAD_LETTER_SIZE - 1);
+        emailDeliveryMetrics.getDeadLettered().incrementAndGet();
+
+        log.error("이메일 발송 최종 실패 : {}", templateRequest.recipientEmail());
+    }
+
+    public void moveDueRetries(int limit){
+        // 조회, 삭제, stream 추가를 스크립트 하나로 실행해 여러 워커가 동시에 옮겨도 중복, 유실 없음
+        redisTemplate.execute(MOVE_DUE_RETRIES_SCRIPT, List.of(RETRY_KEY, OUTBOX_KEY),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(limit));
+    }
+
+    public EmailTemplateRequest toTemplateRequest(Map<?, ?> fields){
+        try {
+            Map<String, String> emailValues = objectMapper.readValue(
+                    String.valueOf(fields.get("emailValues")),
+                    new TypeReference<Map<String, String>>() {}
+            );
+
+            return new EmailTemplateRequest(
+                    String.valueOf(fields.get("subject")),
+                    String.valueOf(fields.get("recipientEmail")),
+                    emailValues,
+                    String.valueOf(fields.get("templateName"))
+            );
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이메일 데이터 변환 실패", e);
+        }
+    }
+
+    public int getAttempt(Map<?, ?> fields){
+        Object attempt = fields.get("attempt");
+        return attempt == null ? 0 : Integer.parseInt(String.valueOf(attempt));
+    }
+
+
+    private void add(Map<String, String> fields){
+        MapRecord<String, String, String> record = StreamRecords.string(fields).withStreamKey(OUTBOX_KEY);
+        redisTemplate.opsForStream().add(record);
+    }
+
+    private Map<String, String> createFields(EmailTemplateRequest templateRequest, int attempt){
+        Map<String, String> fields = new HashMap<>();
+        fields.put("subject", templateRequest.subject());
+        fields.put("recipientEmail", templateRequest.recipientEmail());
+        fields.put("templateName", templateRequest.templateName());
+        fields.put("emailValues", toJson(templateRequest.emailValues()));
+        fields.put("attempt", String.valueOf(attempt));
+
+        return fields;
+    }
+
+    private String toJson(Object value){
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이메일 데이터 변환 실패", e);
+        }
+    }
+
+    private static <T> RedisScript<T> createScript(String path, Class<T> resultType){
+        DefaultRedisScript<T> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(path));
+        script.setResultType(resultType);
+        return script;
+    }
+}
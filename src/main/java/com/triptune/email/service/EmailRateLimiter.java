@@ -0,0 +1,64 @@
+package com.triptune.email.service;
+
+import com.triptune.email.exception.EmailRateLimitException;
+import com.triptune.global.enumclass.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이메일, IP 별 token bucket 으로 인증 이메일 요청 횟수를 제한한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmailRateLimiter {
+
+    private static final RedisScript<Long> RATE_LIMIT_SCRIPT = createScript("scripts/email-rate-limit.lua");
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${app.backend.email.rate-limit.email-capacity:5}")
+    private long emailCapacity;
+
+    @Value("${app.backend.email.rate-limit.email-refill-seconds:60}")
+    private long emailRefillSeconds;
+
+    @Value("${app.backend.email.rate-limit.ip-capacity:20}")
+    private long ipCapacity;
+
+    @Value("${app.backend.email.rate-limit.ip-refill-seconds:10}")
+    private long ipRefillSeconds;
+
+
+    public void checkCertificationRequest(String email, String clientIp){
+        List<String> keys = List.of(
+                "rate:email:verify:" + email,
+                "rate:ip:verify:" + clientIp
+        );
+
+        Long waitMillis = redisTemplate.execute(RATE_LIMIT_SCRIPT, keys,
+                String.valueOf(emailCapacity),
+                String.valueOf(TimeUnit.SECONDS.toMillis(emailRefillSeconds)),
+                String.valueOf(ipCapacity),
+                String.valueOf(TimeUnit.SECONDS.toMillis(ipRefillSeconds)));
+
+        if (waitMillis != null && waitMillis > 0){
+            long retryAfterSeconds = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(waitMillis + 999));
+            throw new EmailRateLimitException(ErrorCode.TOO_MANY_EMAIL_REQUESTS, retryAfterSeconds);
+        }
+    }
+
+    private static RedisScript<Long> createScript(String path){
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(path));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
@@ -3,33 +3,25 @@ package com.triptune.email.service;
 import com.triptune.email.dto.EmailTemplateRequest;
 import com.triptune.email.dto.VerifyAuthRequest;
 import com.triptune.member.dto.request.FindPasswordRequest;
-import com.triptune.global.enumclass.RedisKeyType;
 import com.triptune.global.util.JwtUtils;
 import com.triptune.global.util.RedisUtils;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
 import java.util.Map;
 import java.util.Random;
 
+@Timed("triptune.service")
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class EmailService {
 
-    private static final String IMAGE_FOLDER_PATH = "static/images/";
-    private static final String LOGO_IMAGE_NAME = "logo-removebg.png";
     private static final int LEFT_LIMIT = 48;  // '0'의 ASCII 값
     private static final int RIGHT_LIMIT = 122; // 'z'의 ASCII 값
     private static final int NUMERIC_LIMIT = 57; // 숫자의 최대값 '9'
@@ -38,13 +30,9 @@ public class EmailService {
     private static final int TARGET_STRING_LENGTH = 6; // 인증 코드 길이
 
     private final RedisUtils redisUtils;
-    private final JavaMailSender javaMailSender;
     private final JwtUtils jwtUtils;
-    private final TemplateEngine templateEngine;
-
-
-    @Value("${spring.mail.username}")
-    private String senderEmail;
+    private final EmailOutboxService emailOutboxService;
+    private final EmailRateLimiter emailRateLimiter;
 
     @Value("${app.frontend.change-password.url}")
     private String passwordURL;
@@ -55,6 +43,9 @@ public class EmailService {
     @Value("${app.backend.email.certification-duration}")
     private long certificationDuration;
 
+    @Value("${app.backend.email.resend-cooldown:60}")
+    private long resendCooldown;
+
     @Value("${app.backend.email.verification-duration}")
     private long verificationDuration;
 
@@ -64,21 +55,23 @@ public class EmailService {
 
 
     public boolean verifyAuthCode(VerifyAuthRequest verifyAuthRequest){
-        String savedCode = redisUtils.getEmailData(RedisKeyType.AUTH_CODE, verifyAuthRequest.getEmail());
-
-        if (savedCode != null && savedCode.equals(verifyAuthRequest.getAuthCode())){
-            redisUtils.saveEmailData(RedisKeyType.VERIFIED, verifyAuthRequest.getEmail(), "true", verificationDuration);
-            return true;
-        }
-
-        return false;
+        // 인증 코드는 성공 시 삭제되어 한 번만 사용 가능
+        return redisUtils.verifyEmailAuthCode(verifyAuthRequest.getEmail(), verifyAuthRequest.getAuthCode(), verificationDuration);
     }
 
-    public void sendCertificationEmail(String email) throws MessagingException {
-        deleteAuthCodeIfExists(email);
+    public void sendCertificationEmail(String email, String clientIp) {
+        emailRateLimiter.checkCertificationRequest(email, clientIp);
 
         String authCode = createAuthCode();
 
+        // 재발송 대기 시간 내 재요청은 기존 인증 코드를 그대로 사용하고 이메일을 다시 보내지 않음
+        boolean isIssued = redisUtils.issueEmailAuthCode(email, authCode, certificationDuration, resendCooldown);
+
+        if (!isIssued){
+            log.info("인증 이메일 재발송 대기 중 : {}", email);
+            return;
+        }
+
         EmailTemplateRequest templateRequest = new EmailTemplateRequest(
                 "[TripTune] 이메일 인증 코드가 발급되었습니다.",
                 email,
@@ -86,21 +79,12 @@ public class EmailService {
                 "certificationEmail"
         );
 
-        MimeMessage emailForm = createEmailTemplate(templateRequest);
+        emailOutboxService.enqueue(templateRequest);
 
-        javaMailSender.send(emailForm);
-        redisUtils.saveEmailData(RedisKeyType.AUTH_CODE, email, authCode, certificationDuration);
-
-        log.info("인증 이메일 전송 완료 : {}", email);
+        log.info("인증 이메일 발송 요청 완료 : {}", email);
     }
 
-    private void deleteAuthCodeIfExists(String email){
-        if(redisUtils.existEmailData(RedisKeyType.AUTH_CODE, email)){
-            redisUtils.deleteEmailData(RedisKeyType.AUTH_CODE, email);
-        }
-    }
-
-    public void sendResetPasswordEmail(FindPasswordRequest findPasswordRequest) throws MessagingException {
+    public void sendResetPasswordEmail(FindPasswordRequest findPasswordRequest) {
         String passwordToken = jwtUtils.createToken(findPasswordRequest.getUserId(), passwordExpirationTime);
         String resetPasswordURL = passwordURL + passwordToken;
 
@@ -111,31 +95,10 @@ public class EmailService {
                 "resetPasswordEmail"
         );
 
-        MimeMessage emailForm = createEmailTemplate(templateRequest);
-
-        javaMailSender.send(emailForm);
-        redisUtils.saveExpiredData(passwordToken, findPasswordRequest.getEmail(), resetPasswordDuration);
-
-        log.info("비밀번호 초기화 이메일 전송 완료 : {}", findPasswordRequest.getEmail());
-    }
-
-    private MimeMessage createEmailTemplate(EmailTemplateRequest templateRequest) throws MessagingException {
-        MimeMessage message = javaMailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-        helper.setSubject(templateRequest.subject());
-        helper.setTo(templateRequest.recipientEmail());
-        helper.setCc(senderEmail);
-
-        Context context = new Context();
-        templateRequest.emailValues().forEach(context::setVariable);
-
-        String emailHTML = templateEngine.process(templateRequest.templateName(), context);
-        helper.setText(emailHTML, true);
-
-        helper.addInline("image", new ClassPathResource(IMAGE_FOLDER_PATH + LOGO_IMAGE_NAME));
+        redisUtils.savePasswordToken(passwordToken, findPasswordRequest.getEmail(), resetPasswordDuration);
+        emailOutboxService.enqueue(templateRequest);
 
-        return message;
+        log.info("비밀번호 초기화 이메일 발송 요청 완료 : {}", findPasswordRequest.getEmail());
     }
 
     public String createAuthCode() {
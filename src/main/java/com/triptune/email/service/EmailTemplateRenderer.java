@@ -0,0 +1,177 @@
+package com.triptune.email.service;
+
+import com.triptune.email.dto.EmailTemplateRequest;
+import jakarta.activation.DataHandler;
+import jakarta.annotation.PostConstruct;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Part;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeBodyPart;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeMultipart;
+import jakarta.mail.internet.PreencodedMimeBodyPart;
+import jakarta.mail.util.ByteArrayDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.unbescape.html.HtmlEscape;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이메일 템플릿을 한 번만 렌더링해 고정 영역을 캐싱하고, 발송 시에는 변수 값만 치환해 MimeMessage 를 생성한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailTemplateRenderer {
+
+    private static final String IMAGE_FOLDER_PATH = "static/images/";
+    private static final String LOGO_IMAGE_NAME = "logo-removebg.png";
+    private static final String LOGO_CONTENT_ID = "<image>";
+    private static final String LOGO_CONTENT_TYPE = "image/png";
+    private static final String PLACEHOLDER_PREFIX = "TRIPTUNEEMAILVAR";
+
+    private final JavaMailSender javaMailSender;
+    private final TemplateEngine templateEngine;
+
+    @Value("${spring.mail.username}")
+    private String senderEmail;
+
+    private final Map<String, Optional<TemplateSkeleton>> skeletons = new ConcurrentHashMap<>();
+    private byte[] encodedLogo;
+    private InternetAddress[] ccAddresses;
+
+
+    @PostConstruct
+    public void init() throws MessagingException {
+        // 로고 이미지는 base64 로 미리 인코딩해 두고 메일마다 그대로 사용
+        try (InputStream inputStream = new ClassPathResource(IMAGE_FOLDER_PATH + LOGO_IMAGE_NAME).getInputStream()) {
+            encodedLogo = Base64.getMimeEncoder().encode(inputStream.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException("이메일 로고 이미지 로딩 실패", e);
+        }
+
+        ccAddresses = new InternetAddress[]{ new InternetAddress(senderEmail, true) };
+    }
+
+
+    public MimeMessage createEmailTemplate(EmailTemplateRequest templateRequest) throws MessagingException {
+        MimeMessage message = javaMailSender.createMimeMessage();
+
+        message.setSubject(templateRequest.subject(), StandardCharsets.UTF_8.name());
+        message.setRecipient(Message.RecipientType.TO, new InternetAddress(templateRequest.recipientEmail(), true));
+        message.setRecipients(Message.RecipientType.CC, ccAddresses);
+
+        MimeBodyPart htmlPart = new MimeBodyPart();
+        htmlPart.setText(renderHtml(templateRequest), StandardCharsets.UTF_8.name(), "html");
+
+        MimeMultipart multipart = new MimeMultipart("related");
+        multipart.addBodyPart(htmlPart);
+        multipart.addBodyPart(createLogoPart());
+
+        message.setContent(multipart);
+
+        return message;
+    }
+
+    public String renderHtml(EmailTemplateRequest templateRequest){
+        String skeletonKey = templateRequest.templateName() + ":" + new TreeSet<>(templateRequest.emailValues().keySet());
+
+        return skeletons.computeIfAbsent(skeletonKey, key -> createSkeleton(templateRequest))
+                .map(skeleton -> skeleton.render(templateRequest.emailValues()))
+                .orElseGet(() -> process(templateRequest.templateName(), templateRequest.emailValues()));
+    }
+
+    private MimeBodyPart createLogoPart() throws MessagingException {
+        PreencodedMimeBodyPart logoPart = new PreencodedMimeBodyPart("base64");
+        logoPart.setDataHandler(new DataHandler(new ByteArrayDataSource(encodedLogo, LOGO_CONTENT_TYPE)));
+        logoPart.setContentID(LOGO_CONTENT_ID);
+        logoPart.setDisposition(Part.INLINE);
+        logoPart.setFileName(LOGO_IMAGE_NAME);
+
+        return logoPart;
+    }
+
+    /**
+     * 변수 위치에 placeholder 를 넣어 렌더링한 뒤 고정 영역과 변수 위치로 나눈다.
+     * placeholder 가 정확히 한 번씩 나타나지 않는 템플릿은 매번 렌더링한다.
+     */
+    private Optional<TemplateSkeleton> createSkeleton(EmailTemplateRequest templateRequest){
+        List<String> variableNames = new ArrayList<>(new TreeSet<>(templateRequest.emailValues().keySet()));
+        Map<String, String> placeholders = new HashMap<>();
+
+        for (int i = 0; i < variableNames.size(); i++){
+            placeholders.put(variableNames.get(i), PLACEHOLDER_PREFIX + i + "X");
+        }
+
+        String html = process(templateRequest.templateName(), placeholders);
+
+        List<String> fragments = new ArrayList<>();
+        List<String> fragmentVariables = new ArrayList<>();
+        int start = 0;
+
+        while (true){
+            int index = html.indexOf(PLACEHOLDER_PREFIX, start);
+
+            if (index < 0){
+                break;
+            }
+
+            int end = html.indexOf('X', index + PLACEHOLDER_PREFIX.length());
+            int variableIndex = Integer.parseInt(html.substring(index + PLACEHOLDER_PREFIX.length(), end));
+
+            fragments.add(html.substring(start, index));
+            fragmentVariables.add(variableNames.get(variableIndex));
+            start = end + 1;
+        }
+
+        fragments.add(html.substring(start));
+
+        if (fragmentVariables.size() != variableNames.size() || !fragmentVariables.containsAll(variableNames)){
+            log.warn("이메일 템플릿 캐싱 불가 : {}", templateRequest.templateName());
+            return Optional.empty();
+        }
+
+        return Optional.of(new TemplateSkeleton(fragments, fragmentVariables));
+    }
+
+    private String process(String templateName, Map<String, String> emailValues){
+        Context context = new Context();
+        emailValues.forEach(context::setVariable);
+
+        return templateEngine.process(templateName, context);
+    }
+
+
+    private record TemplateSkeleton(List<String> fragments, List<String> variables) {
+
+        String render(Map<String, String> emailValues){
+            StringBuilder html = new StringBuilder();
+
+            for (int i = 0; i < variables.size(); i++){
+                // th:text, th:href 와 동일하게 HTML escape 처리
+                html.append(fragments.get(i)).append(HtmlEscape.escapeHtml4Xml(emailValues.get(variables.get(i))));
+            }
+
+            return html.append(fragments.get(fragments.size() - 1)).toString();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.triptune.global.config;
+
+import com.triptune.global.util.VirtualThreadTaskExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String STORAGE_TASK_EXECUTOR = "storageTaskExecutor";
+    public static final String IMAGE_TASK_EXECUTOR = "imageTaskExecutor";
+
+    @Value("${app.backend.async.storage.core-pool-size:2}")
+    private int corePoolSize;
+
+    @Value("${app.backend.async.storage.max-pool-size:4}")
+    private int maxPoolSize;
+
+    @Value("${app.backend.async.storage.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${app.backend.async.storage.virtual-concurrency-limit:64}")
+    private int virtualConcurrencyLimit;
+
+    @Value("${" + VirtualThreadConfig.ENABLED_PROPERTY + ":false}")
+    private boolean virtualThreadsEnabled;
+
+    @Value("${app.backend.async.image.pool-size:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int imagePoolSize;
+
+    @Value("${app.backend.async.image.queue-capacity:50}")
+    private int imageQueueCapacity;
+
+    @Bean(name = STORAGE_TASK_EXECUTOR)
+    public Executor storageTaskExecutor(){
+        // S3 파일 삭제, 탈퇴 회원 데이터 정리 등 요청 응답과 무관한 후처리 작업
+        if (virtualThreadsEnabled){
+            // I/O 대기 위주이므로 작업마다 가상 스레드 실행, 동시 실행 수만 제한
+            // 제한에 걸리면 가상 스레드 안에서 대기하므로 커밋 후 이벤트를 발행하는 요청 스레드는 막히지 않음
+            return new VirtualThreadTaskExecutor("storage-vt-", virtualConcurrencyLimit);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("storage-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        return executor;
+    }
+
+    @Bean(name = IMAGE_TASK_EXECUTOR)
+    public Executor imageTaskExecutor(){
+        // 이미지 변환은 CPU 작업이므로 가상 스레드 모드에서도 코어 수만큼만 처리하고, 대기열이 가득 차면 요청 스레드에서 직접 처리
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(imagePoolSize);
+        executor.setMaxPoolSize(imagePoolSize);
+        executor.setQueueCapacity(imageQueueCapacity);
+        executor.setThreadNamePrefix("image-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+
+        return executor;
+    }
+}
@@ -0,0 +1,50 @@
+package com.triptune.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MySQL(Hikari), Mongo 연결 풀 설정 (Redis 는 RedisConfig)
+ * Hikari 는 Spring Boot 속성으로 설정하므로 connection-pool.properties 에 기본값 정의
+ */
+@Configuration
+@PropertySource("classpath:connection-pool.properties")
+public class ConnectionPoolConfig {
+
+    @Value("${app.backend.mongo.pool.max-size:50}")
+    private int mongoMaxSize;
+
+    @Value("${app.backend.mongo.pool.min-size:5}")
+    private int mongoMinSize;
+
+    @Value("${app.backend.mongo.pool.max-wait-ms:2000}")
+    private long mongoMaxWaitMillis;
+
+    @Value("${app.backend.mongo.pool.max-idle-ms:600000}")
+    private long mongoMaxIdleMillis;
+
+    @Value("${app.backend.mongo.connect-timeout-ms:2000}")
+    private int mongoConnectTimeoutMillis;
+
+    @Value("${app.backend.mongo.read-timeout-ms:5000}")
+    private int mongoReadTimeoutMillis;
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoConnectionPoolCustomizer(){
+        // 풀이 가득 찬 경우 드라이버 기본값(2분)까지 기다리지 않고 max-wait-ms 후 실패
+        return builder -> builder
+                .applyToConnectionPoolSettings(pool -> pool
+                        .maxSize(mongoMaxSize)
+                        .minSize(mongoMinSize)
+                        .maxWaitTime(mongoMaxWaitMillis, TimeUnit.MILLISECONDS)
+                        .maxConnectionIdleTime(mongoMaxIdleMillis, TimeUnit.MILLISECONDS))
+                .applyToSocketSettings(socket -> socket
+                        .connectTimeout(mongoConnectTimeoutMillis, TimeUnit.MILLISECONDS)
+                        .readTimeout(mongoReadTimeoutMillis, TimeUnit.MILLISECONDS));
+    }
+}
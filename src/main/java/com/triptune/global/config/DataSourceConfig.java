@@ -0,0 +1,109 @@
+package com.triptune.global.config;
+
+import com.triptune.global.datasource.ReplicaDataSource;
+import com.triptune.global.datasource.ReplicaLagMonitor;
+import com.triptune.global.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MySQL 복제본 읽기 분산 (app.backend.datasource.replica.enabled=true 인 경우)
+ * Spring 의 @Transactional(readOnly = true) 트랜잭션은 복제본, 그 외는 primary(spring.datasource) 로 연결
+ * 복제본 Hikari 설정은 spring.datasource.hikari 를 기본으로 app.backend.datasource.replica.hikari 로 덮어씀
+ */
+@Configuration
+@ConditionalOnProperty(name = DataSourceConfig.REPLICA_ENABLED_PROPERTY, havingValue = "true")
+public class DataSourceConfig {
+
+    public static final String REPLICA_ENABLED_PROPERTY = "app.backend.datasource.replica.enabled";
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+    private static final String REPLICA_HIKARI_PREFIX = "app.backend.datasource.replica.hikari";
+    private static final String REPLICA_POOL_NAME = "triptune-hikari-replica-";
+
+    @Value("${app.backend.datasource.replica.urls}")
+    private List<String> replicaUrls;
+
+    @Value("${app.backend.datasource.replica.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${app.backend.datasource.replica.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${app.backend.datasource.replica.max-lag-seconds:5}")
+    private long maxLagSeconds;
+
+    @Value("${app.backend.datasource.replica.check-interval-ms:1000}")
+    private long checkIntervalMillis;
+
+    // MySQL 8.0.22 이상 기준 (이전 버전은 SHOW SLAVE STATUS, Seconds_Behind_Master)
+    @Value("${app.backend.datasource.replica.lag-query:SHOW REPLICA STATUS}")
+    private String lagQuery;
+
+    @Value("${app.backend.datasource.replica.lag-column:Seconds_Behind_Source}")
+    private String lagColumn;
+
+    @Bean
+    @ConfigurationProperties(prefix = HIKARI_PREFIX)
+    public HikariDataSource primaryDataSource(DataSourceProperties properties){
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicationRoutingDataSource routingDataSource(HikariDataSource primaryDataSource, DataSourceProperties properties,
+                                                         Environment environment, MeterRegistry meterRegistry){
+        List<ReplicaDataSource> replicas = new ArrayList<>();
+
+        for (int i = 0; i < replicaUrls.size(); i++){
+            String name = REPLICA_POOL_NAME + (i + 1);
+            replicas.add(new ReplicaDataSource(name, createReplicaDataSource(name, replicaUrls.get(i), properties, environment, meterRegistry)));
+        }
+
+        return new ReplicationRoutingDataSource(primaryDataSource, replicas, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicationRoutingDataSource routingDataSource){
+        // 실제 커넥션은 첫 쿼리 실행 시 가져오므로 트랜잭션의 readOnly 여부로 연결 대상 결정 가능
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicationRoutingDataSource routingDataSource, MeterRegistry meterRegistry){
+        return new ReplicaLagMonitor(routingDataSource.getReplicas(), lagQuery, lagColumn, maxLagSeconds, checkIntervalMillis, meterRegistry);
+    }
+
+    private HikariDataSource createReplicaDataSource(String name, String url, DataSourceProperties properties,
+                                                     Environment environment, MeterRegistry meterRegistry){
+        HikariDataSource dataSource = new HikariDataSource();
+
+        Binder binder = Binder.get(environment);
+        binder.bind(HIKARI_PREFIX, Bindable.ofInstance(dataSource));
+        binder.bind(REPLICA_HIKARI_PREFIX, Bindable.ofInstance(dataSource));
+
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(replicaUsername);
+        dataSource.setPassword(replicaPassword);
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setReadOnly(true);
+        // 빈으로 등록하지 않으므로 hikaricp.connections.* 메트릭 직접 연결
+        dataSource.setMetricRegistry(meterRegistry);
+        return dataSource;
+    }
+}
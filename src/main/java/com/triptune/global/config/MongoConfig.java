@@ -0,0 +1,27 @@
+package com.triptune.global.config;
+
+import com.triptune.schedule.entity.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+
+@Configuration
+@RequiredArgsConstructor
+public class MongoConfig {
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initIndexes(){
+        // auto-index-creation 이 꺼져 있으므로 엔티티에 선언된 인덱스를 직접 생성
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+        IndexOperations indexOps = mongoTemplate.indexOps(ChatMessage.class);
+
+        resolver.resolveIndexFor(ChatMessage.class).forEach(indexOps::ensureIndex);
+    }
+}
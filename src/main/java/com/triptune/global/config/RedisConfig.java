@@ -1,30 +1,117 @@
 package com.triptune.global.config;
 
+import com.triptune.schedule.service.ChatBroadcastService;
+import com.triptune.schedule.service.RedisChatSubscriber;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.resource.ClientResources;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
 
 @Configuration
 public class RedisConfig {
 
+    public static final String POOL_JMX_NAME_PREFIX = "lettuce-pool";
+    public static final String COMMAND_TIMEOUT_PROPERTY = "app.backend.redis.command-timeout-ms";
+    public static final long DEFAULT_COMMAND_TIMEOUT_MILLIS = 1000;
+
     @Value("${spring.redis.data.host}")
     private String host;
 
     @Value("${spring.redis.data.port}")
     private int port;
 
+    @Value("${app.backend.redis.connect-timeout-ms:500}")
+    private long connectTimeoutMillis;
+
+    // BLOCK 옵션을 사용하는 조회(XREADGROUP 등)에도 적용되므로 대기 시간은 이 값보다 짧아야 함
+    @Value("${" + COMMAND_TIMEOUT_PROPERTY + ":" + DEFAULT_COMMAND_TIMEOUT_MILLIS + "}")
+    private long commandTimeoutMillis;
+
+    @Value("${app.backend.redis.shutdown-timeout-ms:100}")
+    private long shutdownTimeoutMillis;
+
+    @Value("${app.backend.redis.pool.enabled:false}")
+    private boolean poolEnabled;
+
+    @Value("${app.backend.redis.pool.max-total:16}")
+    private int poolMaxTotal;
+
+    @Value("${app.backend.redis.pool.min-idle:0}")
+    private int poolMinIdle;
+
+    @Value("${app.backend.redis.pool.max-wait-ms:500}")
+    private long poolMaxWaitMillis;
+
     @Bean
-    public RedisConnectionFactory redisConnectionFactory(){
-        return new LettuceConnectionFactory(host, port);
+    public RedisConnectionFactory redisConnectionFactory(ClientResources clientResources){
+        // 일반 명령은 하나의 공유 연결로 처리하고, 풀은 트랜잭션 등 연결을 점유하는 명령에만 사용
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port), lettuceClientConfiguration(clientResources));
+        connectionFactory.setShareNativeConnection(true);
+        return connectionFactory;
     }
 
     @Bean
-    public RedisTemplate<?, ?> redisTemplate(){
+    public RedisTemplate<?, ?> redisTemplate(RedisConnectionFactory redisConnectionFactory){
         RedisTemplate<byte[], byte[]> redisTemplate = new RedisTemplate<>();
-        redisTemplate.setConnectionFactory(redisConnectionFactory());
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
         return redisTemplate;
     }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.backend.chat.broker-type", havingValue = "redis")
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory, RedisChatSubscriber redisChatSubscriber){
+        // 다른 노드에서 발행한 채팅 메시지를 수신해 현재 노드 구독자에게 전달
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(redisChatSubscriber, new ChannelTopic(ChatBroadcastService.CHAT_CHANNEL));
+        return container;
+    }
+
+    private LettuceClientConfiguration lettuceClientConfiguration(ClientResources clientResources){
+        // Redis 장애 시 명령을 쌓아두지 않고 바로 실패시켜, 인증 요청(로그아웃 토큰 조회)이 타임아웃까지 대기하지 않도록 함
+        ClientOptions clientOptions = ClientOptions.builder()
+                .socketOptions(SocketOptions.builder().connectTimeout(Duration.ofMillis(connectTimeoutMillis)).build())
+                .timeoutOptions(TimeoutOptions.enabled(Duration.ofMillis(commandTimeoutMillis)))
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .autoReconnect(true)
+                .build();
+
+        // Boot 의 ClientResources 를 사용해야 Lettuce 명령 지연 시간 메트릭(lettuce.command.*)이 기록됨
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder = poolEnabled
+                ? LettucePoolingClientConfiguration.builder().poolConfig(poolConfig())
+                : LettuceClientConfiguration.builder();
+
+        return builder.clientResources(clientResources)
+                .clientOptions(clientOptions)
+                .commandTimeout(Duration.ofMillis(commandTimeoutMillis))
+                .shutdownTimeout(Duration.ofMillis(shutdownTimeoutMillis))
+                .build();
+    }
+
+    private GenericObjectPoolConfig<?> poolConfig(){
+        // JMX 로 등록된 풀 상태를 RedisPoolMetrics 에서 메트릭으로 노출
+        GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(poolMaxTotal);
+        poolConfig.setMaxIdle(poolMaxTotal);
+        poolConfig.setMinIdle(poolMinIdle);
+        poolConfig.setMaxWait(Duration.ofMillis(poolMaxWaitMillis));
+        poolConfig.setJmxEnabled(true);
+        poolConfig.setJmxNamePrefix(POOL_JMX_NAME_PREFIX);
+        return poolConfig;
+    }
 }
@@ -5,9 +5,16 @@ public class SecurityConstants {
     public static final String[] AUTH_WHITELIST = {
             "/swagger-ui/**", "/v3/api-docs/**", "/api/members/join", "/api/members/login",
             "/api/members/refresh", "/api/members/find-id", "/api/members/find-password", "/api/members/reset-password",
-            "/api/emails/**", "/api/travels/**", "/h2-console/**", "/", "/error", "/ws"
+            // 탈퇴 요청 후 로그아웃된 상태에서 진행 상황을 조회하므로 인증 없이 허용
+            // 작업 id 는 추측할 수 없는 UUID 이며 소유자 확인은 하지 않음
+            "/api/members/deactivate/jobs/*",
+            "/api/emails/**", "/api/travels/**", "/h2-console/**", "/", "/error", "/ws",
+            "/actuator/health"
     };
 
+    // 지표 수집 서버 IP 에서만 조회 허용
+    public static final String PROMETHEUS_ENDPOINT = "/actuator/prometheus";
+
     private SecurityConstants(){
     }
 }
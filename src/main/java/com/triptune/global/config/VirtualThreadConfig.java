@@ -0,0 +1,27 @@
+package com.triptune.global.config;
+
+import com.triptune.global.util.VirtualThreadUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 가상 스레드 실행 모드 (app.backend.virtual-threads.enabled=true, Java 21 이상)
+ * 요청 대부분이 DB, Redis, Mongo, S3, SMTP 응답을 기다리므로 Tomcat 요청 처리를 요청마다 가상 스레드로 실행
+ * @Async 작업은 AsyncConfig, STOMP 채널은 WebSocketConfig 에서 같은 설정값으로 전환
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = VirtualThreadConfig.ENABLED_PROPERTY, havingValue = "true")
+public class VirtualThreadConfig {
+
+    public static final String ENABLED_PROPERTY = "app.backend.virtual-threads.enabled";
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(){
+        log.info("가상 스레드 실행 모드 사용 (Java {})", Runtime.version());
+        return protocolHandler -> protocolHandler.setExecutor(VirtualThreadUtils.newThreadPerTaskExecutor("tomcat-vt-"));
+    }
+}
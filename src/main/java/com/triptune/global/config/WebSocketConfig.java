@@ -1,10 +1,14 @@
 package com.triptune.global.config;
 
+import com.triptune.global.metrics.WebSocketMetrics;
 import com.triptune.global.util.StompHandler;
+import com.triptune.global.util.VirtualThreadTaskExecutor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
@@ -14,12 +18,51 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    public static final String BROKER_TYPE_SIMPLE = "simple";
+    public static final String BROKER_TYPE_RELAY = "relay";
+    public static final String BROKER_TYPE_REDIS = "redis";
+
     private final StompHandler stompHandler;
+    private final WebSocketMetrics webSocketMetrics;
+
+    @Value("${app.backend.chat.broker-type:simple}")
+    private String brokerType;
+
+    @Value("${app.backend.chat.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${app.backend.chat.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${app.backend.chat.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${app.backend.chat.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${" + VirtualThreadConfig.ENABLED_PROPERTY + ":false}")
+    private boolean virtualThreadsEnabled;
+
+    @Value("${app.backend.chat.virtual-channel-concurrency-limit:256}")
+    private int virtualChannelConcurrencyLimit;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        // 메시지 구독하는 요청 엔드포인트
-        registry.enableSimpleBroker("/sub", "/queue");
+        if (BROKER_TYPE_RELAY.equals(brokerType)){
+            // 외부 STOMP 브로커로 구독 요청 중계 (다중 인스턴스 환경)
+            registry.enableStompBrokerRelay("/sub", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode);
+        } else {
+            // 메시지 구독하는 요청 엔드포인트
+            // redis 모드는 노드 내 simple broker 로 전달하고, 노드 간 전파는 Redis pub/sub 으로 처리
+            registry.enableSimpleBroker("/sub", "/queue");
+        }
+
         // 메시지를 발송하는 엔드포인트
         registry.setApplicationDestinationPrefixes("/pub");
         // 사용자 대상 프리픽스 추가
@@ -36,6 +79,26 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(stompHandler);
+        // 인증 실패한 메시지도 집계되도록 메트릭 인터셉터를 먼저 등록
+        registration.interceptors(webSocketMetrics.inboundInterceptor(), stompHandler);
+
+        if (virtualThreadsEnabled){
+            registration.taskExecutor(createVirtualChannelExecutor("ws-inbound-vt-"));
+        }
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(webSocketMetrics.outboundInterceptor());
+
+        if (virtualThreadsEnabled){
+            registration.taskExecutor(createVirtualChannelExecutor("ws-outbound-vt-"));
+        }
+    }
+
+    private ThreadPoolTaskExecutor createVirtualChannelExecutor(String threadNamePrefix){
+        // 채팅 저장(Mongo), 권한 조회(DB) 대기 중에도 다른 메시지를 처리하도록 메시지마다 가상 스레드로 실행
+        // DB 커넥션 풀 고갈을 막기 위해 동시 처리 수만 제한
+        return new VirtualThreadTaskExecutor(threadNamePrefix, virtualChannelConcurrencyLimit);
     }
 }
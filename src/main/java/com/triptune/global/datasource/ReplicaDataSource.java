@@ -0,0 +1,27 @@
+package com.triptune.global.datasource;
+
+import lombok.Getter;
+
+import javax.sql.DataSource;
+
+/**
+ * 복제본 DataSource 와 상태 (ReplicaLagMonitor 가 주기적으로 갱신)
+ */
+@Getter
+public class ReplicaDataSource {
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean available;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaDataSource(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public void updateStatus(boolean available, double lagSeconds){
+        this.available = available;
+        this.lagSeconds = lagSeconds;
+    }
+}
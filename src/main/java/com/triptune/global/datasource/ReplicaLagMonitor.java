@@ -0,0 +1,117 @@
+package com.triptune.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 복제본 복제 지연 확인
+ * 지연이 max-lag-seconds 를 넘거나, 복제가 멈췄거나(지연 값 null), 연결할 수 없는 복제본은 읽기 대상에서 제외
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final int QUERY_TIMEOUT_SECONDS = 2;
+
+    private final List<ReplicaDataSource> replicas;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final long maxLagSeconds;
+    private final long checkIntervalMillis;
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(List<ReplicaDataSource> replicas, String lagQuery, String lagColumn,
+                             long maxLagSeconds, long checkIntervalMillis, MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.maxLagSeconds = maxLagSeconds;
+        this.checkIntervalMillis = checkIntervalMillis;
+
+        replicas.forEach(replica -> {
+            Gauge.builder("triptune.datasource.replica.lag", replica, ReplicaDataSource::getLagSeconds)
+                    .description("복제본 복제 지연")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+
+            Gauge.builder("triptune.datasource.replica.available", replica, r -> r.isAvailable() ? 1 : 0)
+                    .description("복제본 읽기 사용 여부")
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+        });
+    }
+
+    @PostConstruct
+    public void start(){
+        // 시작 직후부터 복제본을 사용할 수 있도록 먼저 한 번 확인
+        checkAll();
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::checkAll, checkIntervalMillis, checkIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop(){
+        if (scheduler != null){
+            scheduler.shutdownNow();
+        }
+    }
+
+    public void checkAll(){
+        replicas.forEach(this::check);
+    }
+
+    private void check(ReplicaDataSource replica){
+        try (Connection connection = replica.getDataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+
+            try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                // 결과가 없으면 복제가 설정되지 않은 것으로 판단
+                Long lagSeconds = resultSet.next() ? getLagSeconds(resultSet) : null;
+                updateStatus(replica, lagSeconds);
+            }
+        } catch (SQLException e) {
+            if (replica.isAvailable()){
+                log.warn("복제본 상태 확인 실패, primary 로 전환 : {}", replica.getName(), e);
+            }
+
+            replica.updateStatus(false, Double.NaN);
+        }
+    }
+
+    private Long getLagSeconds(ResultSet resultSet) throws SQLException {
+        long lagSeconds = resultSet.getLong(lagColumn);
+        return resultSet.wasNull() ? null : lagSeconds;
+    }
+
+    private void updateStatus(ReplicaDataSource replica, Long lagSeconds){
+        boolean available = lagSeconds != null && lagSeconds <= maxLagSeconds;
+
+        if (available != replica.isAvailable()){
+            if (available){
+                log.info("복제본 읽기 재개 : {} (지연 {}초)", replica.getName(), lagSeconds);
+            } else {
+                log.warn("복제본 읽기 중단 : {} (지연 {}초, 허용 {}초)", replica.getName(), lagSeconds, maxLagSeconds);
+            }
+        }
+
+        replica.updateStatus(available, lagSeconds == null ? Double.NaN : lagSeconds);
+    }
+}
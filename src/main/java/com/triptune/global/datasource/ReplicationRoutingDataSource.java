@@ -0,0 +1,83 @@
+package com.triptune.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본, 그 외는 primary 로 연결
+ * 복제 지연이 허용 범위를 넘었거나 연결할 수 없는 복제본은 제외하고, 사용 가능한 복제본이 없으면 primary 로 연결
+ * 트랜잭션의 readOnly 여부가 정해진 뒤 커넥션을 가져와야 하므로 LazyConnectionDataSourceProxy 로 감싸서 사용
+ */
+@Slf4j
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final List<ReplicaDataSource> replicas;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Counter fallbackCounter;
+
+    public ReplicationRoutingDataSource(DataSource primary, List<ReplicaDataSource> replicas, MeterRegistry meterRegistry) {
+        this.replicas = List.copyOf(replicas);
+        this.fallbackCounter = Counter.builder("triptune.datasource.replica.fallback")
+                .description("사용 가능한 복제본이 없어 primary 로 연결한 읽기 전용 트랜잭션 수")
+                .register(meterRegistry);
+
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(PRIMARY, primary);
+        this.replicas.forEach(replica -> targetDataSources.put(replica.getName(), replica.getDataSource()));
+
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+    }
+
+    public List<ReplicaDataSource> getReplicas(){
+        return replicas;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()){
+            return PRIMARY;
+        }
+
+        // 라운드 로빈으로 사용 가능한 복제본 선택
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+
+        for (int i = 0; i < size; i++){
+            ReplicaDataSource replica = replicas.get((start + i) % size);
+
+            if (replica.isAvailable()){
+                return replica.getName();
+            }
+        }
+
+        fallbackCounter.increment();
+        return PRIMARY;
+    }
+
+    /**
+     * 복제본 연결 풀 종료 (primary 는 별도 빈으로 관리)
+     */
+    public void close(){
+        replicas.forEach(replica -> {
+            if (replica.getDataSource() instanceof AutoCloseable closeable){
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("복제본 연결 풀 종료 실패 : {}", replica.getName(), e);
+                }
+            }
+        });
+    }
+}
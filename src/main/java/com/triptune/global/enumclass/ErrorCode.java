@@ -30,11 +30,13 @@ public enum ErrorCode {
     MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "사용자 정보를 찾을 수 없습니다."),
     FAILED_LOGIN(HttpStatus.BAD_REQUEST, "아이디 또는 비밀번호가 일치하지 않습니다."),
     INVALID_CHANGE_PASSWORD(HttpStatus.BAD_REQUEST, "잘못된 요청입니다. 비밀번호 찾기를 다시 진행해주세요."),
+    DEACTIVATION_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "탈퇴 처리 작업 정보를 찾을 수 없습니다."),
 
 
     // 이메일
     FAIL_VERIFIED_EMAIL(HttpStatus.BAD_REQUEST, "이메일 인증에 실패했습니다."),
     NOT_VERIFIED_EMAIL(HttpStatus.BAD_REQUEST, "인증되지 않은 이메일입니다. 이메일 인증을 다시 진행해주세요."),
+    TOO_MANY_EMAIL_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "이메일 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     // 토큰
     INVALID_JWT_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 JWT 토큰입니다."),
@@ -75,7 +77,9 @@ public enum ErrorCode {
 
     // 파일
     PROFILE_IMAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "프로필 이미지 데이터를 찾을 수 없습니다."),
-    INVALID_EXTENSION(HttpStatus.BAD_REQUEST, "허용되지 않은 파일 형식입니다.");
+    INVALID_EXTENSION(HttpStatus.BAD_REQUEST, "허용되지 않은 파일 형식입니다."),
+    FILE_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, "허용된 파일 크기를 초과했습니다."),
+    UPLOAD_REQUEST_NOT_FOUND(HttpStatus.BAD_REQUEST, "업로드 요청 정보가 없습니다. 다시 시도해주세요.");
 
 
     private final HttpStatus status;
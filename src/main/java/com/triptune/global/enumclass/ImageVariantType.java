@@ -0,0 +1,27 @@
+package com.triptune.global.enumclass;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ImageVariantType {
+    SMALL("small", 64, "프로필, 채팅 아바타"),
+    MEDIUM("medium", 320, "목록 카드"),
+    LARGE("large", 1024, "상세 화면");
+
+    public static final String EXTENSION = "jpg";
+    public static final String CONTENT_TYPE = "image/jpeg";
+
+    private final String suffix;
+    private final int maxSize;
+    private final String description;
+
+
+    public String createS3FileKey(String s3FileKey){
+        int dotIndex = s3FileKey.lastIndexOf(".");
+        String baseKey = dotIndex > s3FileKey.lastIndexOf("/") ? s3FileKey.substring(0, dotIndex) : s3FileKey;
+
+        return baseKey + "_" + suffix + "." + EXTENSION;
+    }
+}
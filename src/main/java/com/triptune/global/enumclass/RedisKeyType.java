@@ -6,10 +6,12 @@ import lombok.Getter;
 @Getter
 @AllArgsConstructor
 public enum RedisKeyType {
-    VERIFIED("isVerified", "이메일 인증 여부"),
-    AUTH_CODE("authCode", "이메일 인증 번호");
+    VERIFIED("isVerified", "v", "이메일 인증 여부"),
+    AUTH_CODE("authCode", "a", "이메일 인증 번호"),
+    RESEND_COOLDOWN("resendCooldown", "r", "인증 이메일 재발송 대기");
 
     private final String keyType;
+    private final String shortKey;
     private final String description;
 
 }
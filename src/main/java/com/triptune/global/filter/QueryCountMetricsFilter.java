@@ -0,0 +1,87 @@
+package com.triptune.global.filter;
+
+import com.triptune.global.metrics.QueryCountInspector;
+import com.triptune.global.metrics.QueryCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * HTTP 요청 한 건에서 실행된 SQL 개수 기록 (인증 필터의 사용자 조회 포함)
+ * 허용 개수를 넘으면 가장 많이 반복된 SQL 과 함께 경고 로그, 메트릭 기록
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountMetricsFilter extends OncePerRequestFilter {
+
+    public static final String METRIC_NAME = "triptune.http.server.statements";
+    public static final String EXCEEDED_METRIC_NAME = "triptune.http.server.statements.exceeded";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+
+    public QueryCountMetricsFilter(MeterRegistry meterRegistry,
+                                   @Value("${app.backend.query-budget.max-statements:30}") int maxStatements) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        QueryCountInspector.start();
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCounter counter = QueryCountInspector.stop();
+            String method = request.getMethod();
+            String uri = getUriPattern(request);
+
+            DistributionSummary.builder(METRIC_NAME)
+                    .description("HTTP 요청당 실행된 SQL 개수")
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(counter.getCount());
+
+            if (maxStatements > 0 && counter.getCount() > maxStatements){
+                warnExceeded(method, uri, counter);
+            }
+        }
+    }
+
+    private void warnExceeded(String method, String uri, QueryCounter counter){
+        Counter.builder(EXCEEDED_METRIC_NAME)
+                .description("SQL 허용 개수를 초과한 요청 수")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .increment();
+
+        Map.Entry<String, Integer> repeated = counter.getMostRepeatedStatement();
+        log.warn("SQL 허용 개수 초과 : {} {} - {}건 (허용 {}건), 최다 반복 {}회 : {}",
+                method, uri, counter.getCount(), maxStatements, repeated.getValue(), repeated.getKey());
+    }
+
+    private String getUriPattern(HttpServletRequest request){
+        // 경로 변수가 치환되지 않은 패턴으로 태그를 만들어 태그 수 제한
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? UNKNOWN_URI : pattern.toString();
+    }
+}
@@ -0,0 +1,64 @@
+package com.triptune.global.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hibernate 가 실행하는 SQL 개수를 현재 스레드 기준으로 집계
+ * start() ~ stop() 사이에 실행된 SQL 만 집계
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<QueryCounter> COUNTER = new ThreadLocal<>();
+    // 테스트에서 요청별 집계 결과를 확인할 때만 사용
+    private static final ThreadLocal<List<QueryCounter>> RECORDED = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter counter = COUNTER.get();
+
+        if (counter != null){
+            counter.increase(sql);
+        }
+
+        return sql;
+    }
+
+    public static void start(){
+        COUNTER.set(new QueryCounter());
+    }
+
+    public static long getCount(){
+        QueryCounter counter = COUNTER.get();
+        return counter == null ? 0 : counter.getCount();
+    }
+
+    public static QueryCounter stop(){
+        QueryCounter counter = COUNTER.get();
+        COUNTER.remove();
+
+        if (counter == null){
+            counter = new QueryCounter();
+        }
+
+        List<QueryCounter> recorded = RECORDED.get();
+        if (recorded != null){
+            recorded.add(counter);
+        }
+
+        return counter;
+    }
+
+    public static void startRecording(){
+        RECORDED.set(new ArrayList<>());
+    }
+
+    public static List<QueryCounter> stopRecording(){
+        List<QueryCounter> recorded = RECORDED.get();
+        RECORDED.remove();
+
+        return recorded == null ? List.of() : recorded;
+    }
+}
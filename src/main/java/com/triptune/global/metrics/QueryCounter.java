@@ -0,0 +1,28 @@
+package com.triptune.global.metrics;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 한 건에서 실행된 SQL 개수와 동일 SQL 반복 횟수
+ * 바인딩 파라미터가 ? 로 남아있어 같은 SQL 이 반복되면 N+1 로 판단할 수 있음
+ */
+@Getter
+public class QueryCounter {
+
+    private long count;
+    private final Map<String, Integer> statementCounts = new HashMap<>();
+
+    void increase(String sql){
+        count++;
+        statementCounts.merge(sql, 1, Integer::sum);
+    }
+
+    public Map.Entry<String, Integer> getMostRepeatedStatement(){
+        return statementCounts.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+    }
+}
@@ -0,0 +1,64 @@
+package com.triptune.global.metrics;
+
+import com.triptune.global.config.RedisConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Lettuce 연결 풀 포화도 (commons-pool2 가 JMX 로 등록한 풀 상태 합계)
+ * Hikari(hikaricp.connections.*), Mongo(mongodb.driver.pool.*) 풀은 Spring Boot 가 기본으로 기록
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.backend.redis.pool.enabled", havingValue = "true")
+public class RedisPoolMetrics implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "triptune.redis.pool.";
+
+    private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+    private final ObjectName poolObjectName;
+
+    public RedisPoolMetrics() throws MalformedObjectNameException {
+        this.poolObjectName = new ObjectName("org.apache.commons.pool2:type=GenericObjectPool,name=" + RedisConfig.POOL_JMX_NAME_PREFIX + "*");
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        registerGauge(registry, "active", "NumActive", "사용 중인 연결 수");
+        registerGauge(registry, "idle", "NumIdle", "유휴 연결 수");
+        registerGauge(registry, "pending", "NumWaiters", "연결을 기다리는 스레드 수");
+        registerGauge(registry, "max", "MaxTotal", "최대 연결 수");
+    }
+
+    private void registerGauge(MeterRegistry registry, String name, String attribute, String description){
+        Gauge.builder(METRIC_PREFIX + name, this, metrics -> metrics.sum(attribute))
+                .description(description)
+                .register(registry);
+    }
+
+    /**
+     * 연결 유형별로 풀이 생성되므로 모든 풀의 값을 합산
+     */
+    private double sum(String attribute){
+        double total = 0;
+
+        for (ObjectName objectName : mBeanServer.queryNames(poolObjectName, null)){
+            try {
+                total += ((Number) mBeanServer.getAttribute(objectName, attribute)).doubleValue();
+            } catch (Exception e) {
+                log.debug("Redis 풀 상태 조회 실패 : {}", objectName, e);
+            }
+        }
+
+        return total;
+    }
+}
@@ -0,0 +1,77 @@
+package com.triptune.global.metrics;
+
+import com.triptune.global.config.VirtualThreadConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 pinning 감지
+ * synchronized 블록(JDBC 드라이버 등) 안에서 블로킹되어 캐리어 스레드를 점유한 경우 JFR 이벤트로 받아 로그, 메트릭 기록
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = VirtualThreadConfig.ENABLED_PROPERTY, havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int STACK_DEPTH = 8;
+
+    private final Counter pinnedCounter;
+    private final Duration threshold;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${app.backend.virtual-threads.pinned-threshold-ms:20}") long thresholdMillis) {
+        this.pinnedCounter = Counter.builder("triptune.virtualthreads.pinned")
+                .description("캐리어 스레드를 점유한 가상 스레드 블로킹 횟수")
+                .register(meterRegistry);
+        this.threshold = Duration.ofMillis(thresholdMillis);
+    }
+
+    @PostConstruct
+    public void start(){
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop(){
+        if (recordingStream != null){
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event){
+        pinnedCounter.increment();
+        log.warn("가상 스레드 pinning {}ms\n{}", event.getDuration().toMillis(), formatStackTrace(event));
+    }
+
+    private String formatStackTrace(RecordedEvent event){
+        if (event.getStackTrace() == null){
+            return "";
+        }
+
+        return event.getStackTrace().getFrames().stream()
+                .limit(STACK_DEPTH)
+                .map(this::formatFrame)
+                .collect(Collectors.joining("\n"));
+    }
+
+    private String formatFrame(RecordedFrame frame){
+        return "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,95 @@
+package com.triptune.global.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WebSocket 세션 수, STOMP 메시지 처리량 기록
+ * 수신 채널(clientInbound), 발신 채널(clientOutbound)에 각각 등록
+ */
+@Component
+public class WebSocketMetrics {
+
+    private static final String MESSAGE_METRIC_NAME = "triptune.websocket.messages";
+
+    private final MeterRegistry meterRegistry;
+    private final Set<String> sessionIds = ConcurrentHashMap.newKeySet();
+    private final Counter connectedCounter;
+    private final Counter disconnectedCounter;
+
+    public WebSocketMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("triptune.websocket.sessions.active", sessionIds, Set::size)
+                .description("연결된 WebSocket 세션 수")
+                .register(meterRegistry);
+
+        this.connectedCounter = Counter.builder("triptune.websocket.sessions")
+                .tag("event", "connected")
+                .register(meterRegistry);
+
+        this.disconnectedCounter = Counter.builder("triptune.websocket.sessions")
+                .tag("event", "disconnected")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event){
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+
+        if (sessionId != null && sessionIds.add(sessionId)){
+            connectedCounter.increment();
+        }
+    }
+
+    @EventListener
+    public void onDisconnected(SessionDisconnectEvent event){
+        // 같은 세션에 대해 종료 이벤트가 여러 번 발생할 수 있어 한 번만 집계
+        if (sessionIds.remove(event.getSessionId())){
+            disconnectedCounter.increment();
+        }
+    }
+
+    public ChannelInterceptor inboundInterceptor(){
+        return new MessageCountInterceptor("inbound");
+    }
+
+    public ChannelInterceptor outboundInterceptor(){
+        return new MessageCountInterceptor("outbound");
+    }
+
+
+    private class MessageCountInterceptor implements ChannelInterceptor {
+        private final String direction;
+
+        MessageCountInterceptor(String direction) {
+            this.direction = direction;
+        }
+
+        @Override
+        public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+            SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+
+            // 메시지 타입(CONNECT, SUBSCRIBE, MESSAGE 등) 은 고정된 값이므로 태그로 사용
+            Counter.builder(MESSAGE_METRIC_NAME)
+                    .tag("direction", direction)
+                    .tag("type", messageType == null ? "UNKNOWN" : messageType.name())
+                    .tag("result", ex == null && sent ? "success" : "failure")
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.triptune.global.service;
+
+import com.triptune.global.config.AsyncConfig;
+import com.triptune.global.enumclass.ErrorCode;
+import com.triptune.global.enumclass.ImageVariantType;
+import com.triptune.global.exception.FileBadRequestException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 업로드 이미지를 고정 크기 JPEG 로 변환해 S3 에 저장한다.
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private final S3Service s3Service;
+    private final Executor imageTaskExecutor;
+
+    @Value("${app.backend.image.max-pixels:40000000}")
+    private long maxPixels;
+
+    @Value("${app.backend.image.jpeg-quality:0.85}")
+    private float jpegQuality;
+
+    public ImageVariantService(S3Service s3Service, @Qualifier(AsyncConfig.IMAGE_TASK_EXECUTOR) Executor imageTaskExecutor) {
+        this.s3Service = s3Service;
+        this.imageTaskExecutor = imageTaskExecutor;
+    }
+
+
+    /**
+     * 디코딩한 원본으로 모든 크기의 이미지를 병렬로 생성, 업로드하고 크기별 URL 을 반환한다.
+     */
+    public Map<ImageVariantType, String> uploadVariants(BufferedImage source, String s3FileKey){
+        Map<ImageVariantType, CompletableFuture<String>> futures = new EnumMap<>(ImageVariantType.class);
+
+        for (ImageVariantType variantType : ImageVariantType.values()){
+            futures.put(variantType, CompletableFuture.supplyAsync(() -> {
+                byte[] content = encodeJpeg(resize(source, variantType.getMaxSize()));
+                return s3Service.uploadToS3(content, ImageVariantType.CONTENT_TYPE, variantType.createS3FileKey(s3FileKey));
+            }, imageTaskExecutor));
+        }
+
+        Map<ImageVariantType, String> variantUrls = new EnumMap<>(ImageVariantType.class);
+        futures.forEach((variantType, future) -> variantUrls.put(variantType, future.join()));
+
+        return variantUrls;
+    }
+
+    /**
+     * 긴 변을 maxSize 에 맞춰 비율을 유지하며 축소한다. 원본이 더 작으면 확대하지 않는다.
+     */
+    public BufferedImage resize(BufferedImage source, int maxSize){
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxSize / Math.max(width, height));
+
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        // JPEG 는 투명도를 지원하지 않으므로 RGB 로 변환하고 투명 영역은 흰색으로 채움
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, targetWidth, targetHeight, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return target;
+    }
+
+    /**
+     * 스트림에서 이미지를 디코딩한다. 스트림은 호출한 쪽에서 닫는다.
+     * ImageIO.createImageInputStream 은 기본 설정에서 스트림 전체를 임시 파일에 복사하므로 메모리 캐시 스트림을 직접 생성
+     */
+    public BufferedImage readImage(InputStream inputStream){
+        try (ImageInputStream imageInputStream = new MemoryCacheImageInputStream(inputStream)) {
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+
+            if (!readers.hasNext()){
+                throw new FileBadRequestException(ErrorCode.INVALID_EXTENSION);
+            }
+
+            ImageReader reader = readers.next();
+
+            try {
+                reader.setInput(imageInputStream, true, true);
+
+                // 디코딩 전에 크기를 확인해 비정상적으로 큰 이미지로 인한 메모리 사용 방지
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > maxPixels){
+                    throw new FileBadRequestException(ErrorCode.INVALID_EXTENSION);
+                }
+
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            log.error("이미지 읽기 실패: {}", e.getMessage());
+            throw new FileBadRequestException(ErrorCode.INVALID_EXTENSION);
+        }
+    }
+
+    private byte[] encodeJpeg(BufferedImage image){
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(jpegQuality);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지 변환 실패", e);
+        } finally {
+            writer.dispose();
+        }
+
+        return outputStream.toByteArray();
+    }
+}
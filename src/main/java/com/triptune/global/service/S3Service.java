@@ -1,45 +1,101 @@
 package com.triptune.global.service;
 
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.Headers;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.BucketLifecycleConfiguration;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
-import com.triptune.global.enumclass.ErrorCode;
-import com.triptune.global.exception.DataNotFoundException;
-import com.triptune.global.util.FileUtils;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.amazonaws.services.s3.model.lifecycle.LifecycleFilter;
+import com.amazonaws.services.s3.model.lifecycle.LifecyclePrefixPredicate;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.triptune.global.util.FileValidator;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 
+@Timed("triptune.s3")
 @Service
 @RequiredArgsConstructor
 @Transactional
 @Slf4j
 public class S3Service {
     private static final String PROFILE_DIR = "img/profile/";
+    public static final String PROFILE_STAGING_DIR = "img/profile/staging/";
 
     private final AmazonS3Client amazonS3Client;
+    private final TransferManager transferManager;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
 
-    public String uploadToS3(MultipartFile uploadFile, String s3FileKey){
-        ObjectMetadata metadata = FileUtils.generateMetadata(uploadFile);
+    /**
+     * 형식 검사에 사용한 스트림을 그대로 업로드해 파일을 다시 읽지 않는다.
+     */
+    public String uploadToS3(FileValidator.ValidatedFile validatedFile, String s3FileKey){
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(validatedFile.getSize());
+        metadata.setContentType(validatedFile.getMimeType());
+
+        return upload(validatedFile.getInputStream(), metadata, s3FileKey);
+    }
+
+    private String upload(InputStream inputStream, ObjectMetadata metadata, String s3FileKey){
+        try{
+            // 파일을 메모리에 올리지 않고 스트림으로 전송, 기준 크기 이상이면 multipart 업로드
+            PutObjectRequest putObjectRequest = new PutObjectRequest(
+                    bucket,
+                    s3FileKey,
+                    inputStream,
+                    metadata
+            ).withCannedAcl(CannedAccessControlList.PublicRead);
+
+            transferManager.upload(putObjectRequest).waitForUploadResult();
+
+            log.info("s3 이미지 업로드 성공: {}", s3FileKey);
+            return amazonS3Client.getUrl(bucket, s3FileKey).toString();
+        } catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+            log.error("S3 이미지 업로드 중단: {}", s3FileKey, e);
+            throw new AmazonS3Exception("s3 이미지 업로드 실패");
+        } catch (Exception e){
+            log.error("S3 이미지 업로드 실패: {}", s3FileKey, e);
+            throw new AmazonS3Exception("s3 이미지 업로드 실패");
+        }
+    }
+
+
+    public String uploadToS3(byte[] content, String contentType, String s3FileKey){
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(content.length);
+        metadata.setContentType(contentType);
 
         try{
             amazonS3Client.putObject(new PutObjectRequest(
                     bucket,
                     s3FileKey,
-                    uploadFile.getInputStream(),
+                    new ByteArrayInputStream(content),
                     metadata
             ).withCannedAcl(CannedAccessControlList.PublicRead));
 
@@ -51,6 +107,82 @@ public class S3Service {
         }
     }
 
+    /**
+     * 클라이언트가 S3 에 직접 업로드할 수 있는 PUT URL 을 발급한다.
+     * Content-Type 과 Content-Length 가 서명에 포함되므로 클라이언트는 발급 요청과 같은 형식, 크기의 파일만 업로드할 수 있다.
+     */
+    public String generatePresignedUploadUrl(String s3FileKey, String contentType, long contentLength, Date expiration){
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, s3FileKey, HttpMethod.PUT)
+                .withContentType(contentType)
+                .withExpiration(expiration);
+        request.putCustomRequestHeader(Headers.CONTENT_LENGTH, String.valueOf(contentLength));
+
+        return amazonS3Client.generatePresignedUrl(request).toString();
+    }
+
+    /**
+     * 검증이 끝난 객체를 공개 읽기 권한으로 복사하고 복사한 객체의 URL 을 반환한다.
+     */
+    public String copyToPublic(String sourceS3FileKey, String targetS3FileKey){
+        CopyObjectRequest request = new CopyObjectRequest(bucket, sourceS3FileKey, bucket, targetS3FileKey)
+                .withCannedAccessControlList(CannedAccessControlList.PublicRead);
+        amazonS3Client.copyObject(request);
+
+        return getObjectUrl(targetS3FileKey);
+    }
+
+    /**
+     * prefix 아래 객체를 일정 기간 후 만료시키는 lifecycle 규칙을 추가한다. 같은 id 의 규칙이 있으면 변경하지 않는다.
+     */
+    public void addExpirationRule(String ruleId, String prefix, int expirationDays){
+        BucketLifecycleConfiguration configuration = amazonS3Client.getBucketLifecycleConfiguration(bucket);
+        List<BucketLifecycleConfiguration.Rule> rules = configuration == null
+                ? new ArrayList<>()
+                : new ArrayList<>(configuration.getRules());
+
+        if (rules.stream().anyMatch(rule -> ruleId.equals(rule.getId()))){
+            return;
+        }
+
+        rules.add(new BucketLifecycleConfiguration.Rule()
+                .withId(ruleId)
+                .withFilter(new LifecycleFilter(new LifecyclePrefixPredicate(prefix)))
+                .withExpirationInDays(expirationDays)
+                .withStatus(BucketLifecycleConfiguration.ENABLED));
+
+        amazonS3Client.setBucketLifecycleConfiguration(bucket, new BucketLifecycleConfiguration(rules));
+    }
+
+    public ObjectMetadata getObjectMetadata(String s3FileKey){
+        try {
+            return amazonS3Client.getObjectMetadata(bucket, s3FileKey);
+        } catch (AmazonS3Exception e){
+            if (e.getStatusCode() == 404){
+                return null;
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * 파일 형식 확인을 위해 객체 앞부분만 range 요청으로 읽는다.
+     */
+    public byte[] readObjectHeader(String s3FileKey, int length){
+        GetObjectRequest request = new GetObjectRequest(bucket, s3FileKey).withRange(0, length - 1);
+
+        try (S3Object s3Object = amazonS3Client.getObject(request);
+             S3ObjectInputStream inputStream = s3Object.getObjectContent()) {
+            return inputStream.readNBytes(length);
+        } catch (IOException e){
+            log.error("S3 이미지 읽기 실패: {}", s3FileKey, e);
+            throw new AmazonS3Exception("s3 이미지 읽기 실패");
+        }
+    }
+
+    public String getObjectUrl(String s3FileKey){
+        return amazonS3Client.getUrl(bucket, s3FileKey).toString();
+    }
 
     public String generateS3FileName(String fileTag, String extension){
         String uuid = UUID.randomUUID().toString().substring(0, 8);
@@ -59,25 +191,22 @@ public class S3Service {
     }
 
     public void deleteS3File(String s3FileKey) {
-        if(!isObjectExist(s3FileKey)){
-            throw new DataNotFoundException(ErrorCode.PROFILE_IMAGE_NOT_FOUND);
-        }
-
+        // S3 삭제는 객체가 없어도 성공하므로 존재 여부를 따로 조회하지 않음
         try{
             amazonS3Client.deleteObject(bucket, s3FileKey);
             log.info("S3 이미지 삭제 성공 : {}", s3FileKey);
         } catch(Exception e){
             log.error("S3 이미지 삭제 실패 : {}", e.getMessage());
-            throw new AmazonS3Exception("s3 이미지 업로드 실패");
+            throw new AmazonS3Exception("s3 이미지 삭제 실패");
         }
 
     }
 
-    public boolean isObjectExist(String s3FileKey){
-        return amazonS3Client.doesObjectExist(bucket, s3FileKey);
-    }
-
     public String generateS3FileKey(String savedFileName){
         return PROFILE_DIR + savedFileName;
     }
+
+    public String generateStagingS3FileKey(String savedFileName){
+        return PROFILE_STAGING_DIR + savedFileName;
+    }
 }
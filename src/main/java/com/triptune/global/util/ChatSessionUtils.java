@@ -0,0 +1,51 @@
+package com.triptune.global.util;
+
+import com.triptune.global.enumclass.ErrorCode;
+import com.triptune.schedule.dto.ChatPrincipal;
+import com.triptune.schedule.enumclass.AttendeePermission;
+import com.triptune.schedule.exception.CustomJwtUnAuthorizedChatException;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class ChatSessionUtils {
+    private static final String SCHEDULE_PERMISSIONS_KEY = "schedulePermissions";
+    private static final Pattern CHAT_DESTINATION_PATTERN = Pattern.compile("^/sub/schedules/(\\d+)/chats$");
+
+    public static ChatPrincipal getChatPrincipal(Principal user){
+        if (!(user instanceof ChatPrincipal chatPrincipal)){
+            throw new CustomJwtUnAuthorizedChatException(ErrorCode.UNAUTHORIZED_ACCESS);
+        }
+
+        return chatPrincipal;
+    }
+
+    public static Long extractScheduleId(String destination){
+        if (destination == null){
+            return null;
+        }
+
+        Matcher matcher = CHAT_DESTINATION_PATTERN.matcher(destination);
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : null;
+    }
+
+    public static void saveSchedulePermission(Map<String, Object> sessionAttributes, Long scheduleId, AttendeePermission permission){
+        getSchedulePermissions(sessionAttributes).put(scheduleId, permission);
+    }
+
+    public static AttendeePermission getSchedulePermission(Map<String, Object> sessionAttributes, Long scheduleId){
+        if (sessionAttributes == null || scheduleId == null){
+            return null;
+        }
+
+        return getSchedulePermissions(sessionAttributes).get(scheduleId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Long, AttendeePermission> getSchedulePermissions(Map<String, Object> sessionAttributes){
+        return (Map<Long, AttendeePermission>) sessionAttributes.computeIfAbsent(SCHEDULE_PERMISSIONS_KEY, key -> new ConcurrentHashMap<Long, AttendeePermission>());
+    }
+}
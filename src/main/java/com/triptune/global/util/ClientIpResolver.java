@@ -0,0 +1,73 @@
+package com.triptune.global.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 요청한 클라이언트 IP 확인
+ * 신뢰하는 프록시(로드밸런서)에서 온 요청만 X-Forwarded-For 를 사용하고, 뒤에서부터 신뢰하는 프록시를 제외한 첫 IP 를 클라이언트 IP 로 판단
+ * 클라이언트가 직접 보낸 X-Forwarded-For 값은 프록시가 추가한 IP 보다 앞에 있으므로 사용되지 않음
+ */
+@Component
+public class ClientIpResolver {
+
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+    // 호스트 이름으로 DNS 조회하지 않도록 IP 형식만 신뢰하는 프록시인지 확인
+    private static final Pattern IP_ADDRESS_PATTERN = Pattern.compile("^[0-9.]+$|^[0-9a-fA-F:.]*:[0-9a-fA-F:.]*$");
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public ClientIpResolver(@Value("${app.backend.trusted-proxies:10.0.0.0/8,172.16.0.0/12,192.168.0.0/16,127.0.0.1/32,::1/128}") List<String> trustedProxies) {
+        this.trustedProxies = trustedProxies.stream()
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+
+    public String resolve(HttpServletRequest request){
+        String remoteAddr = request.getRemoteAddr();
+        String forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+
+        if (forwardedFor == null || forwardedFor.isBlank() || !isTrustedProxy(remoteAddr)){
+            return remoteAddr;
+        }
+
+        String clientIp = remoteAddr;
+        String[] addresses = forwardedFor.split(",");
+
+        for (int i = addresses.length - 1; i >= 0; i--){
+            String address = addresses[i].trim();
+
+            if (address.isEmpty()){
+                continue;
+            }
+
+            clientIp = address;
+
+            if (!isTrustedProxy(address)){
+                break;
+            }
+        }
+
+        return clientIp;
+    }
+
+    private boolean isTrustedProxy(String address){
+        if (address == null || !IP_ADDRESS_PATTERN.matcher(address).matches()){
+            return false;
+        }
+
+        try {
+            return trustedProxies.stream().anyMatch(matcher -> matcher.matches(address));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -1,21 +1,21 @@
 package com.triptune.global.util;
 
-import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.triptune.global.enumclass.ErrorCode;
 import com.triptune.global.exception.FileBadRequestException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.tika.Tika;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.util.List;
 
 @Slf4j
 public class FileUtils {
 
+    // Tika 는 thread-safe 하므로 호출마다 생성하지 않고 공유
+    private static final Tika TIKA = new Tika();
+    private static final List<String> VALID_IMAGE_TYPES = List.of("image/jpeg", "image/jpg", "image/png");
+
     public static String getExtension(String fileName){
         int dotIndex = fileName.lastIndexOf(".");
-        System.out.println(dotIndex);
 
         if(dotIndex > 0 && dotIndex < fileName.length() - 1){
             return fileName.substring(dotIndex + 1);
@@ -24,26 +24,25 @@ public class FileUtils {
         }
     }
 
-    public static boolean isValidExtension(MultipartFile file){
-        List<String> validTypes = List.of("image/jpeg", "image/jpg", "image/png");
-
-        try {
-            String mimeType = new Tika().detect(file.getInputStream());
-
-            return validTypes.stream()
-                    .anyMatch(type -> type.equalsIgnoreCase(mimeType));
-
-        } catch (IOException e) {
-            log.error("isValidException 파일 MIME 타입 검사 중 오류 발생: {}", e.getMessage());
-            return false;
-        }
+    /**
+     * 파일 앞부분(magic bytes)으로 이미지 형식을 확인해 확장자를 반환한다. 허용되지 않은 형식이면 null 을 반환한다.
+     */
+    public static String detectImageExtension(byte[] header){
+        String mimeType = detectMimeType(header);
+
+        return switch (mimeType) {
+            case "image/jpeg", "image/jpg" -> "jpg";
+            case "image/png" -> "png";
+            default -> null;
+        };
     }
 
-    public static ObjectMetadata generateMetadata(MultipartFile uploadFile){
-        ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentLength(uploadFile.getSize());
-        metadata.setContentType(uploadFile.getContentType());
+    public static String detectMimeType(byte[] header){
+        return TIKA.detect(header);
+    }
 
-        return metadata;
+    public static boolean isValidImageType(String mimeType){
+        return VALID_IMAGE_TYPES.stream()
+                .anyMatch(type -> type.equalsIgnoreCase(mimeType));
     }
 }
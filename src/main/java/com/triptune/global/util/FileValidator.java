@@ -0,0 +1,81 @@
+package com.triptune.global.util;
+
+import com.triptune.global.enumclass.ErrorCode;
+import com.triptune.global.exception.FileBadRequestException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 업로드 파일의 앞부분만 읽어 형식을 확인하고, 같은 스트림을 처음 위치로 되돌려 업로드에 사용할 수 있도록 반환한다.
+ */
+@Slf4j
+@Component
+public class FileValidator {
+
+    public static final int HEADER_SIZE = 4 * 1024;
+
+    public ValidatedFile validateImage(MultipartFile file){
+        InputStream inputStream = null;
+
+        try {
+            inputStream = new BufferedInputStream(file.getInputStream(), HEADER_SIZE);
+            inputStream.mark(HEADER_SIZE);
+
+            byte[] header = inputStream.readNBytes(HEADER_SIZE);
+            inputStream.reset();
+
+            String mimeType = FileUtils.detectMimeType(header);
+
+            if (!FileUtils.isValidImageType(mimeType)){
+                throw new FileBadRequestException(ErrorCode.INVALID_EXTENSION);
+            }
+
+            return new ValidatedFile(inputStream, mimeType, file.getSize());
+        } catch (IOException e) {
+            log.error("파일 MIME 타입 검사 중 오류 발생: {}", e.getMessage());
+            closeQuietly(inputStream);
+            throw new FileBadRequestException(ErrorCode.INVALID_EXTENSION);
+        } catch (RuntimeException e) {
+            closeQuietly(inputStream);
+            throw e;
+        }
+    }
+
+    private static void closeQuietly(InputStream inputStream){
+        if (inputStream == null){
+            return;
+        }
+
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            log.warn("파일 스트림 종료 실패: {}", e.getMessage());
+        }
+    }
+
+
+    @Getter
+    public static class ValidatedFile implements Closeable {
+        private final InputStream inputStream;
+        private final String mimeType;
+        private final long size;
+
+        private ValidatedFile(InputStream inputStream, String mimeType, long size) {
+            this.inputStream = inputStream;
+            this.mimeType = mimeType;
+            this.size = size;
+        }
+
+        @Override
+        public void close() {
+            closeQuietly(inputStream);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import com.triptune.global.service.CustomUserDetailsService;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.annotation.Timed;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -59,11 +60,12 @@ public class JwtUtils {
     }
 
 
+    @Timed("triptune.jwt.validate")
     public boolean validateToken(String token) {
         try {
             Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
 
-            if(redisUtils.existData(token)){
+            if(redisUtils.isLogoutToken(token)){
                 log.error("Already logged out user");
                 throw new CustomJwtUnAuthorizedException(ErrorCode.BLACKLIST_TOKEN);
             }
@@ -88,7 +90,7 @@ public class JwtUtils {
         try {
             Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
 
-            if(redisUtils.existData(token)){
+            if(redisUtils.isLogoutToken(token)){
                 log.info("Already logged out user");
                 throw new CustomJwtUnAuthorizedChatException(ErrorCode.BLACKLIST_TOKEN);
             }
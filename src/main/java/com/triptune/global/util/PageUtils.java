@@ -11,7 +11,7 @@ public class PageUtils {
     private static final int SCHEDULE_MODAL_SIZE = 3;
     private static final int BOOKMARK_SIZE = 8;
     private static final int TRAVEL_SIZE = 4;
-    private static final int CHAT_SIZE = 20;
+    public static final int CHAT_SIZE = 20;
 
     public static Pageable defaultPageable(int page){
         return PageRequest.of(page - DEFAULT_PAGE, DEFAULT_SIZE);
@@ -0,0 +1,70 @@
+package com.triptune.global.util;
+
+import com.triptune.global.enumclass.RedisKeyType;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Redis 키 생성
+ * - 짧은 접두사 + 문자열 연결로 생성 (String.format 사용하지 않음)
+ * - JWT 처럼 긴 토큰은 SHA-256 앞 16바이트를 Base64(URL) 로 인코딩한 22자 키로 변환
+ * legacy* 는 변경 전 키 형식으로, 이전 키가 만료될 때까지 RedisUtils 에서 함께 조회
+ *
+ * 아래 키는 이 클래스를 거치지 않고 각 서비스에서 직접 생성한다.
+ * 키가 id 처럼 짧아 줄일 이득이 작고, Lua 스크립트나 패턴 조회가 접두사에 의존하므로 형식을 바꾸지 않는다.
+ * - rate:* : EmailRateLimiter, 이메일·IP 별 요청 수 (Lua 스크립트로 증가)
+ * - chat:tail:* : ChatTailCache, 일정별 최근 채팅 메시지
+ * - member:profile:* : MemberProfileCacheService, 회원 프로필 캐시
+ * - profile:upload:* : ProfileImageService, presigned URL 업로드 대기 정보
+ * - member:deactivation:* : DeactivationJobService, 회원 탈퇴 작업 상태
+ */
+public class RedisKeyCodec {
+
+    private static final String EMAIL_PREFIX = "e:";
+    private static final String LOGOUT_TOKEN_PREFIX = "lo:";
+    private static final String PASSWORD_TOKEN_PREFIX = "pw:";
+    private static final String LEGACY_EMAIL_PREFIX = "email:";
+
+    private static final int DIGEST_BYTES = 16;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    // MessageDigest 는 thread-safe 하지 않으므로 스레드별로 재사용
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(RedisKeyCodec::createDigest);
+
+    public static String emailKey(RedisKeyType keyType, String email){
+        return EMAIL_PREFIX + keyType.getShortKey() + ':' + email;
+    }
+
+    public static String logoutTokenKey(String accessToken){
+        return LOGOUT_TOKEN_PREFIX + digest(accessToken);
+    }
+
+    public static String passwordTokenKey(String passwordToken){
+        return PASSWORD_TOKEN_PREFIX + digest(passwordToken);
+    }
+
+    public static String legacyEmailKey(RedisKeyType keyType, String email){
+        return LEGACY_EMAIL_PREFIX + email + ':' + keyType.getKeyType();
+    }
+
+    public static String legacyTokenKey(String token){
+        // 변경 전에는 토큰 자체를 키로 사용
+        return token;
+    }
+
+    static String digest(String value){
+        byte[] hash = SHA_256.get().digest(value.getBytes(StandardCharsets.UTF_8));
+        return ENCODER.encodeToString(Arrays.copyOf(hash, DIGEST_BYTES));
+    }
+
+    private static MessageDigest createDigest(){
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
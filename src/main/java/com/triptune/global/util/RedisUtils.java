@@ -1,22 +1,42 @@
 package com.triptune.global.util;
 
 import com.triptune.global.enumclass.RedisKeyType;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 
+@Timed("triptune.redis")
 @RequiredArgsConstructor
 @Service
 public class RedisUtils {
 
+    private static final RedisScript<Long> ISSUE_AUTH_CODE_SCRIPT = createScript("scripts/email-issue-code.lua", Long.class);
+    private static final RedisScript<Long> VERIFY_AUTH_CODE_SCRIPT = createScript("scripts/email-verify-code.lua", Long.class);
+    private static final RedisScript<String> GET_AND_DELETE_SCRIPT = createScript("scripts/get-and-delete.lua", String.class);
+
+    private static final String LOGOUT_VALUE = "logout";
+
     private final StringRedisTemplate template;
 
+    // 키 형식 변경 전 저장된 키가 만료될 때까지 이전 형식의 키도 함께 조회 (쓰기는 새 형식만)
+    @Value("${app.backend.redis.legacy-key-read:true}")
+    private boolean legacyKeyRead;
+
     public boolean existEmailData(RedisKeyType keyType, String email){
-        String key = createEmailKey(keyType, email);
-        return existData(key);
+        return existAnyData(emailKeys(keyType, email));
     }
 
     public boolean existData(String key){
@@ -24,17 +44,28 @@ public class RedisUtils {
     }
 
     public void deleteEmailData(RedisKeyType keyType, String email){
-        String key = createEmailKey(keyType, email);
-        deleteData(key);
+        deleteAllData(emailKeys(keyType, email));
     }
 
     public void deleteData(String key){
         template.delete(key);
     }
 
+    public void deleteAllEmailData(String email){
+        List<String> keys = Arrays.stream(RedisKeyType.values())
+                .flatMap(keyType -> emailKeys(keyType, email).stream())
+                .toList();
+
+        deleteAllData(keys);
+    }
+
+    public void deleteAllData(Collection<String> keys){
+        // DEL 은 여러 키를 한 번에 삭제
+        template.delete(keys);
+    }
+
     public void saveEmailData(RedisKeyType keyType, String email, String value, long duration){
-        String key = createEmailKey(keyType, email);
-        saveExpiredData(key, value, duration);
+        saveExpiredData(RedisKeyCodec.emailKey(keyType, email), value, duration);
     }
 
     public void saveExpiredData(String key, String value, long duration){
@@ -44,8 +75,10 @@ public class RedisUtils {
     }
 
     public String getEmailData(RedisKeyType keyType, String email){
-        String key = createEmailKey(keyType, email);
-        return getData(key);
+        return getAllData(emailKeys(keyType, email)).stream()
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
     }
 
     public String getData(String key){
@@ -53,9 +86,82 @@ public class RedisUtils {
         return valueOperations.get(key);
     }
 
-    public String createEmailKey(RedisKeyType keyType, String email){
-        return String.format("email:%s:%s", email, keyType.getKeyType());
+    /**
+     * 여러 키 값을 한 번에 조회 (MGET), 없는 키는 null
+     */
+    public List<String> getAllData(List<String> keys){
+        return template.opsForValue().multiGet(keys);
     }
 
+    public void saveLogoutToken(String accessToken, long duration){
+        saveExpiredData(RedisKeyCodec.logoutTokenKey(accessToken), LOGOUT_VALUE, duration);
+    }
+
+    public boolean isLogoutToken(String accessToken){
+        return existAnyData(tokenKeys(RedisKeyCodec.logoutTokenKey(accessToken), accessToken));
+    }
+
+    public void savePasswordToken(String passwordToken, String email, long duration){
+        saveExpiredData(RedisKeyCodec.passwordTokenKey(passwordToken), email, duration);
+    }
+
+    /**
+     * 비밀번호 변경 토큰에 저장된 이메일을 조회하고 토큰 삭제 (1회용)
+     */
+    public String getAndDeletePasswordToken(String passwordToken){
+        return template.execute(GET_AND_DELETE_SCRIPT, tokenKeys(RedisKeyCodec.passwordTokenKey(passwordToken), passwordToken));
+    }
 
+    /**
+     * 인증 코드가 일치하면 코드를 삭제하고 인증 완료 상태를 저장한다. (조회, 삭제, 저장을 한 번에 처리)
+     */
+    public boolean verifyEmailAuthCode(String email, String authCode, long verifiedDuration){
+        List<String> keys = new ArrayList<>(List.of(
+                RedisKeyCodec.emailKey(RedisKeyType.AUTH_CODE, email),
+                RedisKeyCodec.emailKey(RedisKeyType.VERIFIED, email)
+        ));
+
+        if (legacyKeyRead){
+            keys.add(RedisKeyCodec.legacyEmailKey(RedisKeyType.AUTH_CODE, email));
+        }
+
+        Long result = template.execute(VERIFY_AUTH_CODE_SCRIPT, keys, authCode, String.valueOf(verifiedDuration));
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 재발송 대기 중이 아니면 인증 코드를 저장하고 true 를 반환한다.
+     * 재발송 대기 중이면 기존 인증 코드를 유지하고 false 를 반환한다.
+     */
+    public boolean issueEmailAuthCode(String email, String authCode, long duration, long cooldown){
+        List<String> keys = List.of(
+                RedisKeyCodec.emailKey(RedisKeyType.AUTH_CODE, email),
+                RedisKeyCodec.emailKey(RedisKeyType.RESEND_COOLDOWN, email)
+        );
+
+        Long result = template.execute(ISSUE_AUTH_CODE_SCRIPT, keys, authCode, String.valueOf(duration), String.valueOf(cooldown));
+        return result != null && result == 1L;
+    }
+
+    private boolean existAnyData(List<String> keys){
+        // EXISTS 는 여러 키를 한 번에 확인
+        Long count = template.countExistingKeys(keys);
+        return count != null && count > 0;
+    }
+
+    private List<String> emailKeys(RedisKeyType keyType, String email){
+        String key = RedisKeyCodec.emailKey(keyType, email);
+        return legacyKeyRead ? List.of(key, RedisKeyCodec.legacyEmailKey(keyType, email)) : List.of(key);
+    }
+
+    private List<String> tokenKeys(String key, String token){
+        return legacyKeyRead ? List.of(key, RedisKeyCodec.legacyTokenKey(token)) : List.of(key);
+    }
+
+    private static <T> RedisScript<T> createScript(String path, Class<T> resultType){
+        DefaultRedisScript<T> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(path));
+        script.setResultType(resultType);
+        return script;
+    }
 }
@@ -1,5 +1,8 @@
 package com.triptune.global.util;
 
+import com.triptune.schedule.dto.ChatPrincipal;
+import com.triptune.schedule.enumclass.AttendeePermission;
+import com.triptune.schedule.service.ChatService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -7,6 +10,7 @@ import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -15,10 +19,15 @@ import org.springframework.stereotype.Component;
 public class StompHandler implements ChannelInterceptor {
 
     private final JwtUtils jwtUtils;
+    private final ChatService chatService;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
-        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+
+        if (accessor == null){
+            return message;
+        }
 
         if (StompCommand.CONNECT == accessor.getCommand()) {
             log.info("WebSocket 연결 요청: {}", accessor.getSessionId());
@@ -26,7 +35,20 @@ public class StompHandler implements ChannelInterceptor {
             String token = jwtUtils.resolveBearerToken(accessor.getFirstNativeHeader("Authorization"));
             jwtUtils.validateChatToken(token);
 
+            // 세션에 사용자 정보 저장 -> 메시지 전송 시 사용자 조회 생략
+            String userId = jwtUtils.parseClaims(token).getSubject();
+            accessor.setUser(chatService.createChatPrincipal(userId));
+
             log.info("WebSocket 연결 완료: {}", accessor.getSessionId());
+        } else if (StompCommand.SUBSCRIBE == accessor.getCommand()) {
+            Long scheduleId = ChatSessionUtils.extractScheduleId(accessor.getDestination());
+
+            if (scheduleId != null){
+                // 구독 시 한 번만 참석자 권한 확인 후 세션에 저장
+                ChatPrincipal principal = ChatSessionUtils.getChatPrincipal(accessor.getUser());
+                AttendeePermission permission = chatService.getAttendeePermission(scheduleId, principal.getUserId());
+                ChatSessionUtils.saveSchedulePermission(accessor.getSessionAttributes(), scheduleId, permission);
+            }
         }
 
         return message;
@@ -0,0 +1,95 @@
+package com.triptune.global.util;
+
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.concurrent.ListenableFuture;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 작업마다 가상 스레드를 생성해 실행하는 TaskExecutor (Java 21 이상)
+ * ChannelRegistration 이 ThreadPoolTaskExecutor 만 받으므로 상속하지만 스레드 풀은 사용하지 않는다.
+ * 동시 실행 수 제한은 가상 스레드 안에서 semaphore 로 대기하므로 작업을 제출하는 스레드는 막히지 않는다.
+ */
+public class VirtualThreadTaskExecutor extends ThreadPoolTaskExecutor {
+
+    private final ExecutorService executorService;
+    private final TaskExecutorAdapter taskExecutor;
+    private final Semaphore permits;
+
+    /**
+     * @param concurrencyLimit 동시 실행 수, 0 이하이면 제한하지 않음
+     */
+    public VirtualThreadTaskExecutor(String threadNamePrefix, int concurrencyLimit) {
+        this.executorService = VirtualThreadUtils.newThreadPerTaskExecutor(threadNamePrefix);
+        this.taskExecutor = new TaskExecutorAdapter(executorService);
+        this.permits = concurrencyLimit > 0 ? new Semaphore(concurrencyLimit) : null;
+        setThreadNamePrefix(threadNamePrefix);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        taskExecutor.execute(limit(task));
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        return taskExecutor.submit(limit(task));
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        return taskExecutor.submit(limit(task));
+    }
+
+    @Override
+    public ListenableFuture<?> submitListenable(Runnable task) {
+        return taskExecutor.submitListenable(limit(task));
+    }
+
+    @Override
+    public <T> ListenableFuture<T> submitListenable(Callable<T> task) {
+        return taskExecutor.submitListenable(limit(task));
+    }
+
+    @Override
+    public void shutdown() {
+        super.shutdown();
+        executorService.shutdown();
+    }
+
+    private Runnable limit(Runnable task){
+        if (permits == null){
+            return task;
+        }
+
+        return () -> {
+            permits.acquireUninterruptibly();
+
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    private <T> Callable<T> limit(Callable<T> task){
+        if (permits == null){
+            return task;
+        }
+
+        return () -> {
+            permits.acquire();
+
+            try {
+                return task.call();
+            } finally {
+                permits.release();
+            }
+        };
+    }
+}
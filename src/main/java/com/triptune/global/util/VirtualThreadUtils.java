@@ -0,0 +1,69 @@
+package com.triptune.global.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 가상 스레드 생성 (Java 21 이상)
+ * 기본 빌드는 Java 17 이므로 API 를 리플렉션으로 호출하고, 지원하지 않는 런타임에서는 예외 발생
+ */
+public class VirtualThreadUtils {
+
+    private static final Method OF_VIRTUAL = findMethod(Thread.class, "ofVirtual");
+    // 구현 클래스는 패키지 private 이므로 공개 인터페이스(Thread.Builder)의 메서드로 호출
+    private static final Class<?> BUILDER_TYPE = findClass("java.lang.Thread$Builder");
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR = findMethod(Executors.class, "newThreadPerTaskExecutor", ThreadFactory.class);
+
+    public static boolean isSupported(){
+        return OF_VIRTUAL != null && BUILDER_TYPE != null && NEW_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    public static ThreadFactory threadFactory(String threadNamePrefix){
+        checkSupported();
+
+        try {
+            Object builder = OF_VIRTUAL.invoke(null);
+            builder = BUILDER_TYPE.getMethod("name", String.class, long.class).invoke(builder, threadNamePrefix, 0L);
+            return (ThreadFactory) BUILDER_TYPE.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("가상 스레드 팩토리 생성 실패", e);
+        }
+    }
+
+    /**
+     * 작업마다 가상 스레드를 생성하는 Executor
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String threadNamePrefix){
+        ThreadFactory threadFactory = threadFactory(threadNamePrefix);
+
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("가상 스레드 Executor 생성 실패", e);
+        }
+    }
+
+    private static void checkSupported(){
+        if (!isSupported()){
+            throw new IllegalStateException("가상 스레드는 Java 21 이상에서 사용할 수 있습니다. (현재 " + Runtime.version() + ")");
+        }
+    }
+
+    private static Class<?> findClass(String name){
+        try {
+            return Class.forName(name);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static Method findMethod(Class<?> type, String name, Class<?>... parameterTypes){
+        try {
+            return type.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -9,6 +9,8 @@ import com.triptune.global.response.pagination.ApiPageResponse;
 import com.triptune.global.util.JwtUtils;
 import com.triptune.global.util.SecurityUtils;
 import com.triptune.member.dto.request.*;
+import com.triptune.member.dto.response.DeactivateResponse;
+import com.triptune.member.dto.response.DeactivationJobResponse;
 import com.triptune.member.dto.response.FindIdResponse;
 import com.triptune.member.dto.response.LoginResponse;
 import com.triptune.member.dto.response.MemberInfoResponse;
@@ -20,7 +22,6 @@ import com.triptune.travel.dto.response.PlaceBookmarkResponse;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.mail.MessagingException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -84,7 +85,7 @@ public class MemberController {
 
     @PostMapping("/find-password")
     @Operation(summary = "비밀번호 찾기", description = "비밀번호 찾기를 요청합니다. 비밀번호 변경 화면으로 연결되는 링크가 이메일을 통해서 제공됩니다.")
-    public ApiResponse<?> findPassword(@Valid @RequestBody FindPasswordRequest findPasswordRequest) throws MessagingException {
+    public ApiResponse<?> findPassword(@Valid @RequestBody FindPasswordRequest findPasswordRequest) {
         memberService.findPassword(findPasswordRequest);
         return ApiResponse.okResponse();
     }
@@ -156,11 +157,18 @@ public class MemberController {
 
     @PatchMapping("/deactivate")
     @Operation(summary = "회원 탈퇴", description = "회원을 탈퇴합니다.")
-    public ApiResponse<Void> deactivateMember(HttpServletRequest request, @Valid @RequestBody DeactivateRequest deactivateRequest){
+    public ApiResponse<DeactivateResponse> deactivateMember(HttpServletRequest request, @Valid @RequestBody DeactivateRequest deactivateRequest){
         String accessToken = jwtUtils.resolveToken(request);
         String userId = SecurityUtils.getCurrentUserId();
 
-        memberService.deactivateMember(accessToken, userId, deactivateRequest);
-        return ApiResponse.okResponse();
+        DeactivateResponse response = memberService.deactivateMember(accessToken, userId, deactivateRequest);
+        return ApiResponse.dataResponse(response);
+    }
+
+    @GetMapping("/deactivate/jobs/{jobId}")
+    @Operation(summary = "회원 탈퇴 처리 상태 조회", description = "작성한 일정이 많아 백그라운드에서 진행 중인 탈퇴 처리 상태를 조회합니다.")
+    public ApiResponse<DeactivationJobResponse> getDeactivationJob(@PathVariable(name = "jobId") String jobId){
+        DeactivationJobResponse response = memberService.getDeactivationJob(jobId);
+        return ApiResponse.dataResponse(response);
     }
 }
@@ -0,0 +1,27 @@
+package com.triptune.member.dto.response;
+
+import com.triptune.member.enumclass.DeactivationJobStatus;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class DeactivateResponse {
+    private String jobId;
+    private DeactivationJobStatus status;
+
+    @Builder
+    public DeactivateResponse(String jobId, DeactivationJobStatus status) {
+        this.jobId = jobId;
+        this.status = status;
+    }
+
+    public static DeactivateResponse completed(){
+        return new DeactivateResponse(null, DeactivationJobStatus.COMPLETED);
+    }
+
+    public static DeactivateResponse pending(String jobId){
+        return new DeactivateResponse(jobId, DeactivationJobStatus.PENDING);
+    }
+}
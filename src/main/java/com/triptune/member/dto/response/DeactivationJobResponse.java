@@ -0,0 +1,23 @@
+package com.triptune.member.dto.response;
+
+import com.triptune.member.enumclass.DeactivationJobStatus;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class DeactivationJobResponse {
+    private String jobId;
+    private DeactivationJobStatus status;
+    private int totalSchedules;
+    private int deletedSchedules;
+
+    @Builder
+    public DeactivationJobResponse(String jobId, DeactivationJobStatus status, int totalSchedules, int deletedSchedules) {
+        this.jobId = jobId;
+        this.status = status;
+        this.totalSchedules = totalSchedules;
+        this.deletedSchedules = deletedSchedules;
+    }
+}
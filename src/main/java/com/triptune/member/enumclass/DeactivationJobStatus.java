@@ -0,0 +1,5 @@
+package com.triptune.member.enumclass;
+
+public enum DeactivationJobStatus {
+    PENDING, RUNNING, COMPLETED, FAILED
+}
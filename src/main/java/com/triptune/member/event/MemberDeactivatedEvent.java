@@ -0,0 +1,11 @@
+package com.triptune.member.event;
+
+import java.util.List;
+
+/**
+ * 회원 탈퇴 후 백그라운드 삭제 이벤트
+ * @param jobId 진행 상태 조회용 작업 아이디
+ * @param scheduleIds 탈퇴 회원이 작성한 일정
+ */
+public record MemberDeactivatedEvent(String jobId, List<Long> scheduleIds) {
+}
@@ -0,0 +1,49 @@
+package com.triptune.member.event;
+
+import com.triptune.global.config.AsyncConfig;
+import com.triptune.member.enumclass.DeactivationJobStatus;
+import com.triptune.member.service.DeactivationJobService;
+import com.triptune.schedule.service.ScheduleBulkDeleteService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberDeactivationEventListener {
+
+    private final ScheduleBulkDeleteService scheduleBulkDeleteService;
+    private final DeactivationJobService deactivationJobService;
+
+    @Async(AsyncConfig.STORAGE_TASK_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void deleteSchedules(MemberDeactivatedEvent event){
+        List<Long> scheduleIds = event.scheduleIds();
+        int chunkSize = ScheduleBulkDeleteService.CHUNK_SIZE;
+
+        try {
+            // 청크마다 별도 트랜잭션으로 삭제해 락 보유 시간을 줄이고 진행 상태 갱신
+            for (int from = 0; from < scheduleIds.size(); from += chunkSize){
+                int to = Math.min(from + chunkSize, scheduleIds.size());
+                scheduleBulkDeleteService.deleteSchedules(scheduleIds.subList(from, to));
+                deactivationJobService.updateProgress(event.jobId(), to);
+            }
+
+            deactivationJobService.updateStatus(event.jobId(), DeactivationJobStatus.COMPLETED);
+        } catch (Exception e) {
+            log.error("탈퇴 회원 일정 삭제 실패 : {}", event.jobId(), e);
+            deactivationJobService.updateStatus(event.jobId(), DeactivationJobStatus.FAILED);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void cancel(MemberDeactivatedEvent event){
+        deactivationJobService.updateStatus(event.jobId(), DeactivationJobStatus.FAILED);
+    }
+}
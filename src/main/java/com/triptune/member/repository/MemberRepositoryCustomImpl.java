@@ -28,7 +28,7 @@ public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
                 .select(Projections.constructor(MemberProfileResponse.class,
                                 member.memberId,
                                 member.nickname,
-                                member.profileImage.s3ObjectUrl))
+                                profileImage.smallObjectUrl.coalesce(profileImage.s3ObjectUrl)))
                 .from(member)
                 .leftJoin(member.profileImage, profileImage)
                 .where(member.memberId.in(memberIds))
@@ -0,0 +1,77 @@
+package com.triptune.member.service;
+
+import com.triptune.global.enumclass.ErrorCode;
+import com.triptune.global.exception.DataNotFoundException;
+import com.triptune.member.dto.response.DeactivationJobResponse;
+import com.triptune.member.enumclass.DeactivationJobStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 회원 탈퇴 백그라운드 삭제 작업의 진행 상태 (Redis hash)
+ */
+@Service
+@RequiredArgsConstructor
+public class DeactivationJobService {
+
+    private static final String KEY_PREFIX = "member:deactivation:";
+    private static final String STATUS = "status";
+    private static final String TOTAL = "total";
+    private static final String DELETED = "deleted";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${app.backend.member.deactivation.job-ttl-seconds:86400}")
+    private long jobTtlSeconds;
+
+
+    public String createJob(int totalSchedules){
+        String jobId = UUID.randomUUID().toString();
+        String key = createKey(jobId);
+
+        redisTemplate.opsForHash().putAll(key, Map.of(
+                STATUS, DeactivationJobStatus.PENDING.name(),
+                TOTAL, String.valueOf(totalSchedules),
+                DELETED, "0"
+        ));
+        redisTemplate.expire(key, Duration.ofSeconds(jobTtlSeconds));
+
+        return jobId;
+    }
+
+    public void updateProgress(String jobId, int deletedSchedules){
+        redisTemplate.opsForHash().putAll(createKey(jobId), Map.of(
+                STATUS, DeactivationJobStatus.RUNNING.name(),
+                DELETED, String.valueOf(deletedSchedules)
+        ));
+    }
+
+    public void updateStatus(String jobId, DeactivationJobStatus status){
+        redisTemplate.opsForHash().put(createKey(jobId), STATUS, status.name());
+    }
+
+    public DeactivationJobResponse getJob(String jobId){
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(createKey(jobId));
+
+        if (entries.isEmpty()){
+            throw new DataNotFoundException(ErrorCode.DEACTIVATION_JOB_NOT_FOUND);
+        }
+
+        return DeactivationJobResponse.builder()
+                .jobId(jobId)
+                .status(DeactivationJobStatus.valueOf((String) entries.get(STATUS)))
+                .totalSchedules(Integer.parseInt((String) entries.get(TOTAL)))
+                .deletedSchedules(Integer.parseInt((String) entries.get(DELETED)))
+                .build();
+    }
+
+    private String createKey(String jobId){
+        return KEY_PREFIX + jobId;
+    }
+}
@@ -0,0 +1,150 @@
+package com.triptune.member.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.triptune.member.dto.response.MemberProfileResponse;
+import com.triptune.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+/**
+ * 채팅, 일정 작성자 표시에 사용하는 사용자 프로필(닉네임, 프로필 이미지) 캐시.
+ * 읽기 전용 트랜잭션에서 조회한 값은 복제본에서 읽어 변경 전 값일 수 있으므로 짧은 TTL 로 저장
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberProfileCacheService {
+
+    private static final String KEY_PREFIX = "member:profile:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MemberRepository memberRepository;
+
+    @Value("${app.backend.member.profile-cache.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    @Value("${app.backend.member.profile-cache.read-only-ttl-seconds:10}")
+    private long readOnlyTtlSeconds;
+
+
+    public Map<Long, MemberProfileResponse> getMemberProfiles(Collection<Long> memberIds){
+        if (memberIds == null || memberIds.isEmpty()){
+            return new HashMap<>();
+        }
+
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(memberIds));
+        Map<Long, MemberProfileResponse> profiles = getCachedProfiles(ids);
+
+        Set<Long> missIds = new HashSet<>(ids);
+        missIds.removeAll(profiles.keySet());
+
+        if (!missIds.isEmpty()){
+            List<MemberProfileResponse> loaded = memberRepository.findMembersProfileByMemberId(missIds);
+            loaded.forEach(profile -> profiles.put(profile.getMemberId(), profile));
+            cacheProfiles(loaded);
+        }
+
+        return profiles;
+    }
+
+    public MemberProfileResponse getMemberProfile(Long memberId){
+        return getMemberProfiles(List.of(memberId)).get(memberId);
+    }
+
+    public void evict(Long memberId){
+        String key = createKey(memberId);
+
+        // 트랜잭션 중이면 커밋 이후 삭제해 변경 전 값이 다시 캐시되지 않도록 함
+        if (TransactionSynchronizationManager.isSynchronizationActive()){
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deleteKey(key);
+                }
+            });
+            return;
+        }
+
+        deleteKey(key);
+    }
+
+
+    private Map<Long, MemberProfileResponse> getCachedProfiles(List<Long> ids){
+        Map<Long, MemberProfileResponse> profiles = new HashMap<>();
+
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(ids.stream().map(this::createKey).toList());
+
+            if (values == null){
+                return profiles;
+            }
+
+            for (String value : values){
+                if (value != null){
+                    MemberProfileResponse profile = objectMapper.readValue(value, MemberProfileResponse.class);
+                    profiles.put(profile.getMemberId(), profile);
+                }
+            }
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("프로필 캐시 조회 실패: {}", e.getMessage());
+        }
+
+        return profiles;
+    }
+
+    private void cacheProfiles(List<MemberProfileResponse> profiles){
+        if (profiles.isEmpty()){
+            return;
+        }
+
+        try {
+            long ttl = getTtlSeconds();
+            Map<String, String> values = new HashMap<>();
+
+            for (MemberProfileResponse profile : profiles){
+                values.put(createKey(profile.getMemberId()), objectMapper.writeValueAsString(profile));
+            }
+
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                values.forEach((key, value) -> stringConnection.setEx(key, ttl, value));
+                return null;
+            });
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("프로필 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private long getTtlSeconds(){
+        // 복제 지연 중 evict 이후 복제본의 이전 값이 다시 캐시되더라도 오래 남지 않도록 제한
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()){
+            return Math.min(ttlSeconds, readOnlyTtlSeconds);
+        }
+
+        return ttlSeconds;
+    }
+
+    private void deleteKey(String key){
+        try {
+            redisTemplate.delete(key);
+        } catch (DataAccessException e) {
+            log.warn("프로필 캐시 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    private String createKey(Long memberId){
+        return KEY_PREFIX + memberId;
+    }
+}
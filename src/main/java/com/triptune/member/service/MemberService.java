@@ -15,27 +15,29 @@ import com.triptune.global.util.JwtUtils;
 import com.triptune.global.util.PageUtils;
 import com.triptune.global.util.RedisUtils;
 import com.triptune.member.dto.request.*;
+import com.triptune.member.dto.response.DeactivateResponse;
+import com.triptune.member.dto.response.DeactivationJobResponse;
 import com.triptune.member.dto.response.FindIdResponse;
 import com.triptune.member.dto.response.LoginResponse;
 import com.triptune.member.dto.response.MemberInfoResponse;
 import com.triptune.member.dto.response.RefreshTokenResponse;
 import com.triptune.member.entity.Member;
+import com.triptune.member.event.MemberDeactivatedEvent;
 import com.triptune.member.exception.FailLoginException;
 import com.triptune.member.exception.IncorrectPasswordException;
 import com.triptune.member.repository.MemberRepository;
 import com.triptune.profile.service.ProfileImageService;
-import com.triptune.schedule.entity.TravelAttendee;
-import com.triptune.schedule.repository.ChatMessageRepository;
+import com.triptune.schedule.enumclass.AttendeeRole;
 import com.triptune.schedule.repository.TravelAttendeeRepository;
-import com.triptune.schedule.repository.TravelScheduleRepository;
+import com.triptune.schedule.service.ScheduleBulkDeleteService;
 import com.triptune.travel.dto.response.PlaceBookmarkResponse;
 import com.triptune.travel.entity.TravelPlace;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import jakarta.mail.MessagingException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -57,9 +59,11 @@ public class MemberService {
     private final ProfileImageService profileImageService;
     private final BookmarkService bookmarkService;
     private final TravelAttendeeRepository travelAttendeeRepository;
-    private final TravelScheduleRepository travelScheduleRepository;
-    private final ChatMessageRepository chatMessageRepository;
     private final BookmarkRepository bookmarkRepository;
+    private final MemberProfileCacheService memberProfileCacheService;
+    private final ScheduleBulkDeleteService scheduleBulkDeleteService;
+    private final DeactivationJobService deactivationJobService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${spring.jwt.token.access-expiration-time}")
     private long accessExpirationTime;
@@ -67,6 +71,10 @@ public class MemberService {
     @Value("${spring.jwt.token.refresh-expiration-time}")
     private long refreshExpirationTime;
 
+    // 작성한 일정이 기준 개수 이상이면 백그라운드에서 삭제 (0 이하인 경우 항상 요청 내에서 삭제)
+    @Value("${app.backend.member.deactivation.background-threshold:100}")
+    private int backgroundThreshold;
+
 
     public void join(JoinRequest joinRequest) {
         checkDuplicateUserId(joinRequest.getUserId());
@@ -137,7 +145,7 @@ public class MemberService {
         }
 
         memberRepository.deleteRefreshTokenByNickname(logoutRequest.getNickname());
-        redisUtils.saveExpiredData(accessToken, "logout", LOGOUT_DURATION);
+        redisUtils.saveLogoutToken(accessToken, LOGOUT_DURATION);
     }
 
 
@@ -171,7 +179,7 @@ public class MemberService {
     }
 
 
-    public void findPassword(FindPasswordRequest findPasswordRequest) throws MessagingException {
+    public void findPassword(FindPasswordRequest findPasswordRequest) {
         boolean isExistsMember = memberRepository.existsByUserIdAndEmail(findPasswordRequest.getUserId(), findPasswordRequest.getEmail());
         if (!isExistsMember){
             throw new DataNotFoundException(ErrorCode.MEMBER_NOT_FOUND);
@@ -182,7 +190,8 @@ public class MemberService {
 
 
     public void resetPassword(ResetPasswordRequest resetPasswordRequest) {
-        String email = redisUtils.getData(resetPasswordRequest.getPasswordToken());
+        // 비밀번호 변경 토큰은 조회와 동시에 삭제되어 한 번만 사용 가능
+        String email = redisUtils.getAndDeletePasswordToken(resetPasswordRequest.getPasswordToken());
 
         if (email == null) {
             throw new IncorrectPasswordException(ErrorCode.INVALID_CHANGE_PASSWORD);
@@ -219,6 +228,7 @@ public class MemberService {
 
         Member member = getMemberByUserId(userId);
         member.updateNickname(changeNicknameRequest.getNickname());
+        memberProfileCacheService.evict(member.getMemberId());
     }
 
     public void changeEmail(String userId, EmailRequest emailRequest) {
@@ -237,7 +247,7 @@ public class MemberService {
     }
 
 
-    public void deactivateMember(String accessToken, String userId, DeactivateRequest deactivateRequest) {
+    public DeactivateResponse deactivateMember(String accessToken, String userId, DeactivateRequest deactivateRequest) {
         // 1. 사용자 비밀번호 확인
         Member member = getMemberByUserId(userId);
 
@@ -248,29 +258,42 @@ public class MemberService {
         // 2. 프로필 이미지 기본으로 변경
         profileImageService.updateDefaultProfileImage(member);
 
-        // 3-1. 작성자인 경우 참석자, 일정, 채팅방 삭제
-        // 3-2. 참석자인 경우 참석자 삭제
-        List<TravelAttendee> attendees = travelAttendeeRepository.findAllByMember_UserId(userId);
-
-        for (TravelAttendee attendee : attendees) {
-            if (attendee.getRole().isAuthor()) {
-                Long scheduleId = attendee.getTravelSchedule().getScheduleId();
+        // 3-1. 참석자인 경우 참석자 삭제
+        // 3-2. 작성자인 경우 여행 루트, 참석자, 일정, 채팅 삭제
+        travelAttendeeRepository.deleteAllByMemberIdAndRole(member.getMemberId(), AttendeeRole.GUEST);
 
-                chatMessageRepository.deleteAllByScheduleId(scheduleId);
-                travelScheduleRepository.deleteById(scheduleId);
-            } else{
-                travelAttendeeRepository.delete(attendee);
-            }
-        }
+        List<Long> scheduleIds = travelAttendeeRepository.findScheduleIdsByMemberIdAndRole(member.getMemberId(), AttendeeRole.AUTHOR);
+        DeactivateResponse response = deleteAuthorSchedules(scheduleIds);
 
         // 4. 북마크 삭제
-        bookmarkRepository.deleteAllByMember_UserId(userId);
+        bookmarkRepository.deleteAllByMemberId(member.getMemberId());
 
-        // 5. 익명 데이터로 변경 (닉네임, 아이디, 비밀번호, 리프레시 토큰, 이메일)
+        // 5. 익명 데이터로 변경 (닉네임, 아이디, 비밀번호, 리프레시 토큰, 이메일), 이메일 인증 데이터 삭제
+        redisUtils.deleteAllEmailData(member.getEmail());
         member.updateDeactivate();
+        memberProfileCacheService.evict(member.getMemberId());
 
         // 6. 로그아웃
-        redisUtils.saveExpiredData(accessToken, "logout", LOGOUT_DURATION);
+        redisUtils.saveLogoutToken(accessToken, LOGOUT_DURATION);
+
+        return response;
+    }
+
+    private DeactivateResponse deleteAuthorSchedules(List<Long> scheduleIds){
+        if (backgroundThreshold > 0 && scheduleIds.size() >= backgroundThreshold){
+            // 탈퇴 처리 커밋 후 백그라운드에서 삭제
+            String jobId = deactivationJobService.createJob(scheduleIds.size());
+            eventPublisher.publishEvent(new MemberDeactivatedEvent(jobId, scheduleIds));
+
+            return DeactivateResponse.pending(jobId);
+        }
+
+        scheduleBulkDeleteService.deleteSchedules(scheduleIds);
+        return DeactivateResponse.completed();
+    }
+
+    public DeactivationJobResponse getDeactivationJob(String jobId){
+        return deactivationJobService.getJob(jobId);
     }
 
 
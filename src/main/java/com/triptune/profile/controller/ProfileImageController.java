@@ -1,12 +1,18 @@
 package com.triptune.profile.controller;
 
+import com.triptune.profile.dto.request.ProfileUploadCompleteRequest;
+import com.triptune.profile.dto.request.ProfileUploadUrlRequest;
+import com.triptune.profile.dto.response.ProfileUploadUrlResponse;
 import com.triptune.profile.service.ProfileImageService;
 import com.triptune.global.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -28,4 +34,22 @@ public class ProfileImageController {
         profileImageService.updateProfileImage(userId, profileImageFile);
         return ApiResponse.okResponse();
     }
+
+    @PostMapping("/upload-url")
+    @Operation(summary = "프로필 이미지 업로드 URL 발급", description = "S3 에 직접 업로드할 수 있는 URL 을 발급합니다.")
+    public ApiResponse<ProfileUploadUrlResponse> createUploadUrl(@Valid @RequestBody ProfileUploadUrlRequest uploadUrlRequest){
+        String userId = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        ProfileUploadUrlResponse response = profileImageService.createUploadUrl(userId, uploadUrlRequest);
+        return ApiResponse.dataResponse(response);
+    }
+
+    @PostMapping("/upload-complete")
+    @Operation(summary = "프로필 이미지 업로드 완료", description = "S3 에 직접 업로드한 이미지를 검증한 후 프로필 이미지로 변경합니다.")
+    public ApiResponse<?> completeUpload(@Valid @RequestBody ProfileUploadCompleteRequest completeRequest){
+        String userId = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        profileImageService.completeUpload(userId, completeRequest);
+        return ApiResponse.okResponse();
+    }
 }
@@ -0,0 +1,22 @@
+package com.triptune.profile.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ProfileUploadCompleteRequest {
+
+    @NotBlank(message = "파일 키는 필수 입력 값입니다.")
+    private String s3FileKey;
+
+    private String originalName;
+
+    @Builder
+    public ProfileUploadCompleteRequest(String s3FileKey, String originalName) {
+        this.s3FileKey = s3FileKey;
+        this.originalName = originalName;
+    }
+}
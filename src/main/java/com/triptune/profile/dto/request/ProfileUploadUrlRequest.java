@@ -0,0 +1,26 @@
+package com.triptune.profile.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ProfileUploadUrlRequest {
+
+    @NotBlank(message = "파일 형식은 필수 입력 값입니다.")
+    @Pattern(regexp = "^image/(jpeg|jpg|png)$", message = "허용되지 않은 파일 형식입니다.")
+    private String contentType;
+
+    @Positive(message = "파일 크기는 0보다 커야 합니다.")
+    private long fileSize;
+
+    @Builder
+    public ProfileUploadUrlRequest(String contentType, long fileSize) {
+        this.contentType = contentType;
+        this.fileSize = fileSize;
+    }
+}
@@ -0,0 +1,30 @@
+package com.triptune.profile.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+public class ProfileUploadUrlResponse {
+
+    private String uploadUrl;
+    private String s3FileKey;
+    private Map<String, String> headers;
+    private LocalDateTime expiredAt;
+
+    @Builder
+    public ProfileUploadUrlResponse(String uploadUrl, String s3FileKey, Map<String, String> headers, LocalDateTime expiredAt) {
+        this.uploadUrl = uploadUrl;
+        this.s3FileKey = s3FileKey;
+        this.headers = headers;
+        this.expiredAt = expiredAt;
+    }
+
+    public static ProfileUploadUrlResponse of(String uploadUrl, String s3FileKey, Map<String, String> headers, LocalDateTime expiredAt){
+        return new ProfileUploadUrlResponse(uploadUrl, s3FileKey, headers, expiredAt);
+    }
+}
@@ -1,6 +1,7 @@
 package com.triptune.profile.entity;
 
 import com.triptune.member.entity.Member;
+import com.triptune.global.enumclass.ImageVariantType;
 import com.triptune.global.properties.DefaultProfileImageProperties;
 import jakarta.persistence.*;
 import lombok.Builder;
@@ -9,6 +10,7 @@ import lombok.NoArgsConstructor;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Entity
 @Getter
@@ -29,6 +31,15 @@ public class ProfileImage {
     @Column(name = "s3_file_key")
     private String s3FileKey;
 
+    @Column(name = "small_object_url")
+    private String smallObjectUrl;
+
+    @Column(name = "medium_object_url")
+    private String mediumObjectUrl;
+
+    @Column(name = "large_object_url")
+    private String largeObjectUrl;
+
     @Column(name = "original_name")
     private String originalName;
 
@@ -75,19 +86,29 @@ public class ProfileImage {
                 .build();
     }
 
-    public void updateProfileImage(MultipartFile profileImageFile, String s3ObjectUrl, String s3FileKey, String savedFileName, String extension){
+    public void updateProfileImage(MultipartFile profileImageFile, String s3ObjectUrl, String s3FileKey, String savedFileName, String extension, Map<ImageVariantType, String> variantUrls){
+        updateProfileImage(profileImageFile.getOriginalFilename(), s3ObjectUrl, s3FileKey, savedFileName, extension, profileImageFile.getSize(), variantUrls);
+    }
+
+    public void updateProfileImage(String originalName, String s3ObjectUrl, String s3FileKey, String savedFileName, String extension, long fileSize, Map<ImageVariantType, String> variantUrls){
         this.s3ObjectUrl = s3ObjectUrl;
         this.s3FileKey = s3FileKey;
-        this.originalName = profileImageFile.getOriginalFilename();
+        this.smallObjectUrl = variantUrls.get(ImageVariantType.SMALL);
+        this.mediumObjectUrl = variantUrls.get(ImageVariantType.MEDIUM);
+        this.largeObjectUrl = variantUrls.get(ImageVariantType.LARGE);
+        this.originalName = originalName;
         this.fileName = savedFileName;
         this.fileType = extension;
-        this.fileSize = profileImageFile.getSize();
+        this.fileSize = fileSize;
         this.updatedAt = LocalDateTime.now();
     }
 
     public void updateDefaultProfileImage(DefaultProfileImageProperties imageProperties) {
         this.s3ObjectUrl = imageProperties.getS3ObjectUrl();
         this.s3FileKey = imageProperties.getS3FileKey();
+        this.smallObjectUrl = null;
+        this.mediumObjectUrl = null;
+        this.largeObjectUrl = null;
         this.originalName = imageProperties.getOriginalName();
         this.fileName = imageProperties.getFileName();
         this.fileType = imageProperties.getExtension();
@@ -95,4 +116,9 @@ public class ProfileImage {
         this.updatedAt = LocalDateTime.now();
     }
 
+    public String getAvatarUrl(){
+        // 변환 이미지가 없는 경우(기본 이미지, 변환 전 데이터) 원본 사용
+        return smallObjectUrl != null ? smallObjectUrl : s3ObjectUrl;
+    }
+
 }
@@ -0,0 +1,52 @@
+package com.triptune.profile.event;
+
+import com.triptune.global.config.AsyncConfig;
+import com.triptune.global.enumclass.ImageVariantType;
+import com.triptune.global.service.S3Service;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProfileImageEventListener {
+
+    private final S3Service s3Service;
+
+    @Async(AsyncConfig.STORAGE_TASK_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void deleteBeforeImage(ProfileImageReplacedEvent event){
+        deleteS3File(event.beforeS3FileKey());
+    }
+
+    @Async(AsyncConfig.STORAGE_TASK_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void deleteUploadedImage(ProfileImageReplacedEvent event){
+        // DB 반영에 실패한 경우 업로드한 파일 정리
+        deleteS3File(event.afterS3FileKey());
+    }
+
+    private void deleteS3File(String s3FileKey){
+        if (s3FileKey == null){
+            return;
+        }
+
+        delete(s3FileKey);
+
+        for (ImageVariantType variantType : ImageVariantType.values()){
+            delete(variantType.createS3FileKey(s3FileKey));
+        }
+    }
+
+    private void delete(String s3FileKey){
+        try {
+            s3Service.deleteS3File(s3FileKey);
+        } catch (Exception e) {
+            log.error("프로필 이미지 삭제 실패 : {}", s3FileKey, e);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.triptune.profile.event;
+
+/**
+ * 프로필 이미지 변경 이벤트
+ * @param beforeS3FileKey 변경 전 파일 (커밋 후 삭제, 기본 이미지인 경우 null)
+ * @param afterS3FileKey 새로 업로드한 파일 (롤백 시 삭제, 기본 이미지로 변경한 경우 null)
+ */
+public record ProfileImageReplacedEvent(String beforeS3FileKey, String afterS3FileKey) {
+}
@@ -2,57 +2,233 @@ package com.triptune.profile.service;
 
 import com.triptune.member.entity.Member;
 import com.triptune.member.repository.MemberRepository;
+import com.triptune.member.service.MemberProfileCacheService;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.triptune.profile.dto.request.ProfileUploadCompleteRequest;
+import com.triptune.profile.dto.request.ProfileUploadUrlRequest;
+import com.triptune.profile.dto.response.ProfileUploadUrlResponse;
 import com.triptune.profile.entity.ProfileImage;
+import com.triptune.profile.event.ProfileImageReplacedEvent;
 import com.triptune.profile.repository.ProfileImageRepository;
 import com.triptune.global.enumclass.ErrorCode;
+import com.triptune.global.enumclass.ImageVariantType;
 import com.triptune.global.exception.DataNotFoundException;
 import com.triptune.global.exception.FileBadRequestException;
 import com.triptune.global.properties.DefaultProfileImageProperties;
+import com.triptune.global.service.ImageVariantService;
 import com.triptune.global.service.S3Service;
 import com.triptune.global.util.FileUtils;
+import com.triptune.global.util.FileValidator;
+import com.triptune.global.util.RedisUtils;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Map;
+
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
 @EnableConfigurationProperties(DefaultProfileImageProperties.class)
 public class ProfileImageService {
     private static final String FILE_TAG = "profileImage";
+    private static final String UPLOAD_KEY_PREFIX = "profile:upload:";
+    private static final int FILE_HEADER_SIZE = 512;
+    private static final long UPLOAD_COMPLETE_MARGIN_SECONDS = 600;
 
     private final DefaultProfileImageProperties profileImageProperties;
     private final ProfileImageRepository profileImageRepository;
     private final S3Service s3Service;
+    private final MemberProfileCacheService memberProfileCacheService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ImageVariantService imageVariantService;
+    private final RedisUtils redisUtils;
+    private final FileValidator fileValidator;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.backend.profile.max-file-size:5242880}")
+    private long maxFileSize;
+
+    @Value("${app.backend.profile.upload-url-expiration-seconds:300}")
+    private long uploadUrlExpiration;
 
     public ProfileImage saveDefaultProfileImage(Member member) {
         ProfileImage profileImage = ProfileImage.from(member, profileImageProperties);
         return profileImageRepository.save(profileImage);
     }
 
+    /**
+     * S3 업로드는 트랜잭션 밖에서 수행하고, 업로드가 끝난 뒤 DB 반영만 트랜잭션으로 처리한다.
+     */
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public void updateProfileImage(String userId, MultipartFile profileImageFile) {
-        validateFileExtension(profileImageFile);
+        try (FileValidator.ValidatedFile validatedFile = fileValidator.validateImage(profileImageFile)) {
+            String extension = FileUtils.getExtension(profileImageFile.getOriginalFilename());
+            String savedFileName = s3Service.generateS3FileName(FILE_TAG, extension);
+            String s3FileKey = s3Service.generateS3FileKey(savedFileName);
+
+            String s3ObjectUrl;
+            Map<ImageVariantType, String> variantUrls;
+
+            try {
+                s3ObjectUrl = s3Service.uploadToS3(validatedFile, s3FileKey);
+                variantUrls = uploadVariants(profileImageFile, s3FileKey);
+            } catch (RuntimeException e) {
+                // 일부만 업로드된 경우 정리
+                deleteUploadedImage(s3FileKey);
+                throw e;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                ProfileImage profileImage = getProfileImageByUserId(userId);
+                String beforeS3FileKey = getDeletableS3FileKey(profileImage);
+
+                // 기존 이미지는 커밋 후, 새로 업로드한 이미지는 롤백 시 비동기로 삭제
+                eventPublisher.publishEvent(new ProfileImageReplacedEvent(beforeS3FileKey, s3FileKey));
+
+                profileImage.updateProfileImage(profileImageFile, s3ObjectUrl, s3FileKey, savedFileName, extension, variantUrls);
+                profileImage.getMember().updateUpdatedAt();
+                memberProfileCacheService.evict(profileImage.getMember().getMemberId());
+            });
+        }
+    }
+
+    private Map<ImageVariantType, String> uploadVariants(MultipartFile profileImageFile, String s3FileKey){
+        // 원본 업로드가 끝난 뒤 업로드 파일을 다시 열어 디코딩 (원본 업로드 중에는 디코딩한 이미지를 메모리에 두지 않음)
+        try (InputStream inputStream = profileImageFile.getInputStream()) {
+            BufferedImage source = imageVariantService.readImage(inputStream);
+            return imageVariantService.uploadVariants(source, s3FileKey);
+        } catch (IOException e) {
+            log.error("프로필 이미지 읽기 실패: {}", e.getMessage());
+            throw new FileBadRequestException(ErrorCode.INVALID_EXTENSION);
+        }
+    }
+
+    private void deleteUploadedImage(String s3FileKey){
+        deleteS3FileQuietly(s3FileKey);
+
+        for (ImageVariantType variantType : ImageVariantType.values()){
+            deleteS3FileQuietly(variantType.createS3FileKey(s3FileKey));
+        }
+    }
 
-        ProfileImage profileImage = getProfileImageByUserId(userId);
-        deleteS3File(profileImage);
+    private void deleteS3FileQuietly(String s3FileKey){
+        try {
+            s3Service.deleteS3File(s3FileKey);
+        } catch (Exception e) {
+            log.error("프로필 이미지 삭제 실패 : {}", s3FileKey, e);
+        }
+    }
+
+    /**
+     * 클라이언트가 S3 비공개 임시 경로에 직접 업로드할 URL 을 발급하고, 완료 요청 검증을 위해 발급한 파일 키를 저장한다.
+     */
+    public ProfileUploadUrlResponse createUploadUrl(String userId, ProfileUploadUrlRequest uploadUrlRequest) {
+        long fileSize = uploadUrlRequest.getFileSize();
+        validateFileSize(fileSize);
 
-        String extension = FileUtils.getExtension(profileImageFile.getOriginalFilename());
+        String contentType = uploadUrlRequest.getContentType();
+        String extension = contentType.equals("image/png") ? "png" : "jpg";
         String savedFileName = s3Service.generateS3FileName(FILE_TAG, extension);
+        String stagingS3FileKey = s3Service.generateStagingS3FileKey(savedFileName);
+
+        LocalDateTime expiredAt = LocalDateTime.now().plusSeconds(uploadUrlExpiration);
+        Date expiration = Date.from(expiredAt.atZone(ZoneId.systemDefault()).toInstant());
+        String uploadUrl = s3Service.generatePresignedUploadUrl(stagingS3FileKey, contentType, fileSize, expiration);
+
+        redisUtils.saveExpiredData(createUploadKey(userId), stagingS3FileKey, uploadUrlExpiration + UPLOAD_COMPLETE_MARGIN_SECONDS);
+
+        Map<String, String> headers = Map.of(
+                "Content-Type", contentType,
+                "Content-Length", String.valueOf(fileSize)
+        );
+
+        return ProfileUploadUrlResponse.of(uploadUrl, stagingS3FileKey, headers, expiredAt);
+    }
+
+    /**
+     * 임시 경로에 업로드된 파일의 크기와 형식(magic bytes)을 확인한 뒤 공개 경로로 복사해 프로필 이미지로 저장한다.
+     * S3 요청은 트랜잭션 밖에서 수행하고 DB 반영만 트랜잭션으로 처리한다.
+     */
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public void completeUpload(String userId, ProfileUploadCompleteRequest completeRequest) {
+        String uploadKey = createUploadKey(userId);
+        String stagingS3FileKey = completeRequest.getS3FileKey();
+
+        if (!stagingS3FileKey.equals(redisUtils.getData(uploadKey))){
+            throw new FileBadRequestException(ErrorCode.UPLOAD_REQUEST_NOT_FOUND);
+        }
+
+        ObjectMetadata metadata = s3Service.getObjectMetadata(stagingS3FileKey);
+
+        if (metadata == null){
+            throw new FileBadRequestException(ErrorCode.UPLOAD_REQUEST_NOT_FOUND);
+        }
+
+        String savedFileName = stagingS3FileKey.substring(stagingS3FileKey.lastIndexOf("/") + 1);
+        String extension = FileUtils.getExtension(savedFileName);
+
+        try {
+            validateFileSize(metadata.getContentLength());
+            validateUploadedExtension(stagingS3FileKey, extension);
+        } catch (FileBadRequestException e) {
+            // 검증에 실패한 파일은 공개 경로로 옮기지 않고 바로 삭제
+            deleteS3FileQuietly(stagingS3FileKey);
+            throw e;
+        }
+
         String s3FileKey = s3Service.generateS3FileKey(savedFileName);
-        String s3ObjectUrl = s3Service.uploadToS3(profileImageFile, s3FileKey);
+        String s3ObjectUrl = s3Service.copyToPublic(stagingS3FileKey, s3FileKey);
+        String originalName = completeRequest.getOriginalName() != null ? completeRequest.getOriginalName() : savedFileName;
 
-        profileImage.updateProfileImage(profileImageFile, s3ObjectUrl, s3FileKey, savedFileName, extension);
-        profileImage.getMember().updateUpdatedAt();
+        transactionTemplate.executeWithoutResult(status -> {
+            ProfileImage profileImage = getProfileImageByUserId(userId);
+            String beforeS3FileKey = getDeletableS3FileKey(profileImage);
+
+            // 기존 이미지는 커밋 후, 복사한 이미지는 롤백 시 비동기로 삭제
+            eventPublisher.publishEvent(new ProfileImageReplacedEvent(beforeS3FileKey, s3FileKey));
+
+            profileImage.updateProfileImage(originalName, s3ObjectUrl, s3FileKey, savedFileName, extension, metadata.getContentLength(), Map.of());
+            profileImage.getMember().updateUpdatedAt();
+            memberProfileCacheService.evict(profileImage.getMember().getMemberId());
+        });
+
+        redisUtils.deleteData(uploadKey);
+        deleteS3FileQuietly(stagingS3FileKey);
     }
 
-    private void validateFileExtension(MultipartFile profileImageFile){
-        if(!FileUtils.isValidExtension(profileImageFile)){
+    private void validateUploadedExtension(String stagingS3FileKey, String extension){
+        // 발급 시 요청한 형식과 실제 파일 형식이 다르면 거부
+        String detectedExtension = FileUtils.detectImageExtension(s3Service.readObjectHeader(stagingS3FileKey, FILE_HEADER_SIZE));
+
+        if (!extension.equals(detectedExtension)){
             throw new FileBadRequestException(ErrorCode.INVALID_EXTENSION);
         }
     }
 
+    private void validateFileSize(long fileSize){
+        if (fileSize > maxFileSize){
+            throw new FileBadRequestException(ErrorCode.FILE_SIZE_EXCEEDED);
+        }
+    }
+
+    private String createUploadKey(String userId){
+        return UPLOAD_KEY_PREFIX + userId;
+    }
+
     private ProfileImage getProfileImageByUserId(String userId){
         return profileImageRepository.findByUserId(userId)
                 .orElseThrow(() -> new DataNotFoundException(ErrorCode.PROFILE_IMAGE_NOT_FOUND));
@@ -60,14 +236,20 @@ public class ProfileImageService {
 
     public void updateDefaultProfileImage(Member member) {
         ProfileImage profileImage = member.getProfileImage();
+        String beforeS3FileKey = getDeletableS3FileKey(profileImage);
 
-        deleteS3File(profileImage);
         profileImage.updateDefaultProfileImage(profileImageProperties);
+        memberProfileCacheService.evict(member.getMemberId());
+
+        eventPublisher.publishEvent(new ProfileImageReplacedEvent(beforeS3FileKey, null));
     }
 
-    public void deleteS3File(ProfileImage profileImage){
-        if(!profileImage.getS3FileKey().equals(profileImageProperties.getS3FileKey())){
-            s3Service.deleteS3File(profileImage.getS3FileKey());
+    private String getDeletableS3FileKey(ProfileImage profileImage){
+        // 기본 프로필 이미지는 공용 파일이므로 삭제하지 않음
+        if(profileImage.getS3FileKey().equals(profileImageProperties.getS3FileKey())){
+            return null;
         }
+
+        return profileImage.getS3FileKey();
     }
 }
@@ -0,0 +1,35 @@
+package com.triptune.profile.service;
+
+import com.triptune.global.service.S3Service;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업로드 완료 요청이 오지 않아 임시 경로에 남은 프로필 이미지를 S3 lifecycle 규칙으로 만료시킨다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.backend.profile.staging-lifecycle.enabled", havingValue = "true")
+public class ProfileUploadStagingLifecycle {
+    private static final String RULE_ID = "profile-upload-staging-expiration";
+
+    private final S3Service s3Service;
+
+    @Value("${app.backend.profile.staging-expiration-days:1}")
+    private int expirationDays;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void addExpirationRule(){
+        try {
+            s3Service.addExpirationRule(RULE_ID, S3Service.PROFILE_STAGING_DIR, expirationDays);
+        } catch (Exception e) {
+            log.warn("프로필 이미지 임시 경로 lifecycle 규칙 등록 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package com.triptune.schedule.controller;
 
+import com.triptune.schedule.dto.ChatPrincipal;
 import com.triptune.schedule.dto.request.ChatMessageRequest;
+import com.triptune.schedule.dto.response.ChatHistoryResponse;
 import com.triptune.schedule.dto.response.ChatResponse;
+import com.triptune.schedule.enumclass.AttendeePermission;
 import com.triptune.schedule.exception.BadRequestChatException;
+import com.triptune.schedule.service.ChatBroadcastService;
 import com.triptune.schedule.service.ChatService;
 import com.triptune.global.aop.AttendeeCheck;
 import com.triptune.global.enumclass.ErrorCode;
+import com.triptune.global.util.ChatSessionUtils;
+import com.triptune.global.response.ApiResponse;
 import com.triptune.global.response.pagination.ApiPageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -13,7 +19,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -23,7 +29,7 @@ public class ChatController {
     private static final int MAX_MESSAGE_LENGTH = 1000;
 
     private final ChatService chatService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatBroadcastService chatBroadcastService;
 
     @AttendeeCheck
     @GetMapping("/api/schedules/{scheduleId}/chats")
@@ -33,19 +39,27 @@ public class ChatController {
         return ApiPageResponse.dataResponse(response);
     }
 
+    @AttendeeCheck
+    @GetMapping("/api/schedules/{scheduleId}/chats/history")
+    @Operation(summary = "이전 채팅 조회", description = "기준 메시지 이전의 채팅 기록을 조회한다. 기준 메시지가 없으면 최신 채팅을 조회한다.")
+    public ApiResponse<ChatHistoryResponse> getChatMessagesBefore(@PathVariable(name = "scheduleId") Long scheduleId, @RequestParam(name = "before", required = false) String before){
+        ChatHistoryResponse response = chatService.getChatMessagesBefore(scheduleId, before);
+        return ApiResponse.dataResponse(response);
+    }
+
     @MessageMapping("/chats")
     @Operation(summary = "채팅 보내기", description = "메시지를 저장하고 채팅 참가자들에게 메시지를 보낸다.")
-    public void sendChatMessage(@Payload ChatMessageRequest chatMessageRequest){
+    public void sendChatMessage(@Payload ChatMessageRequest chatMessageRequest, SimpMessageHeaderAccessor headerAccessor){
         if (chatMessageRequest.getMessage().length() > MAX_MESSAGE_LENGTH){
             throw new BadRequestChatException(ErrorCode.CHAT_MESSAGE_TOO_LONG);
         }
 
-        ChatResponse response = chatService.sendChatMessage(chatMessageRequest);
+        ChatPrincipal principal = ChatSessionUtils.getChatPrincipal(headerAccessor.getUser());
+        AttendeePermission permission = ChatSessionUtils.getSchedulePermission(headerAccessor.getSessionAttributes(), chatMessageRequest.getScheduleId());
+
+        ChatResponse response = chatService.sendChatMessage(principal, permission, chatMessageRequest);
 
-        messagingTemplate.convertAndSend(
-                "/sub/schedules/" + chatMessageRequest.getScheduleId() + "/chats",
-                response
-        );
+        chatBroadcastService.broadcast(chatMessageRequest.getScheduleId(), response);
     }
 
 }
@@ -0,0 +1,24 @@
+package com.triptune.schedule.dto;
+
+import com.triptune.schedule.dto.response.ChatResponse;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ChatBroadcastDTO {
+
+    private Long scheduleId;
+    private ChatResponse chat;
+
+    @Builder
+    public ChatBroadcastDTO(Long scheduleId, ChatResponse chat) {
+        this.scheduleId = scheduleId;
+        this.chat = chat;
+    }
+
+    public static ChatBroadcastDTO of(Long scheduleId, ChatResponse chat){
+        return new ChatBroadcastDTO(scheduleId, chat);
+    }
+}
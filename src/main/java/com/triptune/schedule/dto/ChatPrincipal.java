@@ -0,0 +1,41 @@
+package com.triptune.schedule.dto;
+
+import com.triptune.member.entity.Member;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.security.Principal;
+
+@Getter
+@NoArgsConstructor
+public class ChatPrincipal implements Principal, Serializable {
+
+    private Long memberId;
+    private String userId;
+    private String nickname;
+    private String profileUrl;
+
+    @Builder
+    public ChatPrincipal(Long memberId, String userId, String nickname, String profileUrl) {
+        this.memberId = memberId;
+        this.userId = userId;
+        this.nickname = nickname;
+        this.profileUrl = profileUrl;
+    }
+
+    public static ChatPrincipal from(Member member){
+        return ChatPrincipal.builder()
+                .memberId(member.getMemberId())
+                .userId(member.getUserId())
+                .nickname(member.getNickname())
+                .profileUrl(member.getProfileImage().getAvatarUrl())
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return userId;
+    }
+}
@@ -0,0 +1,26 @@
+package com.triptune.schedule.dto;
+
+import com.triptune.schedule.entity.ChatMessage;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class ChatTailDTO {
+
+    private List<ChatMessage> chats;
+    private long totalElements;
+
+    @Builder
+    public ChatTailDTO(List<ChatMessage> chats, long totalElements) {
+        this.chats = chats;
+        this.totalElements = totalElements;
+    }
+
+    public static ChatTailDTO of(List<ChatMessage> chats, long totalElements){
+        return new ChatTailDTO(chats, totalElements);
+    }
+}
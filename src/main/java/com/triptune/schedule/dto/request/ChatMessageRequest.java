@@ -14,7 +14,7 @@ public class ChatMessageRequest {
     @NotNull(message = "일정 인덱스는 필수 입력 값입니다.")
     private Long scheduleId;
 
-    @NotBlank(message = "닉네임은 필수 입력 값입니다.")
+    // 발신자 정보는 WebSocket 세션의 사용자 정보를 사용
     private String nickname;
 
     @NotBlank(message = "메시지는 필수 입력 값입니다.")
@@ -0,0 +1,34 @@
+package com.triptune.schedule.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class ChatHistoryResponse {
+
+    private List<ChatResponse> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    @Builder
+    public ChatHistoryResponse(List<ChatResponse> content, String nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    public static ChatHistoryResponse of(List<ChatResponse> content, boolean hasNext){
+        // 오름차순으로 정렬된 목록의 첫 메시지가 다음 조회의 기준
+        String nextCursor = hasNext && !content.isEmpty() ? content.get(0).getMessageId() : null;
+
+        return ChatHistoryResponse.builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -1,7 +1,7 @@
 package com.triptune.schedule.dto.response;
 
 import com.triptune.member.dto.response.MemberProfileResponse;
-import com.triptune.member.entity.Member;
+import com.triptune.schedule.dto.ChatPrincipal;
 import com.triptune.schedule.entity.ChatMessage;
 import com.triptune.global.util.TimeUtils;
 import lombok.Builder;
@@ -43,11 +43,11 @@ public class ChatResponse {
                 .build();
     }
 
-    public static ChatResponse from(ChatMessage message, Member member){
+    public static ChatResponse from(ChatMessage message, ChatPrincipal principal){
         return ChatResponse.builder()
                 .messageId(message.getMessageId())
-                .nickname(member.getNickname())
-                .profileUrl(member.getProfileImage().getS3ObjectUrl())
+                .nickname(principal.getNickname())
+                .profileUrl(principal.getProfileUrl())
                 .message(message.getMessage())
                 .timestamp(TimeUtils.convertToKST(message.getTimestamp()))
                 .build();
@@ -1,11 +1,13 @@
 package com.triptune.schedule.entity;
 
-import com.triptune.member.entity.Member;
+import com.triptune.schedule.dto.ChatPrincipal;
 import com.triptune.schedule.dto.request.ChatMessageRequest;
 import jakarta.persistence.Id;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
@@ -14,6 +16,7 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor
 @Document(collection = "chat_message")
+@CompoundIndex(name = "schedule_timestamp_idx", def = "{'scheduleId': 1, 'timestamp': -1, '_id': -1}")
 public class ChatMessage {
 
     @Id
@@ -34,10 +37,11 @@ public class ChatMessage {
         this.timestamp = timestamp;
     }
 
-    public static ChatMessage of(Member member, ChatMessageRequest chatMessageRequest) {
+    public static ChatMessage of(ChatPrincipal principal, ChatMessageRequest chatMessageRequest) {
         return ChatMessage.builder()
+                .messageId(new ObjectId().toHexString())
                 .scheduleId(chatMessageRequest.getScheduleId())
-                .memberId(member.getMemberId())
+                .memberId(principal.getMemberId())
                 .message(chatMessageRequest.getMessage())
                 .timestamp(LocalDateTime.now())
                 .build();
@@ -8,8 +8,9 @@ import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
-public interface ChatMessageRepository extends MongoRepository<ChatMessage, String> {
+public interface ChatMessageRepository extends MongoRepository<ChatMessage, String>, ChatMessageRepositoryCustom {
     Page<ChatMessage> findAllByScheduleId(Pageable pageable, @Param("scheduleId") Long scheduleId);
     List<ChatMessage> findAllByScheduleId(@Param("scheduleId") Long scheduleId);
     void deleteAllByScheduleId(@Param("scheduleId") Long scheduleId);
+    long deleteAllByScheduleIdIn(@Param("scheduleIds") List<Long> scheduleIds);
 }
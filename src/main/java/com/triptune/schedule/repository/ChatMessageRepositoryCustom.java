@@ -0,0 +1,8 @@
+package com.triptune.schedule.repository;
+
+import com.triptune.schedule.entity.ChatMessage;
+import org.springframework.data.domain.Slice;
+
+public interface ChatMessageRepositoryCustom {
+    Slice<ChatMessage> findChatMessagesBefore(Long scheduleId, String beforeMessageId, int size);
+}
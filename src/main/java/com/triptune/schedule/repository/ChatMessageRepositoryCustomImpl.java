@@ -0,0 +1,59 @@
+package com.triptune.schedule.repository;
+
+import com.triptune.schedule.entity.ChatMessage;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Repository
+public class ChatMessageRepositoryCustomImpl implements ChatMessageRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    public ChatMessageRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Slice<ChatMessage> findChatMessagesBefore(Long scheduleId, String beforeMessageId, int size) {
+        PageRequest pageable = PageRequest.of(0, size);
+        Criteria criteria = Criteria.where("scheduleId").is(scheduleId);
+
+        if (beforeMessageId != null){
+            ChatMessage cursor = mongoTemplate.findById(beforeMessageId, ChatMessage.class);
+
+            if (cursor == null || !scheduleId.equals(cursor.getScheduleId())){
+                return new SliceImpl<>(Collections.emptyList(), pageable, false);
+            }
+
+            criteria = criteria.orOperator(
+                    Criteria.where("timestamp").lt(cursor.getTimestamp()),
+                    Criteria.where("timestamp").is(cursor.getTimestamp()).and("_id").lt(cursor.getMessageId())
+            );
+        }
+
+        // (scheduleId, timestamp, _id) 인덱스 순서로 size + 1 건만 조회 (count, skip X)
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "timestamp", "_id"))
+                .limit(size + 1);
+
+        List<ChatMessage> messages = new ArrayList<>(mongoTemplate.find(query, ChatMessage.class));
+        boolean hasNext = messages.size() > size;
+
+        if (hasNext){
+            messages.remove(size);
+        }
+
+        Collections.reverse(messages);
+        return new SliceImpl<>(messages, pageable, hasNext);
+    }
+}
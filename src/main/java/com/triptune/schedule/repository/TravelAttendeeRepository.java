@@ -3,6 +3,8 @@ package com.triptune.schedule.repository;
 import com.triptune.schedule.entity.TravelAttendee;
 import com.triptune.schedule.enumclass.AttendeeRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -10,7 +12,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TravelAttendeeRepository extends JpaRepository<TravelAttendee, Long>, TravelAttendeeRepositoryCustom {
+public interface TravelAttendeeRepository extends JpaRepository<TravelAttendee, Long> {
     List<TravelAttendee> findAllByTravelSchedule_ScheduleId(@Param("scheduleId") Long scheduleId);
     boolean existsByTravelSchedule_ScheduleIdAndMember_UserId(@Param("scheduleId") Long scheduleId, @Param("userId") String userId);
     Optional<TravelAttendee> findByTravelSchedule_ScheduleIdAndMember_UserId(@Param("scheduleId") Long scheduleId, @Param("userId") String userId);
@@ -18,4 +20,15 @@ public interface TravelAttendeeRepository extends JpaRepository<TravelAttendee,
     int countByTravelSchedule_ScheduleId(@Param("scheduleId") Long scheduleId);
     Optional<TravelAttendee> findByTravelSchedule_ScheduleIdAndAttendeeId(@Param("scheduleId") Long scheduleId, @Param("attendeeId") Long attendeeId);
     List<TravelAttendee> findAllByMember_UserId(@Param("userId") String userId);
+
+    @Query("SELECT a.travelSchedule.scheduleId FROM TravelAttendee a WHERE a.member.memberId = :memberId AND a.role = :role")
+    List<Long> findScheduleIdsByMemberIdAndRole(@Param("memberId") Long memberId, @Param("role") AttendeeRole role);
+
+    @Modifying
+    @Query("DELETE FROM TravelAttendee a WHERE a.member.memberId = :memberId AND a.role = :role")
+    int deleteAllByMemberIdAndRole(@Param("memberId") Long memberId, @Param("role") AttendeeRole role);
+
+    @Modifying
+    @Query("DELETE FROM TravelAttendee a WHERE a.travelSchedule.scheduleId IN :scheduleIds")
+    int deleteAllByScheduleIdIn(@Param("scheduleIds") List<Long> scheduleIds);
 }
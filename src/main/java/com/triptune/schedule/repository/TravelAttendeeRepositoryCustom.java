@@ -1,5 +0,0 @@
-package com.triptune.schedule.repository;
-
-public interface TravelAttendeeRepositoryCustom {
-    String findAuthorNicknameByScheduleId(Long scheduleId);
-}
@@ -4,11 +4,19 @@ import com.triptune.schedule.entity.TravelRoute;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface TravelRouteRepository extends JpaRepository<TravelRoute, Long>{
     Page<TravelRoute> findAllByTravelSchedule_ScheduleId(Pageable pageable, @Param("scheduleId") Long scheduleId);
     void deleteAllByTravelSchedule_ScheduleId(@Param("scheduleId") Long scheduleId);
+
+    @Modifying
+    @Query("DELETE FROM TravelRoute r WHERE r.travelSchedule.scheduleId IN :scheduleIds")
+    int deleteAllByScheduleIdIn(@Param("scheduleIds") List<Long> scheduleIds);
 }
@@ -2,10 +2,18 @@ package com.triptune.schedule.repository;
 
 import com.triptune.schedule.entity.TravelSchedule;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TravelScheduleRepository extends JpaRepository<TravelSchedule, Long>, TravelScheduleRepositoryCustom {
+
+    @Modifying
+    @Query("DELETE FROM TravelSchedule s WHERE s.scheduleId IN :scheduleIds")
+    int deleteAllByScheduleIdIn(@Param("scheduleIds") List<Long> scheduleIds);
 }
@@ -1,5 +1,6 @@
 package com.triptune.schedule.repository;
 
+import com.triptune.schedule.dto.response.OverviewScheduleResponse;
 import com.triptune.schedule.entity.TravelSchedule;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -13,6 +14,6 @@ public interface TravelScheduleRepositoryCustom {
     Integer countTravelSchedulesByUserIdAndKeyword(String keyword, String userId);
     Page<TravelSchedule> searchSharedTravelSchedulesByUserIdAndKeyword(Pageable pageable, String keyword, String userId);
     Integer countSharedTravelSchedulesByUserIdAndKeyword(String keyword, String userId);
-    Page<TravelSchedule> findEnableEditTravelSchedulesByUserId(Pageable pageable, String userId);
+    Page<OverviewScheduleResponse> findEnableEditTravelSchedulesByUserId(Pageable pageable, String userId);
     Integer countEnableEditTravelSchedulesByUserId(String userId);
 }
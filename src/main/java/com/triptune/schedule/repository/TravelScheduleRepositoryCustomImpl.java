@@ -1,14 +1,19 @@
 package com.triptune.schedule.repository;
 
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.triptune.global.util.PageUtils;
+import com.triptune.member.entity.QMember;
+import com.triptune.schedule.dto.response.OverviewScheduleResponse;
 import com.triptune.schedule.entity.QTravelAttendee;
 import com.triptune.schedule.entity.QTravelSchedule;
 import com.triptune.schedule.entity.TravelSchedule;
 import com.triptune.schedule.enumclass.AttendeePermission;
+import com.triptune.schedule.enumclass.AttendeeRole;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
@@ -16,6 +21,7 @@ import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
 import java.util.List;
 
+@Timed("triptune.repository")
 @Repository
 public class TravelScheduleRepositoryCustomImpl implements TravelScheduleRepositoryCustom {
 
@@ -175,10 +181,22 @@ public class TravelScheduleRepositoryCustomImpl implements TravelScheduleReposit
     }
 
     @Override
-    public Page<TravelSchedule> findEnableEditTravelSchedulesByUserId(Pageable pageable, String userId) {
-        List<TravelSchedule> travelSchedules = jpaQueryFactory
-                .selectFrom(travelSchedule)
+    public Page<OverviewScheduleResponse> findEnableEditTravelSchedulesByUserId(Pageable pageable, String userId) {
+        // 작성자 닉네임은 같은 일정의 AUTHOR 참석자와 조인해서 함께 조회
+        QTravelAttendee authorAttendee = new QTravelAttendee("authorAttendee");
+        QMember author = new QMember("author");
+
+        List<OverviewScheduleResponse> travelSchedules = jpaQueryFactory
+                .select(Projections.constructor(OverviewScheduleResponse.class,
+                        travelSchedule.scheduleId,
+                        travelSchedule.scheduleName,
+                        travelSchedule.startDate,
+                        travelSchedule.endDate,
+                        author.nickname))
+                .from(travelSchedule)
                 .leftJoin(travelSchedule.travelAttendeeList, travelAttendee)
+                .leftJoin(travelSchedule.travelAttendeeList, authorAttendee).on(authorAttendee.role.eq(AttendeeRole.AUTHOR))
+                .leftJoin(authorAttendee.member, author)
                 .where(travelAttendee.member.userId.eq(userId)
                         .and(travelAttendee.permission.eq(AttendeePermission.ALL)
                                 .or(travelAttendee.permission.eq(AttendeePermission.EDIT))))
@@ -0,0 +1,56 @@
+package com.triptune.schedule.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.triptune.global.config.WebSocketConfig;
+import com.triptune.schedule.dto.ChatBroadcastDTO;
+import com.triptune.schedule.dto.response.ChatResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatBroadcastService {
+
+    public static final String CHAT_CHANNEL = "chat:broadcast";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.backend.chat.broker-type:simple}")
+    private String brokerType;
+
+
+    public void broadcast(Long scheduleId, ChatResponse response){
+        if (WebSocketConfig.BROKER_TYPE_REDIS.equals(brokerType)){
+            publish(ChatBroadcastDTO.of(scheduleId, response));
+            return;
+        }
+
+        // simple: 현재 노드 구독자에게 전달, relay: 외부 브로커가 모든 노드로 전파
+        deliver(scheduleId, response);
+    }
+
+    private void publish(ChatBroadcastDTO broadcastDTO){
+        try {
+            redisTemplate.convertAndSend(CHAT_CHANNEL, objectMapper.writeValueAsString(broadcastDTO));
+        } catch (JsonProcessingException e) {
+            log.error("채팅 메시지 발행 실패: {}", e.getMessage());
+            throw new IllegalStateException("채팅 메시지 직렬화 실패", e);
+        }
+    }
+
+    public void deliver(Long scheduleId, ChatResponse response){
+        messagingTemplate.convertAndSend(createChatDestination(scheduleId), response);
+    }
+
+    public static String createChatDestination(Long scheduleId){
+        return "/sub/schedules/" + scheduleId + "/chats";
+    }
+}
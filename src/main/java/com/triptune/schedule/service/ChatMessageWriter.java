@@ -0,0 +1,279 @@
+package com.triptune.schedule.service;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.triptune.schedule.entity.ChatMessage;
+import com.triptune.schedule.repository.ChatMessageRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageWriter {
+
+    private static final int DUPLICATE_KEY_CODE = 11000;
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 5000;
+
+    private final MongoTemplate mongoTemplate;
+    private final ChatMessageRepository chatMessageRepository;
+
+    @Value("${app.backend.chat.writer.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.backend.chat.writer.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.backend.chat.writer.flush-interval-millis:50}")
+    private long flushIntervalMillis;
+
+    @Value("${app.backend.chat.writer.offer-timeout-millis:100}")
+    private long offerTimeoutMillis;
+
+    @Value("${app.backend.chat.writer.discard-retention-seconds:60}")
+    private long discardRetentionSeconds;
+
+    // 삭제된 일정 id 별 만료 시각, 삭제 직후 늦게 들어온 메시지가 다시 저장되지 않도록 일정 시간 유지
+    private final Map<Long, Long> discardedScheduleIds = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private BlockingQueue<ChatMessage> queue;
+    private Thread writerThread;
+    private volatile boolean running;
+
+
+    @PostConstruct
+    public void start(){
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+        running = true;
+
+        writerThread = new Thread(this::run, "chat-message-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // flush 중인 저장 작업이 끊기지 않도록 interrupt 없이 종료 대기
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+
+        // 종료 전 남은 메시지 저장
+        List<ChatMessage> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        saveRemaining(remaining);
+    }
+
+
+    public void write(ChatMessage message){
+        if (isDiscarded(message)){
+            return;
+        }
+
+        boolean isQueued = false;
+
+        try {
+            isQueued = queue.offer(message, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (!isQueued){
+            // 큐가 가득 찬 경우 호출 스레드에서 직접 저장해 유입 속도 제한
+            saveDirectly(message);
+        }
+    }
+
+    /**
+     * 삭제할 일정의 메시지를 큐에서 제거하고, 진행 중인 저장이 끝날 때까지 기다린다.
+     * 반환 이후에는 해당 일정의 메시지가 보관 기간 동안 저장되지 않으므로 채팅 삭제 전에 호출해야 한다.
+     */
+    public void discard(Collection<Long> scheduleIds){
+        long now = System.nanoTime();
+        long expiresAt = now + TimeUnit.SECONDS.toNanos(discardRetentionSeconds);
+
+        discardedScheduleIds.values().removeIf(expiredAt -> expiredAt - now < 0);
+        scheduleIds.forEach(scheduleId -> discardedScheduleIds.put(scheduleId, expiresAt));
+
+        queue.removeIf(this::isDiscarded);
+
+        // 이미 꺼내 저장 중인 메시지의 저장이 끝날 때까지 대기
+        flushLock.lock();
+        flushLock.unlock();
+    }
+
+    private boolean isDiscarded(ChatMessage message){
+        Long expiresAt = discardedScheduleIds.get(message.getScheduleId());
+
+        return expiresAt != null && expiresAt - System.nanoTime() >= 0;
+    }
+
+    private void saveDirectly(ChatMessage message){
+        flushLock.lock();
+
+        try {
+            if (!isDiscarded(message)){
+                chatMessageRepository.save(message);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void run(){
+        List<ChatMessage> batch = new ArrayList<>(batchSize);
+        long backoffMillis = flushIntervalMillis;
+
+        while (running){
+            try {
+                if (batch.isEmpty()){
+                    collectBatch(batch);
+                }
+
+                if (batch.isEmpty()){
+                    continue;
+                }
+
+                batch = flush(batch);
+
+                if (batch.isEmpty()){
+                    backoffMillis = flushIntervalMillis;
+                    continue;
+                }
+
+                // 실패한 메시지는 재시도 (at-least-once, 중복 키는 저장 성공으로 처리)
+                Thread.sleep(backoffMillis);
+                backoffMillis = Math.min(backoffMillis * 2, MAX_RETRY_BACKOFF_MILLIS);
+            } catch (InterruptedException e) {
+                if (!running){
+                    break;
+                }
+            } catch (RuntimeException e) {
+                // 예외로 writer 스레드가 종료되지 않도록 모든 예외를 잡고 재시도
+                log.error("채팅 메시지 일괄 저장 실패", e);
+                sleepQuietly(backoffMillis);
+                backoffMillis = Math.min(backoffMillis * 2, MAX_RETRY_BACKOFF_MILLIS);
+            }
+        }
+
+        // 종료 시점에 저장하지 못한 메시지는 큐에 다시 넣지 않고 바로 저장 (큐가 가득 찬 경우 유실 방지)
+        saveRemaining(batch);
+    }
+
+    private void saveRemaining(List<ChatMessage> messages){
+        if (messages.isEmpty()){
+            return;
+        }
+
+        try {
+            List<ChatMessage> failed = flush(messages);
+
+            if (!failed.isEmpty()){
+                log.error("종료 시 저장하지 못한 채팅 메시지 {}건", failed.size());
+            }
+        } catch (RuntimeException e) {
+            log.error("종료 시 채팅 메시지 {}건 저장 실패", messages.size(), e);
+        }
+    }
+
+    private void collectBatch(List<ChatMessage> batch) throws InterruptedException {
+        ChatMessage message = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+
+        if (message == null){
+            return;
+        }
+
+        batch.add(message);
+
+        // 첫 메시지 이후 flush 간격 동안 batchSize 만큼 모아서 저장
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+
+        while (batch.size() < batchSize){
+            queue.drainTo(batch, batchSize - batch.size());
+
+            long remaining = deadline - System.nanoTime();
+
+            if (batch.size() >= batchSize || remaining <= 0){
+                break;
+            }
+
+            message = queue.poll(remaining, TimeUnit.NANOSECONDS);
+
+            if (message == null){
+                break;
+            }
+
+            batch.add(message);
+        }
+    }
+
+    /**
+     * 삭제된 일정의 메시지를 제외하고 unordered bulk insert 로 저장한 뒤, 저장에 실패한 메시지 목록을 반환한다.
+     */
+    List<ChatMessage> flush(List<ChatMessage> batch){
+        flushLock.lock();
+
+        try {
+            // 저장 대기 중 삭제된 일정의 메시지는 제외
+            List<ChatMessage> messages = batch.stream()
+                    .filter(message -> !isDiscarded(message))
+                    .toList();
+
+            if (messages.isEmpty()){
+                return new ArrayList<>();
+            }
+
+            return insert(messages);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private List<ChatMessage> insert(List<ChatMessage> messages){
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatMessage.class)
+                    .insert(messages)
+                    .execute();
+
+            return new ArrayList<>();
+        } catch (BulkOperationException e) {
+            List<ChatMessage> failed = new ArrayList<>();
+
+            for (BulkWriteError error : e.getErrors()){
+                if (error.getCode() != DUPLICATE_KEY_CODE){
+                    failed.add(messages.get(error.getIndex()));
+                }
+            }
+
+            if (!failed.isEmpty()){
+                log.error("채팅 메시지 {}건 저장 실패: {}", failed.size(), e.getMessage());
+            }
+
+            return failed;
+        }
+    }
+
+    private void sleepQuietly(long millis){
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
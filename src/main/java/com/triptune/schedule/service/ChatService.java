@@ -3,10 +3,15 @@ package com.triptune.schedule.service;
 import com.triptune.member.entity.Member;
 import com.triptune.member.repository.MemberRepository;
 import com.triptune.member.dto.response.MemberProfileResponse;
+import com.triptune.member.service.MemberProfileCacheService;
+import com.triptune.schedule.dto.ChatPrincipal;
+import com.triptune.schedule.dto.ChatTailDTO;
 import com.triptune.schedule.dto.request.ChatMessageRequest;
+import com.triptune.schedule.dto.response.ChatHistoryResponse;
 import com.triptune.schedule.dto.response.ChatResponse;
 import com.triptune.schedule.entity.ChatMessage;
 import com.triptune.schedule.entity.TravelAttendee;
+import com.triptune.schedule.enumclass.AttendeePermission;
 import com.triptune.schedule.exception.DataNotFoundChatException;
 import com.triptune.schedule.exception.ForbiddenChatException;
 import com.triptune.schedule.repository.ChatMessageRepository;
@@ -14,16 +19,18 @@ import com.triptune.schedule.repository.TravelAttendeeRepository;
 import com.triptune.schedule.repository.TravelScheduleRepository;
 import com.triptune.global.enumclass.ErrorCode;
 import com.triptune.global.util.PageUtils;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Timed("triptune.service")
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -33,19 +40,60 @@ public class ChatService {
     private final MemberRepository memberRepository;
     private final TravelAttendeeRepository travelAttendeeRepository;
     private final TravelScheduleRepository travelScheduleRepository;
+    private final ChatMessageWriter chatMessageWriter;
+    private final ChatTailCache chatTailCache;
+    private final MemberProfileCacheService memberProfileCacheService;
 
 
+    @Transactional(readOnly = true)
     public Page<ChatResponse> getChatMessages(int page, Long scheduleId) {
         Pageable pageable = PageUtils.chatPageable(page);
+
+        // 첫 페이지는 최근 채팅 캐시에서 조회
+        if (isFirstPage(page)){
+            Optional<ChatTailDTO> tail = chatTailCache.getTail(scheduleId);
+
+            if (tail.isPresent()){
+                return PageUtils.createPage(convertChatResponse(tail.get().getChats()), pageable, tail.get().getTotalElements());
+            }
+        }
+
         Page<ChatMessage> chatPage = chatMessageRepository.findAllByScheduleId(pageable, scheduleId);
 
-        Set<Long> memberIds = extractMemberId(chatPage.getContent());
-        Map<Long, MemberProfileResponse> memberProfileMap = getMemberProfiles(memberIds);
+        // 최신순으로 조회한 목록을 화면 표시 순서(오래된 순)로 변환
+        List<ChatMessage> chatMessages = new ArrayList<>(chatPage.getContent());
+        Collections.reverse(chatMessages);
+
+        List<ChatResponse> chatResponses = convertChatResponse(chatMessages);
+
+        if (isFirstPage(page)){
+            chatTailCache.warm(scheduleId, chatMessages, chatPage.getTotalElements());
+        }
 
-        List<ChatResponse> chatResponses = convertChatResponse(chatPage.getContent(), memberProfileMap);
         return PageUtils.createPage(chatResponses, pageable, chatPage.getTotalElements());
     }
 
+    @Transactional(readOnly = true)
+    public ChatHistoryResponse getChatMessagesBefore(Long scheduleId, String beforeMessageId) {
+        if (beforeMessageId == null){
+            Optional<ChatTailDTO> tail = chatTailCache.getTail(scheduleId);
+
+            if (tail.isPresent()){
+                List<ChatMessage> chats = tail.get().getChats();
+                return ChatHistoryResponse.of(convertChatResponse(chats), tail.get().getTotalElements() > chats.size());
+            }
+        }
+
+        Slice<ChatMessage> chatSlice = chatMessageRepository.findChatMessagesBefore(scheduleId, beforeMessageId, PageUtils.CHAT_SIZE);
+
+        List<ChatResponse> chatResponses = convertChatResponse(chatSlice.getContent());
+        return ChatHistoryResponse.of(chatResponses, chatSlice.hasNext());
+    }
+
+    private boolean isFirstPage(int page){
+        return page == 1;
+    }
+
     public Set<Long> extractMemberId(List<ChatMessage> chatMessages){
         return chatMessages.stream()
                 .map(ChatMessage::getMemberId)
@@ -53,35 +101,56 @@ public class ChatService {
     }
 
     public Map<Long, MemberProfileResponse> getMemberProfiles(Set<Long> memberIds){
-        return memberRepository.findMembersProfileByMemberId(memberIds)
-                .stream()
-                .collect(Collectors.toMap(MemberProfileResponse::getMemberId, Function.identity()));
+        return memberProfileCacheService.getMemberProfiles(memberIds);
+    }
 
+    public List<ChatResponse> convertChatResponse(List<ChatMessage> chatMessages){
+        // 최근 채팅 캐시에는 프로필을 저장하지 않으므로 DB, 캐시 조회 모두 프로필 캐시에서 채움
+        return convertChatResponse(chatMessages, getMemberProfiles(extractMemberId(chatMessages)));
     }
 
     public List<ChatResponse> convertChatResponse(List<ChatMessage> chatMessages, Map<Long, MemberProfileResponse> memberProfileMap){
         return chatMessages.stream()
                 .map(message -> ChatResponse.from(message, memberProfileMap.get(message.getMemberId())))
-                .sorted(Comparator.comparing(ChatResponse::getTimestamp))
                 .toList();
     }
 
 
-    public ChatResponse sendChatMessage(ChatMessageRequest chatMessageRequest) {
-        validateSchedule(chatMessageRequest.getScheduleId());
+    @Transactional(readOnly = true)
+    public ChatPrincipal createChatPrincipal(String userId){
+        Member member = memberRepository.findByUserId(userId)
+                .orElseThrow(() -> new DataNotFoundChatException(ErrorCode.MEMBER_NOT_FOUND));
+
+        return ChatPrincipal.from(member);
+    }
+
+    @Transactional(readOnly = true)
+    public AttendeePermission getAttendeePermission(Long scheduleId, String userId){
+        validateSchedule(scheduleId);
+        return getTravelAttendee(scheduleId, userId).getPermission();
+    }
+
 
-        Member member = getMemberByNickname(chatMessageRequest.getNickname());
-        TravelAttendee attendee = getTravelAttendee(chatMessageRequest.getScheduleId(), member.getUserId());
+    public ChatResponse sendChatMessage(ChatPrincipal principal, AttendeePermission permission, ChatMessageRequest chatMessageRequest) {
+        // 구독 시 세션에 저장된 권한으로 검사 (메시지마다 DB 조회 X)
+        if (permission == null){
+            throw new ForbiddenChatException(ErrorCode.FORBIDDEN_ACCESS_SCHEDULE);
+        }
 
-        if (!attendee.getPermission().isEnableChat()){
+        if (!permission.isEnableChat()){
             throw new ForbiddenChatException(ErrorCode.FORBIDDEN_CHAT_ATTENDEE);
         }
 
-        ChatMessage message = chatMessageRepository.save(ChatMessage.of(member, chatMessageRequest));
+        // id, timestamp 는 메모리에서 할당하고 저장은 writer 가 일괄 처리
+        ChatMessage message = ChatMessage.of(principal, chatMessageRequest);
+        chatMessageWriter.write(message);
 
-        return ChatResponse.from(message, member);
+        chatTailCache.append(message.getScheduleId(), message);
+
+        return ChatResponse.from(message, principal);
     }
 
+    @Transactional(readOnly = true)
     public void validateSchedule(Long scheduleId){
         boolean isExist = travelScheduleRepository.existsById(scheduleId);
 
@@ -90,12 +159,6 @@ public class ChatService {
         }
     }
 
-    private Member getMemberByNickname(String nickname){
-        return memberRepository.findByNickname(nickname)
-                .orElseThrow(() -> new DataNotFoundChatException(ErrorCode.MEMBER_NOT_FOUND));
-
-    }
-
     private TravelAttendee getTravelAttendee(Long scheduleId, String userId){
         return travelAttendeeRepository.findByTravelSchedule_ScheduleIdAndMember_UserId(scheduleId, userId)
                 .orElseThrow(() -> new ForbiddenChatException(ErrorCode.FORBIDDEN_ACCESS_SCHEDULE));
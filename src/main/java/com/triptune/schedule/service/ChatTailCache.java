@@ -0,0 +1,254 @@
+package com.triptune.schedule.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.triptune.global.config.WebSocketConfig;
+import com.triptune.global.util.PageUtils;
+import com.triptune.schedule.dto.ChatTailDTO;
+import com.triptune.schedule.entity.ChatMessage;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정별 최근 채팅을 보관하는 캐시.
+ * 노드 로컬 링 버퍼와 노드 간 공유되는 Redis 리스트 2단계로 구성된다.
+ * 닉네임, 프로필 이미지는 변경될 수 있으므로 저장하지 않고 조회 시 MemberProfileCacheService 로 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatTailCache {
+
+    private static final RedisScript<Long> APPEND_SCRIPT = createScript("scripts/chat-tail-append.lua", Long.class);
+    @SuppressWarnings("unchecked")
+    private static final RedisScript<List<String>> WARM_SCRIPT = (RedisScript<List<String>>) (RedisScript<?>) createScript("scripts/chat-tail-warm.lua", List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.backend.chat.broker-type:simple}")
+    private String brokerType;
+
+    @Value("${app.backend.chat.tail.max-schedules:1000}")
+    private int maxSchedules;
+
+    @Value("${app.backend.chat.tail.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    // 로컬 캐시는 다른 노드의 삭제(evict)를 알 수 없으므로 짧게 유지 후 Redis 에서 다시 조회
+    @Value("${app.backend.chat.tail.local-ttl-seconds:60}")
+    private long localTtlSeconds;
+
+    private Map<Long, LocalTail> localTails;
+
+
+    @PostConstruct
+    public void init(){
+        // 최근에 조회된 일정 순으로 maxSchedules 개만 유지
+        localTails = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true){
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, LocalTail> eldest) {
+                return size() > maxSchedules;
+            }
+        });
+    }
+
+    public Optional<ChatTailDTO> getTail(Long scheduleId){
+        LocalTail localTail = localTails.get(scheduleId);
+
+        if (localTail != null && localTail.isExpired()){
+            localTails.remove(scheduleId, localTail);
+        } else if (localTail != null){
+            return Optional.of(localTail.snapshot());
+        }
+
+        Optional<ChatTailDTO> tail = getRedisTail(scheduleId);
+        tail.ifPresent(value -> putLocal(scheduleId, value));
+
+        return tail;
+    }
+
+    public void warm(Long scheduleId, List<ChatMessage> chats, long totalElements){
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(totalElements));
+        args.add(String.valueOf(ttlSeconds));
+        args.add(String.valueOf(PageUtils.CHAT_SIZE));
+
+        List<ChatMessage> tailChats = new ArrayList<>(chats);
+
+        try {
+            for (ChatMessage chat : chats){
+                args.add(objectMapper.writeValueAsString(chat));
+            }
+
+            // DB 조회 전에 전송되어 writer 큐에 남아 있던 채팅은 캐시 목록에서 이어 붙임
+            List<String> pending = redisTemplate.execute(WARM_SCRIPT, createKeys(scheduleId), args.toArray());
+
+            for (String value : Objects.requireNonNullElse(pending, Collections.<String>emptyList())){
+                tailChats.add(objectMapper.readValue(value, ChatMessage.class));
+            }
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("채팅 캐시 저장 실패: {}", e.getMessage());
+            return;
+        }
+
+        putLocal(scheduleId, ChatTailDTO.of(tailChats, totalElements + tailChats.size() - chats.size()));
+    }
+
+    public void append(Long scheduleId, ChatMessage chat){
+        try {
+            redisTemplate.execute(APPEND_SCRIPT, createKeys(scheduleId),
+                    objectMapper.writeValueAsString(chat), String.valueOf(PageUtils.CHAT_SIZE), String.valueOf(ttlSeconds));
+        } catch (JsonProcessingException | DataAccessException e) {
+            // 캐시 갱신 실패 시 다음 조회가 DB 에서 다시 채우도록 삭제
+            log.warn("채팅 캐시 추가 실패: {}", e.getMessage());
+            evict(scheduleId);
+            return;
+        }
+
+        // redis 브로커는 구독 메시지를 받은 노드마다 로컬 캐시를 삭제해 Redis 에서 다시 조회
+        if (WebSocketConfig.BROKER_TYPE_SIMPLE.equals(brokerType)){
+            LocalTail localTail = localTails.get(scheduleId);
+
+            if (localTail != null){
+                localTail.append(chat);
+            }
+        }
+    }
+
+    public void evictLocal(Long scheduleId){
+        localTails.remove(scheduleId);
+    }
+
+    /**
+     * 일정 삭제 등으로 캐시된 채팅이 바뀐 일정의 캐시 삭제
+     * 트랜잭션 중이면 커밋 이후 삭제해 변경 전 데이터가 다시 캐시되지 않도록 함
+     */
+    public void evictAll(Collection<Long> scheduleIds){
+        if (scheduleIds.isEmpty()){
+            return;
+        }
+
+        List<Long> ids = List.copyOf(scheduleIds);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()){
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ids.forEach(ChatTailCache.this::evict);
+                }
+            });
+            return;
+        }
+
+        ids.forEach(this::evict);
+    }
+
+    public void evict(Long scheduleId){
+        localTails.remove(scheduleId);
+
+        try {
+            redisTemplate.delete(createKeys(scheduleId));
+        } catch (DataAccessException e) {
+            log.warn("채팅 캐시 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+
+    private Optional<ChatTailDTO> getRedisTail(Long scheduleId){
+        try {
+            String count = redisTemplate.opsForValue().get(createCountKey(scheduleId));
+
+            if (count == null){
+                return Optional.empty();
+            }
+
+            List<String> values = redisTemplate.opsForList().range(createTailKey(scheduleId), 0, -1);
+            List<ChatMessage> chats = new ArrayList<>();
+
+            for (String value : Objects.requireNonNullElse(values, Collections.<String>emptyList())){
+                chats.add(objectMapper.readValue(value, ChatMessage.class));
+            }
+
+            return Optional.of(ChatTailDTO.of(chats, Long.parseLong(count)));
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("채팅 캐시 조회 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void putLocal(Long scheduleId, ChatTailDTO tail){
+        // relay 브로커는 다른 노드의 메시지를 받을 수 없어 Redis 만 사용
+        if (WebSocketConfig.BROKER_TYPE_RELAY.equals(brokerType)){
+            return;
+        }
+
+        localTails.put(scheduleId, new LocalTail(tail, System.nanoTime() + TimeUnit.SECONDS.toNanos(localTtlSeconds)));
+    }
+
+    private List<String> createKeys(Long scheduleId){
+        return List.of(createTailKey(scheduleId), createCountKey(scheduleId));
+    }
+
+    private String createTailKey(Long scheduleId){
+        return "chat:tail:" + scheduleId;
+    }
+
+    private String createCountKey(Long scheduleId){
+        return "chat:tail:" + scheduleId + ":count";
+    }
+
+    private static <T> RedisScript<T> createScript(String path, Class<T> resultType){
+        DefaultRedisScript<T> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(path));
+        script.setResultType(resultType);
+        return script;
+    }
+
+
+    private static class LocalTail {
+        private final Deque<ChatMessage> chats;
+        private final long expiresAtNanos;
+        private long totalElements;
+
+        LocalTail(ChatTailDTO tail, long expiresAtNanos){
+            this.chats = new ArrayDeque<>(tail.getChats());
+            this.expiresAtNanos = expiresAtNanos;
+            this.totalElements = tail.getTotalElements();
+            trim();
+        }
+
+        boolean isExpired(){
+            return System.nanoTime() - expiresAtNanos > 0;
+        }
+
+        synchronized void append(ChatMessage chat){
+            chats.addLast(chat);
+            totalElements++;
+            trim();
+        }
+
+        synchronized ChatTailDTO snapshot(){
+            return ChatTailDTO.of(new ArrayList<>(chats), totalElements);
+        }
+
+        private void trim(){
+            while (chats.size() > PageUtils.CHAT_SIZE){
+                chats.removeFirst();
+            }
+        }
+    }
+}
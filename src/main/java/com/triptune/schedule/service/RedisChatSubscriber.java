@@ -0,0 +1,34 @@
+package com.triptune.schedule.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.triptune.schedule.dto.ChatBroadcastDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.backend.chat.broker-type", havingValue = "redis")
+public class RedisChatSubscriber implements MessageListener {
+
+    private final ChatBroadcastService chatBroadcastService;
+    private final ChatTailCache chatTailCache;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            ChatBroadcastDTO broadcastDTO = objectMapper.readValue(message.getBody(), ChatBroadcastDTO.class);
+            chatTailCache.evictLocal(broadcastDTO.getScheduleId());
+            chatBroadcastService.deliver(broadcastDTO.getScheduleId(), broadcastDTO.getChat());
+        } catch (IOException e) {
+            log.error("채팅 메시지 수신 실패: {}", e.getMessage());
+        }
+    }
+}
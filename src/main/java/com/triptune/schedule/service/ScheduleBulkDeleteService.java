@@ -0,0 +1,50 @@
+package com.triptune.schedule.service;
+
+import com.triptune.schedule.repository.ChatMessageRepository;
+import com.triptune.schedule.repository.TravelAttendeeRepository;
+import com.triptune.schedule.repository.TravelRouteRepository;
+import com.triptune.schedule.repository.TravelScheduleRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 일정 여러 건을 엔티티 조회 없이 테이블 단위 벌크 쿼리로 삭제
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ScheduleBulkDeleteService {
+
+    // IN 절 파라미터 개수 제한
+    public static final int CHUNK_SIZE = 500;
+
+    private final TravelScheduleRepository travelScheduleRepository;
+    private final TravelAttendeeRepository travelAttendeeRepository;
+    private final TravelRouteRepository travelRouteRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatTailCache chatTailCache;
+    private final ChatMessageWriter chatMessageWriter;
+
+
+    public void deleteSchedules(List<Long> scheduleIds){
+        for (int from = 0; from < scheduleIds.size(); from += CHUNK_SIZE){
+            int to = Math.min(from + CHUNK_SIZE, scheduleIds.size());
+            deleteChunk(scheduleIds.subList(from, to));
+        }
+    }
+
+    private void deleteChunk(List<Long> scheduleIds){
+        // 외래키 순서대로 여행 루트, 참석자, 일정 삭제 후 채팅 삭제
+        travelRouteRepository.deleteAllByScheduleIdIn(scheduleIds);
+        travelAttendeeRepository.deleteAllByScheduleIdIn(scheduleIds);
+        travelScheduleRepository.deleteAllByScheduleIdIn(scheduleIds);
+
+        // 저장 대기 중인 채팅이 삭제 후 다시 저장되지 않도록 먼저 제외
+        chatMessageWriter.discard(scheduleIds);
+        chatMessageRepository.deleteAllByScheduleIdIn(scheduleIds);
+        chatTailCache.evictAll(scheduleIds);
+    }
+}
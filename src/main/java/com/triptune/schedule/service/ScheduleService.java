@@ -1,7 +1,9 @@
 package com.triptune.schedule.service;
 
+import com.triptune.member.dto.response.MemberProfileResponse;
 import com.triptune.member.entity.Member;
 import com.triptune.member.repository.MemberRepository;
+import com.triptune.member.service.MemberProfileCacheService;
 import com.triptune.schedule.dto.AuthorDTO;
 import com.triptune.schedule.dto.request.ScheduleCreateRequest;
 import com.triptune.schedule.dto.request.RouteRequest;
@@ -10,13 +12,11 @@ import com.triptune.schedule.dto.response.OverviewScheduleResponse;
 import com.triptune.schedule.dto.response.ScheduleCreateResponse;
 import com.triptune.schedule.dto.response.ScheduleDetailResponse;
 import com.triptune.schedule.dto.response.ScheduleInfoResponse;
-import com.triptune.schedule.entity.ChatMessage;
 import com.triptune.schedule.entity.TravelAttendee;
 import com.triptune.schedule.entity.TravelRoute;
 import com.triptune.schedule.entity.TravelSchedule;
 import com.triptune.schedule.enumclass.AttendeeRole;
 import com.triptune.schedule.exception.ForbiddenScheduleException;
-import com.triptune.schedule.repository.ChatMessageRepository;
 import com.triptune.schedule.repository.TravelAttendeeRepository;
 import com.triptune.schedule.repository.TravelRouteRepository;
 import com.triptune.schedule.repository.TravelScheduleRepository;
@@ -28,15 +28,17 @@ import com.triptune.global.exception.DataNotFoundException;
 import com.triptune.global.response.pagination.PageResponse;
 import com.triptune.global.response.pagination.SchedulePageResponse;
 import com.triptune.global.util.PageUtils;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -49,8 +51,10 @@ public class ScheduleService {
     private final TravelAttendeeRepository travelAttendeeRepository;
     private final TravelPlaceRepository travelPlaceRepository;
     private final TravelRouteRepository travelRouteRepository;
-    private final ChatMessageRepository chatMessageRepository;
+    private final ScheduleBulkDeleteService scheduleBulkDeleteService;
+    private final MemberProfileCacheService memberProfileCacheService;
 
+    @Transactional(readOnly = true)
     public SchedulePageResponse<ScheduleInfoResponse> getAllSchedulesByUserId(int page, String userId) {
         Pageable pageable = PageUtils.schedulePageable(page);
         Page<TravelSchedule> schedulePage = travelScheduleRepository.findTravelSchedulesByUserId(pageable, userId);
@@ -63,6 +67,7 @@ public class ScheduleService {
     }
 
 
+    @Transactional(readOnly = true)
     public SchedulePageResponse<ScheduleInfoResponse> getSharedSchedulesByUserId(int page, String userId) {
         Pageable pageable = PageUtils.schedulePageable(page);
         Page<TravelSchedule> schedulePage = travelScheduleRepository.findSharedTravelSchedulesByUserId(pageable, userId);
@@ -75,20 +80,13 @@ public class ScheduleService {
     }
 
 
+    @Transactional(readOnly = true)
     public Page<OverviewScheduleResponse> getEnableEditScheduleByUserId(int page, String userId) {
         Pageable pageable = PageUtils.scheduleModalPageable(page);
-
-        return travelScheduleRepository.findEnableEditTravelSchedulesByUserId(pageable, userId)
-                .map(schedule -> {
-                    String author = findAuthorNicknameByScheduleId(schedule.getScheduleId());
-                    return OverviewScheduleResponse.from(schedule, author);
-                });
-    }
-
-    public String findAuthorNicknameByScheduleId(Long scheduleId){
-        return travelAttendeeRepository.findAuthorNicknameByScheduleId(scheduleId);
+        return travelScheduleRepository.findEnableEditTravelSchedulesByUserId(pageable, userId);
     }
 
+    @Transactional(readOnly = true)
     public SchedulePageResponse<ScheduleInfoResponse> searchAllSchedules(int page, String keyword, String userId) {
         Pageable pageable = PageUtils.schedulePageable(page);
         Page<TravelSchedule> schedulesPage = travelScheduleRepository.searchTravelSchedulesByUserIdAndKeyword(pageable, keyword, userId);
@@ -102,6 +100,7 @@ public class ScheduleService {
 
 
 
+    @Transactional(readOnly = true)
     public SchedulePageResponse<ScheduleInfoResponse> searchSharedSchedules(int page, String keyword, String userId) {
         Pageable pageable = PageUtils.schedulePageable(page);
         Page<TravelSchedule> schedulesPage = travelScheduleRepository.searchSharedTravelSchedulesByUserIdAndKeyword(pageable, keyword, userId);
@@ -119,11 +118,13 @@ public class ScheduleService {
             return Collections.emptyList();
         }
 
+        Map<Long, MemberProfileResponse> authorProfiles = getAuthorProfiles(schedulePage.getContent());
+
         return schedulePage.stream()
                 .map(schedule -> {
                     String thumbnailUrl = getThumbnailUrl(schedule);
                     TravelAttendee attendee = getAttendeeInfo(schedule, userId);
-                    AuthorDTO authorDTO = createAuthorDTO(schedule);
+                    AuthorDTO authorDTO = createAuthorDTO(schedule, authorProfiles);
 
                     return ScheduleInfoResponse.from(schedule, attendee.getRole(), thumbnailUrl, authorDTO);
                 })
@@ -131,14 +132,31 @@ public class ScheduleService {
     }
 
 
-    public AuthorDTO createAuthorDTO(TravelSchedule schedule){
-        Member author = schedule.getTravelAttendeeList().stream()
+    public Map<Long, MemberProfileResponse> getAuthorProfiles(List<TravelSchedule> schedules){
+        // 페이지 내 작성자 프로필을 한 번에 조회
+        Set<Long> authorIds = schedules.stream()
+                .map(this::getAuthorMemberId)
+                .collect(Collectors.toSet());
+
+        return memberProfileCacheService.getMemberProfiles(authorIds);
+    }
+
+    public AuthorDTO createAuthorDTO(TravelSchedule schedule, Map<Long, MemberProfileResponse> authorProfiles){
+        MemberProfileResponse author = authorProfiles.get(getAuthorMemberId(schedule));
+
+        if (author == null){
+            throw new DataNotFoundException(ErrorCode.AUTHOR_NOT_FOUND);
+        }
+
+        return AuthorDTO.of(author.getNickname(), author.getProfileUrl());
+    }
+
+    private Long getAuthorMemberId(TravelSchedule schedule){
+        return schedule.getTravelAttendeeList().stream()
                 .filter(attendee -> attendee.getRole().equals(AttendeeRole.AUTHOR))
-                .map(TravelAttendee::getMember)
+                .map(attendee -> attendee.getMember().getMemberId())
                 .findFirst()
                 .orElseThrow(() -> new DataNotFoundException(ErrorCode.AUTHOR_NOT_FOUND));
-
-        return AuthorDTO.of(author.getNickname(), author.getProfileImage().getS3ObjectUrl());
     }
 
 
@@ -183,12 +201,14 @@ public class ScheduleService {
     }
 
 
+    @Transactional(readOnly = true)
     public Member getMemberByUserId(String userId){
         return memberRepository.findByUserId(userId)
                 .orElseThrow(() ->  new DataNotFoundException(ErrorCode.MEMBER_NOT_FOUND));
     }
 
 
+    @Transactional(readOnly = true)
     public ScheduleDetailResponse getScheduleDetail(Long scheduleId, int page) {
         TravelSchedule schedule = getScheduleByScheduleId(scheduleId);
 
@@ -242,6 +262,7 @@ public class ScheduleService {
     }
 
 
+    @Transactional(readOnly = true)
     public TravelPlace getPlaceByPlaceId(Long placeId){
         return travelPlaceRepository.findById(placeId)
                 .orElseThrow(() ->  new DataNotFoundException(ErrorCode.PLACE_NOT_FOUND));
@@ -256,17 +277,8 @@ public class ScheduleService {
             throw new ForbiddenScheduleException(ErrorCode.FORBIDDEN_DELETE_SCHEDULE);
         }
 
-        travelScheduleRepository.deleteById(scheduleId);
-        deleteChatMessageByScheduleId(scheduleId);
-    }
-
-
-    public void deleteChatMessageByScheduleId(Long scheduleId){
-        List<ChatMessage> chatMessages = chatMessageRepository.findAllByScheduleId(scheduleId);
-
-        if (!chatMessages.isEmpty()){
-            chatMessageRepository.deleteAllByScheduleId(scheduleId);
-        }
+        // 일정, 참석자, 여행 루트를 조회하지 않고 벌크 삭제 후 채팅 메시지 삭제
+        scheduleBulkDeleteService.deleteSchedules(List.of(scheduleId));
     }
 
 
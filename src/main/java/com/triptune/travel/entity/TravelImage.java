@@ -26,6 +26,15 @@ public class TravelImage {
     @Column(name = "s3_object_url")
     private String s3ObjectUrl;
 
+    @Column(name = "small_object_url")
+    private String smallObjectUrl;
+
+    @Column(name = "medium_object_url")
+    private String mediumObjectUrl;
+
+    @Column(name = "large_object_url")
+    private String largeObjectUrl;
+
     @Column(name = "original_name")
     private String originalName;
 
@@ -57,4 +66,9 @@ public class TravelImage {
         this.createdAt = createdAt;
         this.isThumbnail = isThumbnail;
     }
+
+    public String getCardUrl(){
+        // 변환 이미지가 없는 경우 원본 사용
+        return mediumObjectUrl != null ? mediumObjectUrl : s3ObjectUrl;
+    }
 }
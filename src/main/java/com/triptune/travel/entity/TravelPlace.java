@@ -114,7 +114,7 @@ public class TravelPlace {
     public String getThumbnailUrl(){
         return travelImageList.stream()
                 .filter(TravelImage::isThumbnail)
-                .map(TravelImage::getS3ObjectUrl)
+                .map(TravelImage::getCardUrl)
                 .findFirst()
                 .orElse(null);
     }
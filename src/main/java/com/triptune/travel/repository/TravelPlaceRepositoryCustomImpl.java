@@ -18,6 +18,7 @@ import com.triptune.travel.entity.QTravelImage;
 import com.triptune.travel.entity.QTravelPlace;
 import com.triptune.travel.enumclass.CityType;
 import com.triptune.travel.enumclass.ThemeType;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -28,6 +29,7 @@ import java.util.List;
 import static com.querydsl.core.types.dsl.Expressions.constant;
 import static com.querydsl.core.types.dsl.MathExpressions.*;
 
+@Timed("triptune.repository")
 @Repository
 public class TravelPlaceRepositoryCustomImpl implements TravelPlaceRepositoryCustom {
     private static final int CAROUSEL_LIMIT = 20;
@@ -65,7 +67,7 @@ public class TravelPlaceRepositoryCustomImpl implements TravelPlaceRepositoryCus
                         travelPlace.latitude,
                         travelPlace.placeName,
                         JPAExpressions
-                                .select(travelImage.s3ObjectUrl)
+                                .select(travelImage.mediumObjectUrl.coalesce(travelImage.s3ObjectUrl))
                                 .from(travelImage)
                                 .where(travelImage.travelPlace.placeId.eq(travelPlace.placeId)
                                         .and(travelImage.isThumbnail.isTrue()))
@@ -110,7 +112,7 @@ public class TravelPlaceRepositoryCustomImpl implements TravelPlaceRepositoryCus
                         travelPlace.latitude,
                         travelPlace.placeName,
                         JPAExpressions
-                                .select(travelImage.s3ObjectUrl)
+                                .select(travelImage.mediumObjectUrl.coalesce(travelImage.s3ObjectUrl))
                                 .from(travelImage)
                                 .where(travelImage.travelPlace.placeId.eq(travelPlace.placeId)
                                         .and(travelImage.isThumbnail.isTrue()))
@@ -181,7 +183,7 @@ public class TravelPlaceRepositoryCustomImpl implements TravelPlaceRepositoryCus
                         travelPlace.latitude,
                         travelPlace.placeName,
                         JPAExpressions
-                                .select(travelImage.s3ObjectUrl)
+                                .select(travelImage.mediumObjectUrl.coalesce(travelImage.s3ObjectUrl))
                                 .from(travelImage)
                                 .where(travelImage.travelPlace.placeId.eq(travelPlace.placeId)
                                         .and(travelImage.isThumbnail.isTrue()))
@@ -219,7 +221,7 @@ public class TravelPlaceRepositoryCustomImpl implements TravelPlaceRepositoryCus
                         travelPlace.latitude,
                         travelPlace.placeName,
                         JPAExpressions
-                                .select(travelImage.s3ObjectUrl)
+                                .select(travelImage.mediumObjectUrl.coalesce(travelImage.s3ObjectUrl))
                                 .from(travelImage)
                                 .where(travelImage.travelPlace.placeId.eq(travelPlace.placeId)
                                         .and(travelImage.isThumbnail.isTrue()))
@@ -275,7 +277,7 @@ public class TravelPlaceRepositoryCustomImpl implements TravelPlaceRepositoryCus
                         travelPlace.address,
                         travelPlace.detailAddress,
                         travelPlace.placeName,
-                        travelImage.s3ObjectUrl
+                        travelImage.mediumObjectUrl.coalesce(travelImage.s3ObjectUrl)
                 ))
                 .from(travelPlace)
                 .leftJoin(travelImage)
@@ -296,7 +298,7 @@ public class TravelPlaceRepositoryCustomImpl implements TravelPlaceRepositoryCus
                         travelPlace.address,
                         travelPlace.detailAddress,
                         travelPlace.placeName,
-                        travelImage.s3ObjectUrl))
+                        travelImage.mediumObjectUrl.coalesce(travelImage.s3ObjectUrl)))
                 .from(travelPlace)
                 .leftJoin(travelImage)
                 .on(travelImage.travelPlace.placeId.eq(travelPlace.placeId)
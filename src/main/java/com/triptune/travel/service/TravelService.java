@@ -15,17 +15,19 @@ import com.triptune.travel.enumclass.CityType;
 import com.triptune.travel.enumclass.ThemeType;
 import com.triptune.travel.repository.TravelImageRepository;
 import com.triptune.travel.repository.TravelPlaceRepository;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
-@Transactional
+@Transactional(readOnly = true)
 public class TravelService {
     private static final int RADIUS_SIZE = 5;
 
@@ -59,17 +61,19 @@ public class TravelService {
     }
 
     public void markBookmarkedTravelPlaces(List<PlaceLocation> placeResponses, String userId){
-        if (userId != null){
-            placeResponses.forEach(placeResponse -> updateBookmarkStatus(userId, placeResponse));
+        if (userId == null || placeResponses.isEmpty()){
+            return;
         }
-    }
 
-    public void updateBookmarkStatus(String userId, PlaceLocation placeResponse){
-        boolean isBookmark = bookmarkRepository.existsByMember_UserIdAndTravelPlace_PlaceId(userId, placeResponse.getPlaceId());
+        // 페이지 내 여행지의 북마크 여부를 한 번에 조회
+        List<Long> placeIds = placeResponses.stream()
+                .map(PlaceLocation::getPlaceId)
+                .toList();
+        Set<Long> bookmarkedPlaceIds = new HashSet<>(bookmarkRepository.findBookmarkedPlaceIds(userId, placeIds));
 
-        if (isBookmark){
-            placeResponse.updateBookmarkStatusTrue();
-        }
+        placeResponses.stream()
+                .filter(placeResponse -> bookmarkedPlaceIds.contains(placeResponse.getPlaceId()))
+                .forEach(PlaceLocation::updateBookmarkStatusTrue);
     }
 
     public PlaceDetailResponse getTravelPlaceDetails(Long placeId, String userId) {
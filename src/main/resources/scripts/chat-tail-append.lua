@@ -0,0 +1,15 @@
+-- KEYS[1]: 최근 채팅 목록, KEYS[2]: 전체 채팅 수
+-- ARGV[1]: 채팅 JSON, ARGV[2]: 보관 개수, ARGV[3]: TTL(초)
+-- 캐시가 비어 있는 일정도 목록에는 추가해, DB 에 아직 저장되지 않은 채팅을 warm 에서 합칠 수 있도록 함
+-- 반환값: 1 캐시된 일정에 추가, 0 목록에만 추가 (조회 시 사용 X)
+redis.call('RPUSH', KEYS[1], ARGV[1])
+redis.call('LTRIM', KEYS[1], -tonumber(ARGV[2]), -1)
+redis.call('EXPIRE', KEYS[1], ARGV[3])
+
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    return 0
+end
+
+redis.call('INCR', KEYS[2])
+redis.call('EXPIRE', KEYS[2], ARGV[3])
+return 1
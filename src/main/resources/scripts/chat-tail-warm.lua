@@ -0,0 +1,35 @@
+-- KEYS[1]: 최근 채팅 목록, KEYS[2]: 전체 채팅 수
+-- ARGV[1]: 전체 채팅 수, ARGV[2]: TTL(초), ARGV[3]: 보관 개수, ARGV[4..]: DB 에서 조회한 채팅 JSON (오래된 순)
+-- 캐시가 비어 있는 동안 추가된 채팅 중 DB 조회 결과에 없는 채팅(아직 저장되지 않은 채팅)은 뒤에 이어 붙임
+-- 다른 노드가 먼저 채운 경우 덮어쓰지 않음
+-- 반환값: 이어 붙인 채팅 JSON 목록
+if redis.call('EXISTS', KEYS[2]) == 1 then
+    return {}
+end
+
+local loaded = {}
+for i = 4, #ARGV do
+    loaded[cjson.decode(ARGV[i]).messageId] = true
+end
+
+local pending = {}
+for _, value in ipairs(redis.call('LRANGE', KEYS[1], 0, -1)) do
+    if not loaded[cjson.decode(value).messageId] then
+        table.insert(pending, value)
+    end
+end
+
+redis.call('DEL', KEYS[1])
+
+if #ARGV > 3 then
+    redis.call('RPUSH', KEYS[1], unpack(ARGV, 4))
+end
+
+if #pending > 0 then
+    redis.call('RPUSH', KEYS[1], unpack(pending))
+end
+
+redis.call('LTRIM', KEYS[1], -tonumber(ARGV[3]), -1)
+redis.call('EXPIRE', KEYS[1], ARGV[2])
+redis.call('SET', KEYS[2], tonumber(ARGV[1]) + #pending, 'EX', ARGV[2])
+return pending
@@ -0,0 +1,11 @@
+-- KEYS[1]: 인증 코드, KEYS[2]: 재발송 대기
+-- ARGV[1]: 새 인증 코드, ARGV[2]: 인증 코드 TTL(초), ARGV[3]: 재발송 대기 시간(초)
+-- 재발송 대기 중이고 인증 코드가 남아 있으면 기존 코드를 그대로 사용
+-- 반환값: 1 새 코드 발급(이메일 발송 필요), 0 기존 코드 사용
+if redis.call('EXISTS', KEYS[2]) == 1 and redis.call('EXISTS', KEYS[1]) == 1 then
+    return 0
+end
+
+redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+redis.call('SET', KEYS[2], '1', 'EX', ARGV[3])
+return 1
@@ -0,0 +1,18 @@
+-- KEYS[1]: 재시도 대기 목록(zset), KEYS[2]: 발송 대기 stream
+-- ARGV[1]: 현재 시각(ms), ARGV[2]: 최대 이동 개수
+-- 재시도 시각이 지난 이메일을 stream 으로 옮김, 삭제와 추가 사이에 실패해 이메일이 유실되지 않도록 한 번에 실행
+-- 반환값: 옮긴 이메일 수
+local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+
+for _, value in ipairs(due) do
+    local fields = {}
+    for field, fieldValue in pairs(cjson.decode(value)) do
+        table.insert(fields, field)
+        table.insert(fields, fieldValue)
+    end
+
+    redis.call('XADD', KEYS[2], '*', unpack(fields))
+    redis.call('ZREM', KEYS[1], value)
+end
+
+return #due
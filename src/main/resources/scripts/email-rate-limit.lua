@@ -0,0 +1,55 @@
+-- KEYS[1]: 이메일 버킷, KEYS[2]: IP 버킷
+-- ARGV[1]: 이메일 버킷 크기, ARGV[2]: 이메일 토큰 충전 간격(ms), ARGV[3]: IP 버킷 크기, ARGV[4]: IP 토큰 충전 간격(ms)
+-- 두 버킷 모두 토큰이 남아 있을 때만 차감
+-- 반환값: 0 허용, 양수 다음 요청까지 대기 시간(ms)
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local function refill(key, capacity, interval)
+    local bucket = redis.call('HMGET', key, 'tokens', 'ts')
+    local tokens = tonumber(bucket[1])
+    local ts = tonumber(bucket[2])
+
+    if tokens == nil or ts == nil then
+        return capacity, now
+    end
+
+    local refilled = math.floor((now - ts) / interval)
+
+    if refilled > 0 then
+        tokens = math.min(capacity, tokens + refilled)
+        ts = ts + refilled * interval
+    end
+
+    if tokens >= capacity then
+        ts = now
+    end
+
+    return tokens, ts
+end
+
+local emailCapacity, emailInterval = tonumber(ARGV[1]), tonumber(ARGV[2])
+local ipCapacity, ipInterval = tonumber(ARGV[3]), tonumber(ARGV[4])
+
+local emailTokens, emailTs = refill(KEYS[1], emailCapacity, emailInterval)
+local ipTokens, ipTs = refill(KEYS[2], ipCapacity, ipInterval)
+
+local waitMillis = 0
+
+if emailTokens < 1 then
+    waitMillis = math.max(waitMillis, emailInterval - (now - emailTs))
+end
+
+if ipTokens < 1 then
+    waitMillis = math.max(waitMillis, ipInterval - (now - ipTs))
+end
+
+if waitMillis > 0 then
+    return waitMillis
+end
+
+redis.call('HSET', KEYS[1], 'tokens', emailTokens - 1, 'ts', emailTs)
+redis.call('PEXPIRE', KEYS[1], emailCapacity * emailInterval)
+redis.call('HSET', KEYS[2], 'tokens', ipTokens - 1, 'ts', ipTs)
+redis.call('PEXPIRE', KEYS[2], ipCapacity * ipInterval)
+return 0
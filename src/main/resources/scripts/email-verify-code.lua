@@ -0,0 +1,17 @@
+-- KEYS[1]: 인증 코드, KEYS[2]: 인증 완료, KEYS[3]: 이전 형식의 인증 코드 (선택)
+-- ARGV[1]: 입력한 인증 코드, ARGV[2]: 인증 완료 TTL(초)
+-- 인증 코드가 일치하면 코드를 삭제(1회용)하고 인증 완료 상태 저장
+-- 반환값: 1 인증 성공, 0 인증 실패
+local codeKey = KEYS[1]
+
+if redis.call('GET', codeKey) ~= ARGV[1] then
+    if KEYS[3] == nil or redis.call('GET', KEYS[3]) ~= ARGV[1] then
+        return 0
+    end
+
+    codeKey = KEYS[3]
+end
+
+redis.call('DEL', codeKey)
+redis.call('SET', KEYS[2], 'true', 'EX', ARGV[2])
+return 1
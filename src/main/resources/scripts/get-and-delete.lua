@@ -0,0 +1,13 @@
+-- KEYS: 조회 후 삭제할 키 (앞의 키부터 확인, 이전 형식의 키를 함께 넘길 수 있음)
+-- GETDEL 은 Redis 6.2 이상에서만 지원하므로 스크립트로 처리
+-- 반환값: 처음 찾은 값, 없으면 nil
+for _, key in ipairs(KEYS) do
+    local value = redis.call('GET', key)
+
+    if value then
+        redis.call('DEL', key)
+        return value
+    end
+end
+
+return nil
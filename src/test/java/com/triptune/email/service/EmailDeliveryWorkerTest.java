@@ -0,0 +1,220 @@
+package com.triptune.email.service;
+
+import com.triptune.email.dto.EmailTemplateRequest;
+import com.triptune.global.config.RedisConfig;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailDeliveryWorkerTest {
+
+    @InjectMocks
+    private EmailDeliveryWorker emailDeliveryWorker;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private JavaMailSender javaMailSender;
+
+    @Mock
+    private EmailTemplateRenderer emailTemplateRenderer;
+
+    @Mock
+    private EmailOutboxService emailOutboxService;
+
+    @Mock
+    private EmailDeliveryMetrics emailDeliveryMetrics;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    private EmailTemplateRequest templateRequest;
+    private MapRecord<String, Object, Object> record;
+
+    @BeforeEach
+    void setUp() throws MessagingException {
+        ReflectionTestUtils.setField(emailDeliveryWorker, "maxAttempts", 3);
+
+        templateRequest = new EmailTemplateRequest("제목", "test@email.com", Map.of("authCode", "Abc123"), "certificationEmail");
+        Map<Object, Object> fields = Map.of("recipientEmail", "test@email.com", "attempt", "0");
+        record = StreamRecords.newRecord()
+                .in(EmailOutboxService.OUTBOX_KEY)
+                .withId(RecordId.of("1-0"))
+                .ofMap(fields);
+
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        when(emailTemplateRenderer.createEmailTemplate(any())).thenAnswer(invocation -> new MimeMessage((Session) null));
+        when(emailOutboxService.toTemplateRequest(any())).thenReturn(templateRequest);
+    }
+
+
+    @Test
+    @DisplayName("이메일 발송")
+    void deliver(){
+        // given
+        when(emailOutboxService.getAttempt(any())).thenReturn(0);
+        when(emailDeliveryMetrics.getSent()).thenReturn(new AtomicLong());
+
+        // when
+        emailDeliveryWorker.deliver(List.of(record));
+
+        // then
+        verify(javaMailSender).send(any(MimeMessage[].class));
+        verify(emailOutboxService, never()).scheduleRetry(any(), anyInt());
+        verify(streamOperations).acknowledge(EmailOutboxService.OUTBOX_KEY, EmailDeliveryWorker.CONSUMER_GROUP, record.getId());
+        verify(streamOperations).delete(EmailOutboxService.OUTBOX_KEY, record.getId());
+    }
+
+    @Test
+    @DisplayName("이메일 발송 실패 시 재시도 등록")
+    void deliverFail_scheduleRetry(){
+        // given
+        when(emailOutboxService.getAttempt(any())).thenReturn(0);
+        doThrow(new MailSendException("SMTP 연결 실패")).when(javaMailSender).send(any(MimeMessage[].class));
+
+        // when
+        emailDeliveryWorker.deliver(List.of(record));
+
+        // then
+        verify(emailOutboxService).scheduleRetry(templateRequest, 1);
+        verify(emailOutboxService, never()).deadLetter(any(), anyInt());
+        verify(streamOperations).acknowledge(EmailOutboxService.OUTBOX_KEY, EmailDeliveryWorker.CONSUMER_GROUP, record.getId());
+    }
+
+    @Test
+    @DisplayName("최대 재시도 횟수 초과 시 실패 처리")
+    void deliverFail_deadLetter(){
+        // given
+        when(emailOutboxService.getAttempt(any())).thenReturn(2);
+        doThrow(new MailSendException("SMTP 연결 실패")).when(javaMailSender).send(any(MimeMessage[].class));
+
+        // when
+        emailDeliveryWorker.deliver(List.of(record));
+
+        // then
+        verify(emailOutboxService).deadLetter(templateRequest, 3);
+        verify(emailOutboxService, never()).scheduleRetry(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("예상하지 못한 예외가 발생해도 worker 가 종료되지 않고 계속 조회")
+    void run_runtimeException() throws Exception {
+        // given
+        ReflectionTestUtils.setField(emailDeliveryWorker, "workers", 1);
+        ReflectionTestUtils.setField(emailDeliveryWorker, "batchSize", 10);
+        ReflectionTestUtils.setField(emailDeliveryWorker, "blockMillis", 10L);
+        ReflectionTestUtils.setField(emailDeliveryWorker, "commandTimeoutMillis", RedisConfig.DEFAULT_COMMAND_TIMEOUT_MILLIS);
+
+        doThrow(new IllegalStateException("template error")).doNothing().when(emailOutboxService).moveDueRetries(anyInt());
+        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .thenReturn(List.of(record), List.of());
+        when(emailOutboxService.getAttempt(any())).thenReturn(0);
+        when(emailDeliveryMetrics.getSent()).thenReturn(new AtomicLong());
+
+        // when
+        emailDeliveryWorker.start();
+
+        // then
+        verify(javaMailSender, timeout(2000)).send(any(MimeMessage[].class));
+        verify(emailOutboxService, timeout(2000).atLeast(3)).moveDueRetries(10);
+        emailDeliveryWorker.shutdown();
+    }
+
+    @Test
+    @DisplayName("다른 consumer 가 오래 처리하지 못한 이메일을 가져와 발송")
+    void run_claimIdlePending() throws Exception {
+        // given
+        ReflectionTestUtils.setField(emailDeliveryWorker, "workers", 1);
+        ReflectionTestUtils.setField(emailDeliveryWorker, "batchSize", 10);
+        ReflectionTestUtils.setField(emailDeliveryWorker, "blockMillis", 10L);
+        ReflectionTestUtils.setField(emailDeliveryWorker, "commandTimeoutMillis", RedisConfig.DEFAULT_COMMAND_TIMEOUT_MILLIS);
+        ReflectionTestUtils.setField(emailDeliveryWorker, "claimIdleMillis", 300000L);
+        ReflectionTestUtils.setField(emailDeliveryWorker, "claimIntervalMillis", 60000L);
+
+        PendingMessages pendingMessages = new PendingMessages(EmailDeliveryWorker.CONSUMER_GROUP, List.of(
+                new PendingMessage(RecordId.of("1-0"), Consumer.from(EmailDeliveryWorker.CONSUMER_GROUP, "replaced-host-0"), Duration.ofMinutes(10), 1),
+                new PendingMessage(RecordId.of("2-0"), Consumer.from(EmailDeliveryWorker.CONSUMER_GROUP, "active-host-0"), Duration.ofSeconds(1), 1)
+        ));
+
+        when(streamOperations.pending(eq(EmailOutboxService.OUTBOX_KEY), eq(EmailDeliveryWorker.CONSUMER_GROUP), any(Range.class), eq(10L)))
+                .thenReturn(pendingMessages);
+        when(streamOperations.claim(eq(EmailOutboxService.OUTBOX_KEY), eq(EmailDeliveryWorker.CONSUMER_GROUP), anyString(),
+                eq(Duration.ofMillis(300000)), eq(RecordId.of("1-0"))))
+                .thenReturn(List.of(record));
+        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class))).thenReturn(List.of());
+        when(emailOutboxService.getAttempt(any())).thenReturn(0);
+        when(emailDeliveryMetrics.getSent()).thenReturn(new AtomicLong());
+
+        // when
+        emailDeliveryWorker.start();
+
+        // then
+        verify(javaMailSender, timeout(2000)).send(any(MimeMessage[].class));
+        emailDeliveryWorker.shutdown();
+
+        verify(streamOperations).acknowledge(EmailOutboxService.OUTBOX_KEY, EmailDeliveryWorker.CONSUMER_GROUP, record.getId());
+        verify(streamOperations, never()).claim(anyString(), anyString(), anyString(), any(Duration.class), eq(RecordId.of("2-0")));
+    }
+
+    @Test
+    @DisplayName("기본 Redis 명령 타임아웃 설정에서 명령 타임아웃보다 짧게 대기하며 이메일 조회")
+    void run_defaultCommandTimeout() throws Exception {
+        // given
+        ReflectionTestUtils.setField(emailDeliveryWorker, "workers", 1);
+        ReflectionTestUtils.setField(emailDeliveryWorker, "batchSize", 10);
+        ReflectionTestUtils.setField(emailDeliveryWorker, "blockMillis", EmailDeliveryWorker.DEFAULT_BLOCK_MILLIS);
+        ReflectionTestUtils.setField(emailDeliveryWorker, "commandTimeoutMillis", RedisConfig.DEFAULT_COMMAND_TIMEOUT_MILLIS);
+
+        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .thenReturn(List.of(), List.of(record), List.of());
+        when(emailOutboxService.getAttempt(any())).thenReturn(0);
+        when(emailDeliveryMetrics.getSent()).thenReturn(new AtomicLong());
+
+        // when
+        emailDeliveryWorker.start();
+
+        // then
+        verify(javaMailSender, timeout(3000)).send(any(MimeMessage[].class));
+        emailDeliveryWorker.shutdown();
+
+        ArgumentCaptor<StreamReadOptions> captor = ArgumentCaptor.forClass(StreamReadOptions.class);
+        verify(streamOperations, atLeast(2)).read(any(Consumer.class), captor.capture(), any(StreamOffset.class));
+
+        StreamReadOptions blockingOptions = captor.getAllValues().get(1);
+        assertThat(blockingOptions.getBlock()).isLessThan(RedisConfig.DEFAULT_COMMAND_TIMEOUT_MILLIS);
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.triptune.email.service;
+
+import com.triptune.email.exception.EmailRateLimitException;
+import com.triptune.global.enumclass.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmailRateLimiterTest {
+
+    @InjectMocks
+    private EmailRateLimiter emailRateLimiter;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+
+    @Test
+    @DisplayName("인증 이메일 요청 허용")
+    void checkCertificationRequest(){
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("rate:email:verify:test@email.com", "rate:ip:verify:127.0.0.1")), any(Object[].class)))
+                .thenReturn(0L);
+
+        // when, then
+        assertDoesNotThrow(() -> emailRateLimiter.checkCertificationRequest("test@email.com", "127.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("인증 이메일 요청 횟수 초과 시 EmailRateLimitException 발생")
+    void checkCertificationRequest_EmailRateLimitException(){
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), any(List.class), any(Object[].class)))
+                .thenReturn(1500L);
+
+        // when
+        EmailRateLimitException fail = assertThrows(EmailRateLimitException.class,
+                () -> emailRateLimiter.checkCertificationRequest("test@email.com", "127.0.0.1"));
+
+        // then
+        assertThat(fail.getHttpStatus()).isEqualTo(ErrorCode.TOO_MANY_EMAIL_REQUESTS.getStatus());
+        assertThat(fail.getRetryAfterSeconds()).isEqualTo(2);
+    }
+}
@@ -1,6 +1,11 @@
 package com.triptune.email.service;
 
+import com.triptune.email.dto.EmailTemplateRequest;
 import com.triptune.email.dto.VerifyAuthRequest;
+import com.triptune.email.exception.EmailRateLimitException;
+import com.triptune.global.enumclass.ErrorCode;
+import com.triptune.global.util.JwtUtils;
+import com.triptune.member.dto.request.FindPasswordRequest;
 import com.triptune.member.repository.MemberRepository;
 import com.triptune.email.service.EmailService;
 import com.triptune.global.util.RedisUtils;
@@ -8,6 +13,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -17,9 +24,10 @@ import org.springframework.mail.javamail.JavaMailSender;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -37,13 +45,22 @@ public class EmailServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private JwtUtils jwtUtils;
+
+    @Mock
+    private EmailOutboxService emailOutboxService;
+
+    @Mock
+    private EmailRateLimiter emailRateLimiter;
+
     @Test
     @DisplayName("이메일 인증 코드 검사")
     void verifyAuthCodeTrue(){
         // given
         VerifyAuthRequest request = new VerifyAuthRequest("test@email.com", "Abcd123");
 
-        when(redisUtils.getEmailData(any(), anyString())).thenReturn("Abcd123");
+        when(redisUtils.verifyEmailAuthCode("test@email.com", "Abcd123", 0L)).thenReturn(true);
 
         // when
         boolean response = emailService.verifyAuthCode(request);
@@ -58,7 +75,7 @@ public class EmailServiceTest {
         // given
         VerifyAuthRequest request = new VerifyAuthRequest("test@email.com", "Abcd123");
 
-        when(redisUtils.getEmailData(any(), anyString())).thenReturn("abcd123");
+        when(redisUtils.verifyEmailAuthCode("test@email.com", "Abcd123", 0L)).thenReturn(false);
 
         // when
         boolean response = emailService.verifyAuthCode(request);
@@ -67,6 +84,85 @@ public class EmailServiceTest {
         assertThat(response).isFalse();
     }
 
+    @Test
+    @DisplayName("인증 이메일 발송 요청 시 인증 코드 저장 후 발송 대기열에 추가")
+    void sendCertificationEmail(){
+        // given
+        String email = "test@email.com";
+        when(redisUtils.issueEmailAuthCode(eq(email), anyString(), anyLong(), anyLong())).thenReturn(true);
+
+        // when
+        emailService.sendCertificationEmail(email, "127.0.0.1");
+
+        // then
+        ArgumentCaptor<EmailTemplateRequest> captor = ArgumentCaptor.forClass(EmailTemplateRequest.class);
+        InOrder inOrder = inOrder(emailRateLimiter, redisUtils, emailOutboxService);
+        inOrder.verify(emailRateLimiter).checkCertificationRequest(email, "127.0.0.1");
+        inOrder.verify(redisUtils).issueEmailAuthCode(eq(email), anyString(), anyLong(), anyLong());
+        inOrder.verify(emailOutboxService).enqueue(captor.capture());
+
+        assertThat(captor.getValue().recipientEmail()).isEqualTo(email);
+        assertThat(captor.getValue().templateName()).isEqualTo("certificationEmail");
+        assertThat(captor.getValue().emailValues()).containsKey("authCode");
+        verifyNoInteractions(javaMailSender);
+    }
+
+    @Test
+    @DisplayName("재발송 대기 시간 내 인증 이메일 재요청 시 기존 인증 코드 사용")
+    void sendCertificationEmail_coalesced(){
+        // given
+        String email = "test@email.com";
+        when(redisUtils.issueEmailAuthCode(eq(email), anyString(), anyLong(), anyLong())).thenReturn(false);
+
+        // when
+        emailService.sendCertificationEmail(email, "127.0.0.1");
+
+        // then
+        verify(emailOutboxService, never()).enqueue(any());
+    }
+
+    @Test
+    @DisplayName("인증 이메일 요청 횟수 초과 시 EmailRateLimitException 발생")
+    void sendCertificationEmail_EmailRateLimitException(){
+        // given
+        String email = "test@email.com";
+        doThrow(new EmailRateLimitException(ErrorCode.TOO_MANY_EMAIL_REQUESTS, 30))
+                .when(emailRateLimiter).checkCertificationRequest(email, "127.0.0.1");
+
+        // when
+        EmailRateLimitException fail = assertThrows(EmailRateLimitException.class, () -> emailService.sendCertificationEmail(email, "127.0.0.1"));
+
+        // then
+        assertThat(fail.getHttpStatus()).isEqualTo(ErrorCode.TOO_MANY_EMAIL_REQUESTS.getStatus());
+        assertThat(fail.getMessage()).isEqualTo(ErrorCode.TOO_MANY_EMAIL_REQUESTS.getMessage());
+        assertThat(fail.getRetryAfterSeconds()).isEqualTo(30);
+        verifyNoInteractions(redisUtils, emailOutboxService);
+    }
+
+    @Test
+    @DisplayName("비밀번호 재설정 이메일 발송 요청 시 발송 대기열에 추가")
+    void sendResetPasswordEmail(){
+        // given
+        FindPasswordRequest request = FindPasswordRequest.builder()
+                .userId("member")
+                .email("test@email.com")
+                .build();
+
+        when(jwtUtils.createToken(anyString(), anyLong())).thenReturn("passwordToken");
+
+        // when
+        emailService.sendResetPasswordEmail(request);
+
+        // then
+        ArgumentCaptor<EmailTemplateRequest> captor = ArgumentCaptor.forClass(EmailTemplateRequest.class);
+        verify(redisUtils).savePasswordToken(eq("passwordToken"), eq("test@email.com"), anyLong());
+        verify(emailOutboxService).enqueue(captor.capture());
+
+        assertThat(captor.getValue().templateName()).isEqualTo("resetPasswordEmail");
+        assertThat(captor.getValue().emailValues().get("resetPasswordURL")).endsWith("passwordToken");
+        verifyNoInteractions(javaMailSender);
+    }
+
 
 
 
@@ -0,0 +1,111 @@
+package com.triptune.email.service;
+
+import com.triptune.email.dto.EmailTemplateRequest;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeBodyPart;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeMultipart;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.IContext;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailTemplateRendererTest {
+
+    @InjectMocks
+    private EmailTemplateRenderer emailTemplateRenderer;
+
+    @Mock
+    private JavaMailSender javaMailSender;
+
+    @Mock
+    private TemplateEngine templateEngine;
+
+    @BeforeEach
+    void setUp() throws MessagingException {
+        ReflectionTestUtils.setField(emailTemplateRenderer, "senderEmail", "sender@email.com");
+        emailTemplateRenderer.init();
+    }
+
+
+    @Test
+    @DisplayName("이메일 템플릿은 한 번만 렌더링하고 이후에는 변수 값만 치환")
+    void renderHtml(){
+        // given
+        when(templateEngine.process(eq("certificationEmail"), any(IContext.class)))
+                .thenAnswer(invocation -> "<span>" + invocation.getArgument(1, IContext.class).getVariable("authCode") + "</span>");
+
+        // when
+        String response1 = emailTemplateRenderer.renderHtml(createTemplateRequest("Abc123"));
+        String response2 = emailTemplateRenderer.renderHtml(createTemplateRequest("a<b&c"));
+
+        // then
+        assertThat(response1).isEqualTo("<span>Abc123</span>");
+        assertThat(response2).isEqualTo("<span>a&lt;b&amp;c</span>");
+        verify(templateEngine, times(1)).process(eq("certificationEmail"), any(IContext.class));
+    }
+
+    @Test
+    @DisplayName("변수가 렌더링되지 않는 템플릿은 매번 렌더링")
+    void renderHtml_withoutVariable(){
+        // given
+        when(templateEngine.process(eq("certificationEmail"), any(IContext.class))).thenReturn("<span></span>");
+
+        // when
+        emailTemplateRenderer.renderHtml(createTemplateRequest("Abc123"));
+        emailTemplateRenderer.renderHtml(createTemplateRequest("Abc123"));
+
+        // then
+        verify(templateEngine, times(3)).process(eq("certificationEmail"), any(IContext.class));
+    }
+
+    @Test
+    @DisplayName("이메일 생성")
+    void createEmailTemplate() throws MessagingException, IOException {
+        // given
+        when(javaMailSender.createMimeMessage()).thenReturn(new MimeMessage((Session) null));
+        when(templateEngine.process(eq("certificationEmail"), any(IContext.class)))
+                .thenAnswer(invocation -> "<span>" + invocation.getArgument(1, IContext.class).getVariable("authCode") + "</span>");
+
+        // when
+        MimeMessage response = emailTemplateRenderer.createEmailTemplate(createTemplateRequest("Abc123"));
+
+        // then
+        assertThat(response.getSubject()).isEqualTo("[TripTune] 이메일 인증 코드가 발급되었습니다.");
+        assertThat(response.getRecipients(Message.RecipientType.TO)[0].toString()).isEqualTo("test@email.com");
+        assertThat(response.getRecipients(Message.RecipientType.CC)[0].toString()).isEqualTo("sender@email.com");
+
+        MimeMultipart multipart = (MimeMultipart) response.getContent();
+        assertThat(multipart.getCount()).isEqualTo(2);
+        assertThat(multipart.getBodyPart(0).getContent()).isEqualTo("<span>Abc123</span>");
+        assertThat(((MimeBodyPart) multipart.getBodyPart(1)).getContentID()).isEqualTo("<image>");
+    }
+
+
+    private EmailTemplateRequest createTemplateRequest(String authCode){
+        return new EmailTemplateRequest(
+                "[TripTune] 이메일 인증 코드가 발급되었습니다.",
+                "test@email.com",
+                Map.of("authCode", authCode),
+                "certificationEmail"
+        );
+    }
+}
@@ -13,6 +13,8 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.filter.CharacterEncodingFilter;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -46,4 +48,28 @@ public class SecurityConfigTest {
                 .andExpect(status().isNotFound());
 
     }
+
+    @Test
+    @DisplayName("허용된 IP 에서 prometheus 지표 조회")
+    void prometheus_allowedIp() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus")
+                        .with(request -> {
+                            request.setRemoteAddr("127.0.0.1");
+                            return request;
+                        }))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 IP 에서 prometheus 지표 조회 시 미인증 예외 발생")
+    void prometheus_notAllowedIp() throws Exception {
+        when(endpointChecker.isEndpointExist(any())).thenReturn(true);
+
+        mockMvc.perform(get("/actuator/prometheus")
+                        .with(request -> {
+                            request.setRemoteAddr("203.0.113.10");
+                            return request;
+                        }))
+                .andExpect(status().isUnauthorized());
+    }
 }
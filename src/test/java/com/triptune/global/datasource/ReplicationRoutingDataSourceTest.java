@@ -0,0 +1,169 @@
+package com.triptune.global.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicationRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "SELECT lag_seconds AS Seconds_Behind_Source FROM replica_status";
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+    private static final long MAX_LAG_SECONDS = 5;
+
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcTemplate primaryJdbcTemplate;
+    private JdbcTemplate replicaJdbcTemplate;
+    private ReplicaDataSource replica;
+    private ReplicaLagMonitor replicaLagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp(){
+        meterRegistry = new SimpleMeterRegistry();
+
+        DataSource primaryDataSource = createH2DataSource("primary");
+        DataSource replicaDataSource = createH2DataSource("replica");
+        primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+        replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+
+        initDatabase(primaryJdbcTemplate, "primary");
+        initDatabase(replicaJdbcTemplate, "replica");
+        replicaJdbcTemplate.execute("CREATE TABLE replica_status (lag_seconds BIGINT)");
+        replicaJdbcTemplate.update("INSERT INTO replica_status VALUES (0)");
+
+        replica = new ReplicaDataSource("replica-1", replicaDataSource);
+        replicaLagMonitor = new ReplicaLagMonitor(List.of(replica), LAG_QUERY, LAG_COLUMN, MAX_LAG_SECONDS, 1000, meterRegistry);
+        replicaLagMonitor.checkAll();
+
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(primaryDataSource, List.of(replica), meterRegistry);
+        routingDataSource.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본으로 연결")
+    void readOnlyTransaction(){
+        // when
+        String response = executeInTransaction(true);
+
+        // then
+        assertThat(response).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("읽기 전용이 아닌 트랜잭션은 primary 로 연결")
+    void readWriteTransaction(){
+        // when
+        String response = executeInTransaction(false);
+
+        // then
+        assertThat(response).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 없는 경우 primary 로 연결")
+    void withoutTransaction(){
+        // when
+        String response = jdbcTemplate.queryForObject("SELECT name FROM db_info", String.class);
+
+        // then
+        assertThat(response).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용 범위를 넘은 경우 primary 로 연결")
+    void readOnlyTransaction_replicaLag(){
+        // given
+        replicaJdbcTemplate.update("UPDATE replica_status SET lag_seconds = ?", MAX_LAG_SECONDS + 1);
+        replicaLagMonitor.checkAll();
+
+        // when
+        String response = executeInTransaction(true);
+
+        // then
+        assertThat(replica.isAvailable()).isFalse();
+        assertThat(response).isEqualTo("primary");
+        assertThat(meterRegistry.get("triptune.datasource.replica.fallback").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("triptune.datasource.replica.lag").tag("replica", "replica-1").gauge().value()).isEqualTo(MAX_LAG_SECONDS + 1);
+    }
+
+    @Test
+    @DisplayName("복제가 멈춘 경우(지연 값 null) primary 로 연결")
+    void readOnlyTransaction_replicationStopped(){
+        // given
+        replicaJdbcTemplate.update("UPDATE replica_status SET lag_seconds = NULL");
+        replicaLagMonitor.checkAll();
+
+        // when
+        String response = executeInTransaction(true);
+
+        // then
+        assertThat(replica.isAvailable()).isFalse();
+        assertThat(response).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용 범위로 돌아오면 다시 복제본으로 연결")
+    void readOnlyTransaction_replicaRecovered(){
+        // given
+        replicaJdbcTemplate.update("UPDATE replica_status SET lag_seconds = ?", MAX_LAG_SECONDS + 1);
+        replicaLagMonitor.checkAll();
+        replicaJdbcTemplate.update("UPDATE replica_status SET lag_seconds = ?", MAX_LAG_SECONDS);
+        replicaLagMonitor.checkAll();
+
+        // when
+        String response = executeInTransaction(true);
+
+        // then
+        assertThat(replica.isAvailable()).isTrue();
+        assertThat(response).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("복제본 상태를 확인할 수 없는 경우 primary 로 연결")
+    void readOnlyTransaction_replicaUnavailable(){
+        // given
+        replicaJdbcTemplate.execute("DROP TABLE replica_status");
+        replicaLagMonitor.checkAll();
+
+        // when
+        String response = executeInTransaction(true);
+
+        // then
+        assertThat(replica.isAvailable()).isFalse();
+        assertThat(response).isEqualTo("primary");
+        assertThat(meterRegistry.get("triptune.datasource.replica.available").tag("replica", "replica-1").gauge().value()).isZero();
+    }
+
+    private String executeInTransaction(boolean readOnly){
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM db_info", String.class));
+    }
+
+    private DataSource createH2DataSource(String name){
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+
+    private void initDatabase(JdbcTemplate template, String name){
+        template.execute("CREATE TABLE db_info (name VARCHAR(20))");
+        template.update("INSERT INTO db_info VALUES (?)", name);
+    }
+}
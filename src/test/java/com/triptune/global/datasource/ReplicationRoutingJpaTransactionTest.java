@@ -0,0 +1,111 @@
+package com.triptune.global.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서비스의 @Transactional 과 같은 JpaTransactionManager 를 거쳐 연결 대상이 결정되는지 확인
+ * (Hibernate 가 트랜잭션 시작 시 커넥션을 가져오더라도 LazyConnectionDataSourceProxy 로 첫 쿼리까지 연결이 미뤄져야 함)
+ */
+class ReplicationRoutingJpaTransactionTest {
+
+    private static final String LAG_QUERY = "SELECT lag_seconds AS Seconds_Behind_Source FROM replica_status";
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+    private LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp(){
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        DataSource primaryDataSource = createH2DataSource("primary");
+        DataSource replicaDataSource = createH2DataSource("replica");
+
+        initDatabase(new JdbcTemplate(primaryDataSource), "primary");
+        JdbcTemplate replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        initDatabase(replicaJdbcTemplate, "replica");
+        replicaJdbcTemplate.execute("CREATE TABLE replica_status (lag_seconds BIGINT)");
+        replicaJdbcTemplate.update("INSERT INTO replica_status VALUES (0)");
+
+        ReplicaDataSource replica = new ReplicaDataSource("replica-1", replicaDataSource);
+        new ReplicaLagMonitor(List.of(replica), LAG_QUERY, LAG_COLUMN, 5, 1000, meterRegistry).checkAll();
+
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(primaryDataSource, List.of(replica), meterRegistry);
+        routingDataSource.afterPropertiesSet();
+
+        entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(new LazyConnectionDataSourceProxy(routingDataSource));
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactoryBean.setPackagesToScan(ReplicationRoutingDataSource.class.getPackageName());
+        entityManagerFactoryBean.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "none"));
+        entityManagerFactoryBean.afterPropertiesSet();
+
+        EntityManagerFactory entityManagerFactory = entityManagerFactoryBean.getObject();
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+    }
+
+    @AfterEach
+    void tearDown(){
+        entityManagerFactoryBean.destroy();
+    }
+
+    @Test
+    @DisplayName("JPA 읽기 전용 트랜잭션은 복제본으로 연결")
+    void readOnlyTransaction(){
+        // when
+        String response = executeInTransaction(true);
+
+        // then
+        assertThat(response).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("JPA 읽기 전용이 아닌 트랜잭션은 primary 로 연결")
+    void readWriteTransaction(){
+        // when
+        String response = executeInTransaction(false);
+
+        // then
+        assertThat(response).isEqualTo("primary");
+    }
+
+    private String executeInTransaction(boolean readOnly){
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                (String) entityManager.createNativeQuery("SELECT name FROM db_info").getSingleResult());
+    }
+
+    private DataSource createH2DataSource(String name){
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+
+    private void initDatabase(JdbcTemplate template, String name){
+        template.execute("CREATE TABLE db_info (name VARCHAR(20))");
+        template.update("INSERT INTO db_info VALUES (?)", name);
+    }
+}
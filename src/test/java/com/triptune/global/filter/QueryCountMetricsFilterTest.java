@@ -0,0 +1,136 @@
+package com.triptune.global.filter;
+
+import com.triptune.global.metrics.QueryCountInspector;
+import com.triptune.global.metrics.QueryCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryCountMetricsFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryCountMetricsFilter queryCountMetricsFilter;
+    private final QueryCountInspector inspector = new QueryCountInspector();
+
+    @BeforeEach
+    void setUp(){
+        meterRegistry = new SimpleMeterRegistry();
+        queryCountMetricsFilter = new QueryCountMetricsFilter(meterRegistry, 2);
+    }
+
+    @Test
+    @DisplayName("요청 처리 중 실행된 SQL 개수를 URI 패턴 기준으로 기록")
+    void doFilterInternal() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/schedules/1");
+
+        // when
+        queryCountMetricsFilter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            inspector.inspect("select 1");
+            inspector.inspect("select 2");
+            inspector.inspect("select 3");
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/schedules/{scheduleId}");
+        });
+
+        // then
+        DistributionSummary summary = meterRegistry.get(QueryCountMetricsFilter.METRIC_NAME)
+                .tag("method", "GET")
+                .tag("uri", "/api/schedules/{scheduleId}")
+                .summary();
+
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(3);
+        assertThat(QueryCountInspector.getCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("SQL 허용 개수를 초과한 요청 기록")
+    void doFilterInternal_exceeded() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/schedules/1/routes");
+
+        // when
+        queryCountMetricsFilter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            inspector.inspect("select * from travel_schedule where schedule_id=?");
+            inspector.inspect("select * from travel_place where place_id=?");
+            inspector.inspect("select * from travel_place where place_id=?");
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/schedules/{scheduleId}/routes");
+        });
+
+        // then
+        assertThat(meterRegistry.get(QueryCountMetricsFilter.EXCEEDED_METRIC_NAME)
+                .tag("uri", "/api/schedules/{scheduleId}/routes")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("SQL 허용 개수 이하인 요청은 초과 기록하지 않음")
+    void doFilterInternal_notExceeded() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/schedules/1");
+
+        // when
+        queryCountMetricsFilter.doFilter(request, new MockHttpServletResponse(), (req, res) -> inspector.inspect("select 1"));
+
+        // then
+        assertThat(meterRegistry.find(QueryCountMetricsFilter.EXCEEDED_METRIC_NAME).counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("가장 많이 반복된 SQL 조회")
+    void getMostRepeatedStatement(){
+        // given
+        QueryCountInspector.start();
+        inspector.inspect("select * from travel_place where place_id=?");
+        inspector.inspect("select * from travel_image where place_id=?");
+        inspector.inspect("select * from travel_image where place_id=?");
+
+        // when
+        QueryCounter counter = QueryCountInspector.stop();
+
+        // then
+        assertThat(counter.getCount()).isEqualTo(3);
+        assertThat(counter.getMostRepeatedStatement().getKey()).isEqualTo("select * from travel_image where place_id=?");
+        assertThat(counter.getMostRepeatedStatement().getValue()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("예외가 발생해도 SQL 개수 기록 후 집계 종료")
+    void doFilterInternal_exception() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/members/login");
+
+        // when
+        assertThatThrownBy(() -> queryCountMetricsFilter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            inspector.inspect("select 1");
+            throw new IllegalStateException("실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // then
+        DistributionSummary summary = meterRegistry.get(QueryCountMetricsFilter.METRIC_NAME)
+                .tag("uri", "UNKNOWN")
+                .summary();
+
+        assertThat(summary.totalAmount()).isEqualTo(1);
+        assertThat(QueryCountInspector.getCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("집계 중이 아닌 스레드의 SQL 은 기록하지 않음")
+    void inspect_notStarted(){
+        // given, when
+        String sql = inspector.inspect("select 1");
+
+        // then
+        assertThat(sql).isEqualTo("select 1");
+        assertThat(QueryCountInspector.getCount()).isZero();
+    }
+}
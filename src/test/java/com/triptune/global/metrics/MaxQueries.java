@@ -0,0 +1,19 @@
+package com.triptune.global.metrics;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메소드에서 보낸 요청마다 실행된 SQL 개수가 value 이하인지 검증
+ * MockMvc 에 QueryCountMetricsFilter 를 등록해야 요청별로 집계됨
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(MaxQueriesExtension.class)
+public @interface MaxQueries {
+    int value();
+}
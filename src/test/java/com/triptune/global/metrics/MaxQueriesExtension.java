@@ -0,0 +1,41 @@
+package com.triptune.global.metrics;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MaxQueriesExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        QueryCountInspector.startRecording();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        List<QueryCounter> requests = QueryCountInspector.stopRecording();
+
+        if (context.getExecutionException().isPresent()){
+            return;
+        }
+
+        int maxQueries = context.getRequiredTestMethod().getAnnotation(MaxQueries.class).value();
+
+        assertThat(requests)
+                .as("집계된 요청이 없습니다. MockMvc 에 QueryCountMetricsFilter 를 등록했는지 확인하세요.")
+                .isNotEmpty();
+
+        for (QueryCounter request : requests) {
+            Map.Entry<String, Integer> repeated = request.getMostRepeatedStatement();
+
+            assertThat(request.getCount())
+                    .as("요청당 SQL %d건 초과, 최다 반복 SQL : %s", maxQueries, repeated)
+                    .isLessThanOrEqualTo(maxQueries);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.triptune.global.metrics;
+
+import com.triptune.global.config.RedisConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisPoolMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private GenericObjectPool<Object> pool;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        new RedisPoolMetrics().bindTo(meterRegistry);
+
+        GenericObjectPoolConfig<Object> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(4);
+        poolConfig.setJmxEnabled(true);
+        poolConfig.setJmxNamePrefix(RedisConfig.POOL_JMX_NAME_PREFIX);
+
+        pool = new GenericObjectPool<>(new BasePooledObjectFactory<>() {
+            @Override
+            public Object create() {
+                return new Object();
+            }
+
+            @Override
+            public PooledObject<Object> wrap(Object obj) {
+                return new DefaultPooledObject<>(obj);
+            }
+        }, poolConfig);
+    }
+
+    @AfterEach
+    void tearDown(){
+        pool.close();
+    }
+
+    @Test
+    @DisplayName("JMX 로 등록된 Lettuce 풀 상태를 메트릭으로 기록")
+    void poolGauges() throws Exception {
+        // given
+        Object connection = pool.borrowObject();
+        pool.returnObject(pool.borrowObject());
+
+        // when
+        double active = meterRegistry.get("triptune.redis.pool.active").gauge().value();
+        double idle = meterRegistry.get("triptune.redis.pool.idle").gauge().value();
+        double max = meterRegistry.get("triptune.redis.pool.max").gauge().value();
+
+        // then
+        assertThat(active).isEqualTo(1);
+        assertThat(idle).isEqualTo(1);
+        assertThat(max).isEqualTo(4);
+        assertThat(meterRegistry.get("triptune.redis.pool.pending").gauge().value()).isZero();
+
+        pool.returnObject(connection);
+    }
+}
@@ -0,0 +1,77 @@
+package com.triptune.global.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class WebSocketMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private WebSocketMetrics webSocketMetrics;
+
+    @BeforeEach
+    void setUp(){
+        meterRegistry = new SimpleMeterRegistry();
+        webSocketMetrics = new WebSocketMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("세션 연결, 종료 시 활성 세션 수 갱신 (중복 종료 이벤트는 한 번만 집계)")
+    void sessionEvents(){
+        // given
+        Message<byte[]> connected = createMessage(SimpMessageType.CONNECT_ACK, "session1");
+
+        // when
+        webSocketMetrics.onConnected(new SessionConnectedEvent(this, connected));
+        webSocketMetrics.onConnected(new SessionConnectedEvent(this, createMessage(SimpMessageType.CONNECT_ACK, "session2")));
+        webSocketMetrics.onDisconnected(new SessionDisconnectEvent(this, connected, "session1", CloseStatus.NORMAL));
+        webSocketMetrics.onDisconnected(new SessionDisconnectEvent(this, connected, "session1", CloseStatus.NORMAL));
+
+        // then
+        assertThat(meterRegistry.get("triptune.websocket.sessions.active").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("triptune.websocket.sessions").tag("event", "connected").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("triptune.websocket.sessions").tag("event", "disconnected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("채널 방향, 메시지 타입별 메시지 수 집계")
+    void messageCount(){
+        // given
+        ChannelInterceptor inbound = webSocketMetrics.inboundInterceptor();
+        MessageChannel channel = mock(MessageChannel.class);
+        Message<byte[]> message = createMessage(SimpMessageType.MESSAGE, "session1");
+
+        // when
+        inbound.afterSendCompletion(message, channel, true, null);
+        inbound.afterSendCompletion(message, channel, true, null);
+        inbound.afterSendCompletion(message, channel, false, new IllegalStateException());
+
+        // then
+        assertThat(meterRegistry.get("triptune.websocket.messages")
+                .tags("direction", "inbound", "type", "MESSAGE", "result", "success")
+                .counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("triptune.websocket.messages")
+                .tags("direction", "inbound", "type", "MESSAGE", "result", "failure")
+                .counter().count()).isEqualTo(1);
+    }
+
+    private Message<byte[]> createMessage(SimpMessageType messageType, String sessionId){
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(messageType);
+        accessor.setSessionId(sessionId);
+
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,120 @@
+package com.triptune.global.service;
+
+import com.triptune.global.enumclass.ErrorCode;
+import com.triptune.global.enumclass.ImageVariantType;
+import com.triptune.global.exception.FileBadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageVariantServiceTest {
+
+    private ImageVariantService imageVariantService;
+
+    @Mock
+    private S3Service s3Service;
+
+    @BeforeEach
+    void setUp(){
+        imageVariantService = new ImageVariantService(s3Service, Runnable::run);
+        ReflectionTestUtils.setField(imageVariantService, "maxPixels", 40_000_000L);
+        ReflectionTestUtils.setField(imageVariantService, "jpegQuality", 0.85f);
+    }
+
+
+    @Test
+    @DisplayName("긴 변 기준으로 비율을 유지하며 이미지 축소")
+    void resize(){
+        // given
+        BufferedImage source = new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_ARGB);
+
+        // when
+        BufferedImage response = imageVariantService.resize(source, 320);
+
+        // then
+        assertThat(response.getWidth()).isEqualTo(320);
+        assertThat(response.getHeight()).isEqualTo(160);
+        assertThat(response.getType()).isEqualTo(BufferedImage.TYPE_INT_RGB);
+    }
+
+    @Test
+    @DisplayName("원본이 더 작은 경우 확대하지 않음")
+    void resize_smallImage(){
+        // given
+        BufferedImage source = new BufferedImage(50, 30, BufferedImage.TYPE_INT_RGB);
+
+        // when
+        BufferedImage response = imageVariantService.resize(source, 1024);
+
+        // then
+        assertThat(response.getWidth()).isEqualTo(50);
+        assertThat(response.getHeight()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("크기별 이미지 생성 후 업로드")
+    void uploadVariants() throws IOException {
+        // given
+        BufferedImage source = imageVariantService.readImage(new ByteArrayInputStream(createImage(1200, 800, "png")));
+
+        when(s3Service.uploadToS3(any(byte[].class), eq(ImageVariantType.CONTENT_TYPE), any()))
+                .thenAnswer(invocation -> "/" + invocation.getArgument(2));
+
+        // when
+        Map<ImageVariantType, String> response = imageVariantService.uploadVariants(source, "img/profile/image.png");
+
+        // then
+        assertThat(response).containsEntry(ImageVariantType.SMALL, "/img/profile/image_small.jpg");
+        assertThat(response).containsEntry(ImageVariantType.MEDIUM, "/img/profile/image_medium.jpg");
+        assertThat(response).containsEntry(ImageVariantType.LARGE, "/img/profile/image_large.jpg");
+
+        ArgumentCaptor<byte[]> captor = ArgumentCaptor.forClass(byte[].class);
+        verify(s3Service).uploadToS3(captor.capture(), eq(ImageVariantType.CONTENT_TYPE), eq("img/profile/image_small.jpg"));
+
+        BufferedImage small = ImageIO.read(new ByteArrayInputStream(captor.getValue()));
+        assertThat(small.getWidth()).isEqualTo(64);
+        assertThat(small.getHeight()).isEqualTo(43);
+    }
+
+    @Test
+    @DisplayName("허용 크기를 넘는 이미지인 경우 예외 발생")
+    void readImage_tooLargeImage() throws IOException {
+        // given
+        ReflectionTestUtils.setField(imageVariantService, "maxPixels", 100L);
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(createImage(20, 20, "png"));
+
+        // when
+        FileBadRequestException fail = assertThrows(FileBadRequestException.class, () -> imageVariantService.readImage(inputStream));
+
+        // then
+        assertThat(fail.getMessage()).isEqualTo(ErrorCode.INVALID_EXTENSION.getMessage());
+        verifyNoInteractions(s3Service);
+    }
+
+    private byte[] createImage(int width, int height, String extension) throws IOException {
+        BufferedImage bufferedImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ImageIO.write(bufferedImage, extension, baos);
+
+        return baos.toByteArray();
+    }
+}
@@ -1,12 +1,38 @@
 package com.triptune.global.service;
 
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.Upload;
+import com.triptune.global.util.FileValidator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Date;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class S3ServiceTest {
@@ -14,6 +40,17 @@ class S3ServiceTest {
     @InjectMocks
     private S3Service s3Service;
 
+    @Mock
+    private AmazonS3Client amazonS3Client;
+
+    @Mock
+    private TransferManager transferManager;
+
+    @Mock
+    private Upload upload;
+
+    private final FileValidator fileValidator = new FileValidator();
+
 
     @Test
     @DisplayName("s3 저장용 이미지 이름 생성")
@@ -31,4 +68,108 @@ class S3ServiceTest {
         assertThat(response.contains("." + extension)).isTrue();
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("s3 이미지 업로드")
+    void uploadToS3() throws Exception {
+        // given
+        ReflectionTestUtils.setField(s3Service, "bucket", "bucket");
+        byte[] content = createImage("jpg");
+        MockMultipartFile file = new MockMultipartFile("profileImage", "image.jpg", "image/jpeg", content);
+
+        when(transferManager.upload(any(PutObjectRequest.class))).thenReturn(upload);
+        when(amazonS3Client.getUrl("bucket", "img/profile/image.jpg")).thenReturn(new URL("https://bucket.s3.amazonaws.com/img/profile/image.jpg"));
+
+        // when
+        String response;
+
+        try (FileValidator.ValidatedFile validatedFile = fileValidator.validateImage(file)) {
+            response = s3Service.uploadToS3(validatedFile, "img/profile/image.jpg");
+        }
+
+        // then
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(transferManager).upload(captor.capture());
+        verify(upload).waitForUploadResult();
+        verify(amazonS3Client, never()).putObject(any(PutObjectRequest.class));
+
+        assertThat(response).isEqualTo("https://bucket.s3.amazonaws.com/img/profile/image.jpg");
+        assertThat(captor.getValue().getKey()).isEqualTo("img/profile/image.jpg");
+        assertThat(captor.getValue().getMetadata().getContentLength()).isEqualTo(content.length);
+        assertThat(captor.getValue().getMetadata().getContentType()).isEqualTo("image/jpeg");
+    }
+
+    @Test
+    @DisplayName("s3 이미지 업로드 실패 시 예외 발생")
+    void uploadToS3_AmazonS3Exception() throws Exception {
+        // given
+        MockMultipartFile file = new MockMultipartFile("profileImage", "image.jpg", "image/jpeg", createImage("jpg"));
+
+        when(transferManager.upload(any(PutObjectRequest.class))).thenReturn(upload);
+        when(upload.waitForUploadResult()).thenThrow(new AmazonClientException("upload fail"));
+
+        // when, then
+        try (FileValidator.ValidatedFile validatedFile = fileValidator.validateImage(file)) {
+            assertThrows(AmazonS3Exception.class, () -> s3Service.uploadToS3(validatedFile, "img/profile/image.jpg"));
+        }
+    }
+
+    @Test
+    @DisplayName("s3 이미지 삭제 시 존재 여부 조회 없이 삭제")
+    void deleteS3File(){
+        // given, when
+        s3Service.deleteS3File("img/profile/image.jpg");
+
+        // then
+        verify(amazonS3Client).deleteObject(any(), anyString());
+        verify(amazonS3Client, never()).doesObjectExist(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("s3 업로드 URL 발급 시 파일 크기를 서명하고 공개 ACL 은 포함하지 않음")
+    void generatePresignedUploadUrl() throws Exception {
+        // given
+        ReflectionTestUtils.setField(s3Service, "bucket", "bucket");
+        when(amazonS3Client.generatePresignedUrl(any(GeneratePresignedUrlRequest.class))).thenReturn(new URL("https://upload-url"));
+
+        // when
+        String response = s3Service.generatePresignedUploadUrl("img/profile/staging/image.png", "image/png", 1024, new Date());
+
+        // then
+        ArgumentCaptor<GeneratePresignedUrlRequest> captor = ArgumentCaptor.forClass(GeneratePresignedUrlRequest.class);
+        verify(amazonS3Client).generatePresignedUrl(captor.capture());
+
+        assertThat(response).isEqualTo("https://upload-url");
+        assertThat(captor.getValue().getContentType()).isEqualTo("image/png");
+        assertThat(captor.getValue().getCustomRequestHeaders()).containsEntry(Headers.CONTENT_LENGTH, "1024");
+        assertThat(captor.getValue().getCustomRequestHeaders()).doesNotContainKey(Headers.S3_CANNED_ACL);
+    }
+
+    @Test
+    @DisplayName("검증된 임시 파일을 공개 경로로 복사")
+    void copyToPublic() throws Exception {
+        // given
+        ReflectionTestUtils.setField(s3Service, "bucket", "bucket");
+        when(amazonS3Client.getUrl("bucket", "img/profile/image.png")).thenReturn(new URL("https://bucket.s3.amazonaws.com/img/profile/image.png"));
+
+        // when
+        String response = s3Service.copyToPublic("img/profile/staging/image.png", "img/profile/image.png");
+
+        // then
+        ArgumentCaptor<CopyObjectRequest> captor = ArgumentCaptor.forClass(CopyObjectRequest.class);
+        verify(amazonS3Client).copyObject(captor.capture());
+
+        assertThat(response).isEqualTo("https://bucket.s3.amazonaws.com/img/profile/image.png");
+        assertThat(captor.getValue().getSourceKey()).isEqualTo("img/profile/staging/image.png");
+        assertThat(captor.getValue().getDestinationKey()).isEqualTo("img/profile/image.png");
+        assertThat(captor.getValue().getCannedAccessControlList()).isEqualTo(CannedAccessControlList.PublicRead);
+    }
+
+    private byte[] createImage(String extension) throws IOException {
+        BufferedImage bufferedImage = new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ImageIO.write(bufferedImage, extension, baos);
+
+        return baos.toByteArray();
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.triptune.global.util;
+
+import com.triptune.schedule.enumclass.AttendeePermission;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ChatSessionUtilsTest {
+
+    @Test
+    @DisplayName("채팅 구독 경로에서 일정 ID 추출")
+    void extractScheduleId(){
+        // given
+        String destination = "/sub/schedules/12/chats";
+
+        // when
+        Long response = ChatSessionUtils.extractScheduleId(destination);
+
+        // then
+        assertThat(response).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("채팅 구독 경로가 아닌 경우 null 반환")
+    void extractScheduleId_notChatDestination(){
+        // given
+        String destination = "/sub/schedules/12/routes";
+
+        // when
+        Long response = ChatSessionUtils.extractScheduleId(destination);
+
+        // then
+        assertThat(response).isNull();
+    }
+
+    @Test
+    @DisplayName("세션에 저장된 일정 권한 조회")
+    void getSchedulePermission(){
+        // given
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        ChatSessionUtils.saveSchedulePermission(sessionAttributes, 1L, AttendeePermission.CHAT);
+
+        // when
+        AttendeePermission response1 = ChatSessionUtils.getSchedulePermission(sessionAttributes, 1L);
+        AttendeePermission response2 = ChatSessionUtils.getSchedulePermission(sessionAttributes, 2L);
+
+        // then
+        assertThat(response1).isEqualTo(AttendeePermission.CHAT);
+        assertThat(response2).isNull();
+    }
+}
@@ -0,0 +1,90 @@
+package com.triptune.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientIpResolverTest {
+
+    private final ClientIpResolver clientIpResolver = new ClientIpResolver(List.of("10.0.0.0/8", "127.0.0.1/32"));
+
+    @Test
+    @DisplayName("신뢰하는 프록시를 거친 요청은 X-Forwarded-For 의 클라이언트 IP 사용")
+    void resolve_trustedProxy(){
+        // given
+        MockHttpServletRequest request = createRequest("10.0.0.1", "203.0.113.7");
+
+        // when
+        String response = clientIpResolver.resolve(request);
+
+        // then
+        assertThat(response).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("여러 프록시를 거친 경우 신뢰하는 프록시를 제외한 마지막 IP 사용")
+    void resolve_multipleProxies(){
+        // given
+        MockHttpServletRequest request = createRequest("10.0.0.1", "203.0.113.7, 10.0.0.2");
+
+        // when
+        String response = clientIpResolver.resolve(request);
+
+        // then
+        assertThat(response).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("클라이언트가 보낸 X-Forwarded-For 값은 사용하지 않음")
+    void resolve_spoofedHeader(){
+        // given
+        MockHttpServletRequest request = createRequest("10.0.0.1", "1.1.1.1, 127.0.0.1, 203.0.113.7");
+
+        // when
+        String response = clientIpResolver.resolve(request);
+
+        // then
+        assertThat(response).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("신뢰하지 않는 주소에서 온 요청은 X-Forwarded-For 를 무시하고 연결 IP 사용")
+    void resolve_untrustedRemoteAddr(){
+        // given
+        MockHttpServletRequest request = createRequest("203.0.113.7", "1.1.1.1");
+
+        // when
+        String response = clientIpResolver.resolve(request);
+
+        // then
+        assertThat(response).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("X-Forwarded-For 가 없는 경우 연결 IP 사용")
+    void resolve_withoutHeader(){
+        // given
+        MockHttpServletRequest request = createRequest("10.0.0.1", null);
+
+        // when
+        String response = clientIpResolver.resolve(request);
+
+        // then
+        assertThat(response).isEqualTo("10.0.0.1");
+    }
+
+    private MockHttpServletRequest createRequest(String remoteAddr, String forwardedFor){
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+
+        if (forwardedFor != null){
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+
+        return request;
+    }
+}
@@ -0,0 +1,58 @@
+package com.triptune.global.util;
+
+import com.triptune.global.enumclass.ErrorCode;
+import com.triptune.global.exception.FileBadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FileValidatorTest {
+
+    private final FileValidator fileValidator = new FileValidator();
+
+    @Test
+    @DisplayName("이미지 형식 확인 후 처음 위치의 스트림 반환")
+    void validateImage() throws IOException {
+        // given
+        byte[] content = createTestImage(200, 200, "png");
+        MockMultipartFile file = new MockMultipartFile("profileImage", "image.png", "image/jpeg", content);
+
+        // when
+        try (FileValidator.ValidatedFile response = fileValidator.validateImage(file)) {
+            // then
+            assertThat(response.getMimeType()).isEqualTo("image/png");
+            assertThat(response.getSize()).isEqualTo(content.length);
+            assertThat(response.getInputStream().readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 이미지 형식인 경우 예외 발생")
+    void validateImage_invalidExtensionException() throws IOException {
+        // given
+        MockMultipartFile file = new MockMultipartFile("profileImage", "image.png", "image/png", createTestImage(1, 1, "gif"));
+
+        // when
+        FileBadRequestException fail = assertThrows(FileBadRequestException.class, () -> fileValidator.validateImage(file));
+
+        // then
+        assertThat(fail.getHttpStatus()).isEqualTo(ErrorCode.INVALID_EXTENSION.getStatus());
+        assertThat(fail.getMessage()).isEqualTo(ErrorCode.INVALID_EXTENSION.getMessage());
+    }
+
+    private byte[] createTestImage(int width, int height, String extension) throws IOException {
+        BufferedImage bufferedImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ImageIO.write(bufferedImage, extension, baos);
+
+        return baos.toByteArray();
+    }
+}
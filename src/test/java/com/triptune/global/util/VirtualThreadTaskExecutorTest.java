@@ -0,0 +1,46 @@
+package com.triptune.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class VirtualThreadTaskExecutorTest {
+
+    @Test
+    @DisplayName("동시 실행 수 제한에 걸려도 작업 제출은 막히지 않고 가상 스레드에서 대기")
+    void execute_concurrencyLimit() throws Exception {
+        assumeTrue(VirtualThreadUtils.isSupported());
+
+        // given
+        VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor("test-vt-", 1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean secondStarted = new AtomicBoolean();
+
+        // when
+        Future<?> first = executor.submit(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Future<?> second = executor.submit(() -> secondStarted.set(true));
+
+        // then
+        Thread.sleep(100);
+        assertThat(secondStarted).isFalse();
+
+        release.countDown();
+        first.get(1, TimeUnit.SECONDS);
+        second.get(1, TimeUnit.SECONDS);
+        assertThat(secondStarted).isTrue();
+        executor.shutdown();
+    }
+}
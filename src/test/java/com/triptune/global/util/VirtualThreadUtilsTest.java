@@ -0,0 +1,41 @@
+package com.triptune.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class VirtualThreadUtilsTest {
+
+    @Test
+    @DisplayName("가상 스레드 Executor 로 작업 실행")
+    void newThreadPerTaskExecutor() throws Exception {
+        assumeTrue(VirtualThreadUtils.isSupported());
+
+        // given
+        ExecutorService executor = VirtualThreadUtils.newThreadPerTaskExecutor("test-vt-");
+
+        // when
+        Future<String> response = executor.submit(() -> Thread.currentThread().getName() + ":" + Thread.class.getMethod("isVirtual").invoke(Thread.currentThread()));
+
+        // then
+        assertThat(response.get()).isEqualTo("test-vt-0:true");
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("가상 스레드를 지원하지 않는 런타임인 경우")
+    void threadFactory_notSupported(){
+        assumeFalse(VirtualThreadUtils.isSupported());
+
+        // when, then
+        assertThatThrownBy(() -> VirtualThreadUtils.threadFactory("test-vt-"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
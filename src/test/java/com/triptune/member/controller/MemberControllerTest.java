@@ -351,7 +351,7 @@ public class MemberControllerTest extends MemberTest {
     @DisplayName("비밀번호 초기화")
     void resetPassword() throws Exception{
         Member member = memberRepository.save(createMember(null, "member"));
-        when(redisUtils.getData(anyString())).thenReturn(member.getEmail());
+        when(redisUtils.getAndDeletePasswordToken(anyString())).thenReturn(member.getEmail());
 
         mockMvc.perform(patch("/api/members/reset-password")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -393,7 +393,7 @@ public class MemberControllerTest extends MemberTest {
     @Test
     @DisplayName("비밀번호 초기화 시 사용자 데이터 존재하지 않아 예외 발생")
     void resetPassword_memberNotFoundException() throws Exception{
-        when(redisUtils.getData(anyString())).thenReturn("noMember@email.com");
+        when(redisUtils.getAndDeletePasswordToken(anyString())).thenReturn("noMember@email.com");
 
         mockMvc.perform(patch("/api/members/reset-password")
                         .contentType(MediaType.APPLICATION_JSON)
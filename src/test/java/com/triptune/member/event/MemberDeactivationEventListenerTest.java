@@ -0,0 +1,82 @@
+package com.triptune.member.event;
+
+import com.triptune.member.enumclass.DeactivationJobStatus;
+import com.triptune.member.service.DeactivationJobService;
+import com.triptune.schedule.service.ScheduleBulkDeleteService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberDeactivationEventListenerTest {
+
+    @InjectMocks
+    private MemberDeactivationEventListener memberDeactivationEventListener;
+
+    @Mock
+    private ScheduleBulkDeleteService scheduleBulkDeleteService;
+
+    @Mock
+    private DeactivationJobService deactivationJobService;
+
+
+    @Test
+    @DisplayName("커밋 후 작성한 일정을 청크 단위로 삭제하고 진행 상태 갱신")
+    void deleteSchedules(){
+        // given
+        List<Long> scheduleIds = LongStream.rangeClosed(1, ScheduleBulkDeleteService.CHUNK_SIZE + 1).boxed().toList();
+        MemberDeactivatedEvent event = new MemberDeactivatedEvent("jobId", scheduleIds);
+
+        // when
+        memberDeactivationEventListener.deleteSchedules(event);
+
+        // then
+        InOrder inOrder = inOrder(scheduleBulkDeleteService, deactivationJobService);
+        inOrder.verify(scheduleBulkDeleteService).deleteSchedules(scheduleIds.subList(0, ScheduleBulkDeleteService.CHUNK_SIZE));
+        inOrder.verify(deactivationJobService).updateProgress("jobId", ScheduleBulkDeleteService.CHUNK_SIZE);
+        inOrder.verify(scheduleBulkDeleteService).deleteSchedules(scheduleIds.subList(ScheduleBulkDeleteService.CHUNK_SIZE, scheduleIds.size()));
+        inOrder.verify(deactivationJobService).updateProgress("jobId", scheduleIds.size());
+        inOrder.verify(deactivationJobService).updateStatus("jobId", DeactivationJobStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("일정 삭제 실패 시 예외를 전파하지 않고 실패 상태로 변경")
+    void deleteSchedules_fail(){
+        // given
+        MemberDeactivatedEvent event = new MemberDeactivatedEvent("jobId", List.of(1L, 2L));
+        doThrow(new DataAccessResourceFailureException("DB 연결 실패")).when(scheduleBulkDeleteService).deleteSchedules(anyList());
+
+        // when
+        assertDoesNotThrow(() -> memberDeactivationEventListener.deleteSchedules(event));
+
+        // then
+        verify(deactivationJobService).updateStatus("jobId", DeactivationJobStatus.FAILED);
+        verify(deactivationJobService, never()).updateStatus("jobId", DeactivationJobStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("탈퇴 처리 롤백 시 작업 실패 상태로 변경")
+    void cancel(){
+        // given
+        MemberDeactivatedEvent event = new MemberDeactivatedEvent("jobId", List.of(1L));
+
+        // when
+        memberDeactivationEventListener.cancel(event);
+
+        // then
+        verify(deactivationJobService).updateStatus("jobId", DeactivationJobStatus.FAILED);
+        verify(scheduleBulkDeleteService, never()).deleteSchedules(anyList());
+    }
+}
@@ -0,0 +1,142 @@
+package com.triptune.member.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.triptune.member.dto.response.MemberProfileResponse;
+import com.triptune.member.repository.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberProfileCacheServiceTest {
+
+    @InjectMocks
+    private MemberProfileCacheService memberProfileCacheService;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+
+    @Test
+    @DisplayName("캐시된 사용자 프로필 조회")
+    void getMemberProfiles_cached() throws Exception {
+        // given
+        String profile1 = objectMapper.writeValueAsString(MemberProfileResponse.of(1L, "member1", "member1.jpg"));
+        String profile2 = objectMapper.writeValueAsString(MemberProfileResponse.of(2L, "member2", "member2.jpg"));
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(anyList())).thenReturn(List.of(profile1, profile2));
+
+        // when
+        Map<Long, MemberProfileResponse> response = memberProfileCacheService.getMemberProfiles(Set.of(1L, 2L));
+
+        // then
+        assertThat(response.size()).isEqualTo(2);
+        assertThat(response.get(1L).getNickname()).isEqualTo("member1");
+        assertThat(response.get(2L).getProfileUrl()).isEqualTo("member2.jpg");
+        verify(memberRepository, never()).findMembersProfileByMemberId(any());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 사용자 프로필만 DB 에서 조회")
+    void getMemberProfiles_partialMiss() throws Exception {
+        // given
+        String profile1 = objectMapper.writeValueAsString(MemberProfileResponse.of(1L, "member1", "member1.jpg"));
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList(profile1, null));
+        when(memberRepository.findMembersProfileByMemberId(Set.of(2L)))
+                .thenReturn(List.of(MemberProfileResponse.of(2L, "member2", "member2.jpg")));
+
+        // when
+        Map<Long, MemberProfileResponse> response = memberProfileCacheService.getMemberProfiles(List.of(1L, 2L));
+
+        // then
+        assertThat(response.size()).isEqualTo(2);
+        assertThat(response.get(2L).getNickname()).isEqualTo("member2");
+        verify(memberRepository).findMembersProfileByMemberId(Set.of(2L));
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션에서 DB 조회한 사용자 프로필은 짧은 TTL 로 캐시")
+    void getMemberProfiles_readOnlyTransaction() throws Exception {
+        // given
+        ReflectionTestUtils.setField(memberProfileCacheService, "ttlSeconds", 3600L);
+        ReflectionTestUtils.setField(memberProfileCacheService, "readOnlyTtlSeconds", 10L);
+
+        MemberProfileResponse profile = MemberProfileResponse.of(1L, "member1", "member1.jpg");
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList((String) null));
+        when(memberRepository.findMembersProfileByMemberId(Set.of(1L))).thenReturn(List.of(profile));
+
+        // when
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        try {
+            memberProfileCacheService.getMemberProfiles(List.of(1L));
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+
+        // then
+        ArgumentCaptor<RedisCallback<Object>> captor = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisTemplate).executePipelined(captor.capture());
+
+        StringRedisConnection connection = mock(StringRedisConnection.class);
+        captor.getValue().doInRedis(connection);
+        verify(connection).setEx("member:profile:1", 10L, objectMapper.writeValueAsString(profile));
+    }
+
+    @Test
+    @DisplayName("사용자 프로필 조회 시 요청 데이터가 없는 경우")
+    void getMemberProfiles_empty(){
+        // given, when
+        Map<Long, MemberProfileResponse> response = memberProfileCacheService.getMemberProfiles(Set.of());
+
+        // then
+        assertThat(response).isEmpty();
+        verify(redisTemplate, never()).opsForValue();
+        verify(memberRepository, never()).findMembersProfileByMemberId(any());
+    }
+
+    @Test
+    @DisplayName("사용자 프로필 캐시 삭제")
+    void evict(){
+        // given, when
+        memberProfileCacheService.evict(1L);
+
+        // then
+        verify(redisTemplate).delete("member:profile:1");
+    }
+}
@@ -12,23 +12,22 @@ import com.triptune.email.exception.EmailVerifyException;
 import com.triptune.email.service.EmailService;
 import com.triptune.member.MemberTest;
 import com.triptune.member.dto.request.*;
+import com.triptune.member.dto.response.DeactivateResponse;
 import com.triptune.member.dto.response.FindIdResponse;
 import com.triptune.member.dto.response.LoginResponse;
 import com.triptune.member.dto.response.MemberInfoResponse;
 import com.triptune.member.dto.response.RefreshTokenResponse;
 import com.triptune.member.entity.Member;
+import com.triptune.member.enumclass.DeactivationJobStatus;
+import com.triptune.member.event.MemberDeactivatedEvent;
 import com.triptune.member.exception.IncorrectPasswordException;
 import com.triptune.member.exception.FailLoginException;
 import com.triptune.member.repository.MemberRepository;
 import com.triptune.profile.entity.ProfileImage;
 import com.triptune.profile.service.ProfileImageService;
-import com.triptune.schedule.entity.TravelAttendee;
-import com.triptune.schedule.entity.TravelSchedule;
-import com.triptune.schedule.enumclass.AttendeePermission;
 import com.triptune.schedule.enumclass.AttendeeRole;
-import com.triptune.schedule.repository.ChatMessageRepository;
 import com.triptune.schedule.repository.TravelAttendeeRepository;
-import com.triptune.schedule.repository.TravelScheduleRepository;
+import com.triptune.schedule.service.ScheduleBulkDeleteService;
 import com.triptune.travel.dto.response.PlaceBookmarkResponse;
 import com.triptune.travel.entity.TravelImage;
 import com.triptune.travel.entity.TravelPlace;
@@ -49,9 +48,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -94,13 +95,19 @@ public class MemberServiceTest extends MemberTest {
     private TravelAttendeeRepository travelAttendeeRepository;
 
     @Mock
-    private ChatMessageRepository chatMessageRepository;
+    private BookmarkRepository bookmarkRepository;
 
     @Mock
-    private TravelScheduleRepository travelScheduleRepository;
+    private MemberProfileCacheService memberProfileCacheService;
 
     @Mock
-    private BookmarkRepository bookmarkRepository;
+    private ScheduleBulkDeleteService scheduleBulkDeleteService;
+
+    @Mock
+    private DeactivationJobService deactivationJobService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
 
     private final String accessToken = "MemberAccessToken";
@@ -314,7 +321,7 @@ public class MemberServiceTest extends MemberTest {
 
         // then
         verify(memberRepository, times(1)).deleteRefreshTokenByNickname(request.getNickname());
-        verify(redisUtils, times(1)).saveExpiredData(accessToken, "logout", 3600);
+        verify(redisUtils, times(1)).saveLogoutToken(accessToken, 3600);
     }
 
     @Test
@@ -449,7 +456,7 @@ public class MemberServiceTest extends MemberTest {
         String newPassword = "newPassword";
         String encodedPassword = "encodedPassword";
 
-        when(redisUtils.getData(anyString())).thenReturn(member.getEmail());
+        when(redisUtils.getAndDeletePasswordToken(anyString())).thenReturn(member.getEmail());
         when(memberRepository.findByEmail(anyString())).thenReturn(Optional.of(member));
         when(passwordEncoder.encode(newPassword)).thenReturn(encodedPassword);
 
@@ -458,7 +465,7 @@ public class MemberServiceTest extends MemberTest {
         memberService.resetPassword(createResetPasswordDTO(passwordToken, newPassword, newPassword));
 
         // then
-        verify(redisUtils, times(1)).getData(passwordToken);
+        verify(redisUtils, times(1)).getAndDeletePasswordToken(passwordToken);
         verify(memberRepository, times(1)).findByEmail(member.getEmail());
         verify(passwordEncoder, times(1)).encode(newPassword);
         assertThat(encodedPassword).isEqualTo(member.getPassword());
@@ -469,7 +476,7 @@ public class MemberServiceTest extends MemberTest {
     void changePassword_resetPasswordException(){
         // given
         String newPassword = "newPassword";
-        when(redisUtils.getData(anyString())).thenReturn(null);
+        when(redisUtils.getAndDeletePasswordToken(anyString())).thenReturn(null);
 
         // when
         IncorrectPasswordException fail = assertThrows(IncorrectPasswordException.class,
@@ -486,7 +493,7 @@ public class MemberServiceTest extends MemberTest {
         // given
         String newPassword = "newPassword";
 
-        when(redisUtils.getData(anyString())).thenReturn(member.getEmail());
+        when(redisUtils.getAndDeletePasswordToken(anyString())).thenReturn(member.getEmail());
         when(memberRepository.findByEmail(anyString())).thenReturn(Optional.empty());
 
         // when
@@ -597,6 +604,7 @@ public class MemberServiceTest extends MemberTest {
         // when, then
         assertDoesNotThrow(() -> memberService.changeNickname(member.getUserId(), request));
         assertThat(member.getNickname()).isEqualTo(request.getNickname());
+        verify(memberProfileCacheService).evict(member.getMemberId());
     }
 
     @Test
@@ -774,27 +782,26 @@ public class MemberServiceTest extends MemberTest {
     void deactivateMember1(){
         // given
         DeactivateRequest request = createDeactivateRequest(member.getPassword());
-
-        TravelSchedule schedule1 = createTravelSchedule(1L, "테스트1");
-        TravelSchedule schedule2 = createTravelSchedule(2L, "테스트2");
-
-        List<TravelAttendee> attendees = List.of(
-                createTravelAttendee(1L, member, schedule1, AttendeeRole.AUTHOR, AttendeePermission.ALL),
-                createTravelAttendee(2L, member, schedule2, AttendeeRole.GUEST, AttendeePermission.READ)
-        );
+        String email = member.getEmail();
 
         when(memberRepository.findByUserId(anyString())).thenReturn(Optional.of(member));
         when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
-        when(travelAttendeeRepository.findAllByMember_UserId(anyString())).thenReturn(attendees);
+        when(travelAttendeeRepository.findScheduleIdsByMemberIdAndRole(any(), eq(AttendeeRole.AUTHOR))).thenReturn(List.of(1L));
 
         // when
-        assertThatCode(() -> memberService.deactivateMember(accessToken, member.getUserId(), request))
-                .doesNotThrowAnyException();
-
+        DeactivateResponse response = memberService.deactivateMember(accessToken, member.getUserId(), request);
 
         // then
+        assertThat(response.getStatus()).isEqualTo(DeactivationJobStatus.COMPLETED);
+        assertThat(response.getJobId()).isNull();
         assertThat(member.getUserId()).isEqualTo("알 수 없음");
         assertThat(member.getPassword()).isEqualTo("알 수 없음");
+
+        verify(travelAttendeeRepository, times(1)).deleteAllByMemberIdAndRole(member.getMemberId(), AttendeeRole.GUEST);
+        verify(scheduleBulkDeleteService, times(1)).deleteSchedules(List.of(1L));
+        verify(bookmarkRepository, times(1)).deleteAllByMemberId(member.getMemberId());
+        verify(redisUtils, times(1)).deleteAllEmailData(email);
+        verify(eventPublisher, never()).publishEvent(any(MemberDeactivatedEvent.class));
     }
 
 
@@ -806,18 +813,43 @@ public class MemberServiceTest extends MemberTest {
 
         when(memberRepository.findByUserId(anyString())).thenReturn(Optional.of(member));
         when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
-        when(travelAttendeeRepository.findAllByMember_UserId(anyString())).thenReturn(new ArrayList<>());
+        when(travelAttendeeRepository.findScheduleIdsByMemberIdAndRole(any(), eq(AttendeeRole.AUTHOR))).thenReturn(new ArrayList<>());
 
         // when
-        assertThatCode(() -> memberService.deactivateMember(accessToken, member.getUserId(), request))
-                .doesNotThrowAnyException();
-
+        DeactivateResponse response = memberService.deactivateMember(accessToken, member.getUserId(), request);
 
         // then
+        assertThat(response.getStatus()).isEqualTo(DeactivationJobStatus.COMPLETED);
         assertThat(member.getUserId()).isEqualTo("알 수 없음");
         assertThat(member.getPassword()).isEqualTo("알 수 없음");
     }
 
+    @Test
+    @DisplayName("회원 탈퇴 시 작성한 일정이 기준 개수 이상인 경우 백그라운드 삭제 요청")
+    void deactivateMember_backgroundJob(){
+        // given
+        ReflectionTestUtils.setField(memberService, "backgroundThreshold", 2);
+        DeactivateRequest request = createDeactivateRequest(member.getPassword());
+        List<Long> scheduleIds = List.of(1L, 2L);
+
+        when(memberRepository.findByUserId(anyString())).thenReturn(Optional.of(member));
+        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+        when(travelAttendeeRepository.findScheduleIdsByMemberIdAndRole(any(), eq(AttendeeRole.AUTHOR))).thenReturn(scheduleIds);
+        when(deactivationJobService.createJob(anyInt())).thenReturn("jobId");
+
+        // when
+        DeactivateResponse response = memberService.deactivateMember(accessToken, member.getUserId(), request);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(DeactivationJobStatus.PENDING);
+        assertThat(response.getJobId()).isEqualTo("jobId");
+        assertThat(member.getUserId()).isEqualTo("알 수 없음");
+
+        verify(deactivationJobService, times(1)).createJob(2);
+        verify(eventPublisher, times(1)).publishEvent(new MemberDeactivatedEvent("jobId", scheduleIds));
+        verify(scheduleBulkDeleteService, never()).deleteSchedules(anyList());
+    }
+
     @Test
     @DisplayName("회원 탈퇴 시 사용자 데이터가 존재하지 않아 예외 발생")
     void deactivateMember_MemberDataNotFoundException(){
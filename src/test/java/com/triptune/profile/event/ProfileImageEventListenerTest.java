@@ -0,0 +1,81 @@
+package com.triptune.profile.event;
+
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.triptune.global.service.S3Service;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProfileImageEventListenerTest {
+
+    @InjectMocks
+    private ProfileImageEventListener profileImageEventListener;
+
+    @Mock
+    private S3Service s3Service;
+
+
+    @Test
+    @DisplayName("커밋 후 기존 프로필 이미지 삭제")
+    void deleteBeforeImage(){
+        // given
+        ProfileImageReplacedEvent event = new ProfileImageReplacedEvent("img/profile/before.jpg", "img/profile/after.jpg");
+
+        // when
+        profileImageEventListener.deleteBeforeImage(event);
+
+        // then
+        verify(s3Service).deleteS3File("img/profile/before.jpg");
+        verify(s3Service).deleteS3File("img/profile/before_small.jpg");
+        verify(s3Service).deleteS3File("img/profile/before_medium.jpg");
+        verify(s3Service).deleteS3File("img/profile/before_large.jpg");
+        verify(s3Service, never()).deleteS3File("img/profile/after.jpg");
+    }
+
+    @Test
+    @DisplayName("기존 이미지가 기본 프로필 이미지인 경우 삭제하지 않음")
+    void deleteBeforeImage_defaultImage(){
+        // given
+        ProfileImageReplacedEvent event = new ProfileImageReplacedEvent(null, "img/profile/after.jpg");
+
+        // when
+        profileImageEventListener.deleteBeforeImage(event);
+
+        // then
+        verify(s3Service, never()).deleteS3File(any());
+    }
+
+    @Test
+    @DisplayName("롤백 시 새로 업로드한 프로필 이미지 삭제")
+    void deleteUploadedImage(){
+        // given
+        ProfileImageReplacedEvent event = new ProfileImageReplacedEvent("img/profile/before.jpg", "img/profile/after.jpg");
+
+        // when
+        profileImageEventListener.deleteUploadedImage(event);
+
+        // then
+        verify(s3Service).deleteS3File("img/profile/after.jpg");
+        verify(s3Service, never()).deleteS3File("img/profile/before.jpg");
+    }
+
+    @Test
+    @DisplayName("프로필 이미지 삭제 실패 시 예외를 전파하지 않고 나머지 파일 삭제")
+    void deleteBeforeImage_deleteFail(){
+        // given
+        ProfileImageReplacedEvent event = new ProfileImageReplacedEvent("img/profile/before.jpg", "img/profile/after.jpg");
+        doThrow(new AmazonS3Exception("s3 이미지 삭제 실패")).when(s3Service).deleteS3File(any());
+
+        // when, then
+        assertDoesNotThrow(() -> profileImageEventListener.deleteBeforeImage(event));
+        verify(s3Service, times(4)).deleteS3File(any());
+    }
+}
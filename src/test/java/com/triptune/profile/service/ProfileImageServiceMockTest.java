@@ -2,29 +2,53 @@ package com.triptune.profile.service;
 
 import com.triptune.member.entity.Member;
 import com.triptune.member.repository.MemberRepository;
+import com.triptune.member.service.MemberProfileCacheService;
 import com.triptune.profile.ProfileImageTest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.triptune.profile.dto.request.ProfileUploadCompleteRequest;
+import com.triptune.profile.dto.request.ProfileUploadUrlRequest;
+import com.triptune.profile.dto.response.ProfileUploadUrlResponse;
 import com.triptune.profile.entity.ProfileImage;
+import com.triptune.profile.event.ProfileImageReplacedEvent;
 import com.triptune.profile.repository.ProfileImageRepository;
 import com.triptune.global.enumclass.ErrorCode;
 import com.triptune.global.exception.DataNotFoundException;
 import com.triptune.global.exception.FileBadRequestException;
 import com.triptune.global.properties.DefaultProfileImageProperties;
+import com.triptune.global.enumclass.ImageVariantType;
+import com.triptune.global.service.ImageVariantService;
 import com.triptune.global.service.S3Service;
+import com.triptune.global.util.FileValidator;
+import com.triptune.global.util.RedisUtils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,6 +69,24 @@ public class ProfileImageServiceMockTest extends ProfileImageTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private MemberProfileCacheService memberProfileCacheService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ImageVariantService imageVariantService;
+
+    @Mock
+    private RedisUtils redisUtils;
+
+    @Spy
+    private FileValidator fileValidator = new FileValidator();
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     @Test
     @DisplayName("프로필 이미지 수정")
     void updateProfileImage() throws IOException {
@@ -67,9 +109,72 @@ public class ProfileImageServiceMockTest extends ProfileImageTest {
         assertThat(profileImage.getFileSize()).isEqualTo(mockMultipartFile.getSize());
         assertThat(profileImage.getFileType()).isEqualTo("jpeg");
         assertThat(profileImage.getUpdatedAt()).isNotNull();
+        verify(memberProfileCacheService).evict(member.getMemberId());
+        verify(eventPublisher).publishEvent(new ProfileImageReplacedEvent(null, profileImage.getS3FileKey()));
+    }
+
+    @Test
+    @DisplayName("프로필 이미지 수정 시 크기별 이미지 저장 및 기존 이미지 삭제 이벤트 발행")
+    void updateProfileImage_publishReplacedEvent() throws IOException {
+        // given
+        byte[] content = createTestImage("jpeg");
+        MockMultipartFile mockMultipartFile = new MockMultipartFile("newFile", "newFileOriginalName.jpeg", "image/jpeg", content);
+
+        Member member = createMember(1L, "member");
+        ProfileImage profileImage = createProfileImage(1L, "savedImage", member);
+        String beforeS3FileKey = profileImage.getS3FileKey();
+
+        when(profileImageRepository.findByUserId(any())).thenReturn(Optional.of(profileImage));
+        when(imageProperties.getS3FileKey()).thenReturn("img/profile/default.jpg");
+        when(s3Service.generateS3FileKey(any())).thenReturn("img/profile/newImage.jpeg");
+        when(imageVariantService.uploadVariants(any(), eq("img/profile/newImage.jpeg"))).thenReturn(Map.of(
+                ImageVariantType.SMALL, "/img/profile/newImage_small.jpg",
+                ImageVariantType.MEDIUM, "/img/profile/newImage_medium.jpg",
+                ImageVariantType.LARGE, "/img/profile/newImage_large.jpg"
+        ));
+
+        // when
+        profileImageService.updateProfileImage("member", mockMultipartFile);
+
+        // then
+        assertThat(profileImage.getSmallObjectUrl()).isEqualTo("/img/profile/newImage_small.jpg");
+        assertThat(profileImage.getMediumObjectUrl()).isEqualTo("/img/profile/newImage_medium.jpg");
+        assertThat(profileImage.getLargeObjectUrl()).isEqualTo("/img/profile/newImage_large.jpg");
+        assertThat(profileImage.getAvatarUrl()).isEqualTo("/img/profile/newImage_small.jpg");
+
+        ArgumentCaptor<ProfileImageReplacedEvent> captor = ArgumentCaptor.forClass(ProfileImageReplacedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        verify(s3Service, never()).deleteS3File(anyString());
+
+        assertThat(captor.getValue().beforeS3FileKey()).isEqualTo(beforeS3FileKey);
+        assertThat(captor.getValue().afterS3FileKey()).isEqualTo("img/profile/newImage.jpeg");
     }
 
 
+    @Test
+    @DisplayName("프로필 이미지 수정 시 크기별 이미지 업로드 실패로 업로드한 파일 삭제")
+    void updateProfileImage_uploadVariantsFail() throws IOException {
+        // given
+        byte[] content = createTestImage("jpeg");
+        MockMultipartFile mockMultipartFile = new MockMultipartFile("newFile", "newFileOriginalName.jpeg", "image/jpeg", content);
+
+        when(s3Service.generateS3FileKey(any())).thenReturn("img/profile/newImage.jpeg");
+        when(imageVariantService.uploadVariants(any(), eq("img/profile/newImage.jpeg"))).thenThrow(new IllegalStateException("upload fail"));
+
+        // when
+        assertThrows(IllegalStateException.class, () -> profileImageService.updateProfileImage("member", mockMultipartFile));
+
+        // then
+        verify(s3Service).deleteS3File("img/profile/newImage.jpeg");
+
+        for (ImageVariantType variantType : ImageVariantType.values()){
+            verify(s3Service).deleteS3File(variantType.createS3FileKey("img/profile/newImage.jpeg"));
+        }
+
+        verify(profileImageRepository, never()).findByUserId(any());
+        verify(eventPublisher, never()).publishEvent(any(ProfileImageReplacedEvent.class));
+    }
+
     @Test
     @DisplayName("프로필 이미지 수정 시 허용되지 않은 확장자로 예외 발생")
     void updateProfileImage_invalidExtensionException() throws IOException {
@@ -102,5 +207,161 @@ public class ProfileImageServiceMockTest extends ProfileImageTest {
         assertThat(fail.getMessage()).isEqualTo(ErrorCode.PROFILE_IMAGE_NOT_FOUND.getMessage());
     }
 
+    @Test
+    @DisplayName("프로필 이미지 업로드 URL 발급")
+    void createUploadUrl(){
+        // given
+        ReflectionTestUtils.setField(profileImageService, "maxFileSize", 5_242_880L);
+        ReflectionTestUtils.setField(profileImageService, "uploadUrlExpiration", 300L);
+        ProfileUploadUrlRequest request = ProfileUploadUrlRequest.builder()
+                .contentType("image/png")
+                .fileSize(1024)
+                .build();
+
+        when(s3Service.generateS3FileName(any(), eq("png"))).thenReturn("newImage.png");
+        when(s3Service.generateStagingS3FileKey("newImage.png")).thenReturn("img/profile/staging/newImage.png");
+        when(s3Service.generatePresignedUploadUrl(eq("img/profile/staging/newImage.png"), eq("image/png"), eq(1024L), any())).thenReturn("https://upload-url");
+
+        // when
+        ProfileUploadUrlResponse response = profileImageService.createUploadUrl("member", request);
+
+        // then
+        assertThat(response.getUploadUrl()).isEqualTo("https://upload-url");
+        assertThat(response.getS3FileKey()).isEqualTo("img/profile/staging/newImage.png");
+        assertThat(response.getHeaders()).containsEntry("Content-Type", "image/png");
+        assertThat(response.getHeaders()).containsEntry("Content-Length", "1024");
+        assertThat(response.getHeaders()).doesNotContainKey("x-amz-acl");
+        verify(redisUtils).saveExpiredData(eq("profile:upload:member"), eq("img/profile/staging/newImage.png"), anyLong());
+    }
+
+    @Test
+    @DisplayName("프로필 이미지 업로드 URL 발급 시 파일 크기 초과로 예외 발생")
+    void createUploadUrl_fileSizeExceededException(){
+        // given
+        ReflectionTestUtils.setField(profileImageService, "maxFileSize", 5_242_880L);
+        ProfileUploadUrlRequest request = ProfileUploadUrlRequest.builder()
+                .contentType("image/png")
+                .fileSize(10_000_000)
+                .build();
+
+        // when
+        FileBadRequestException fail = assertThrows(FileBadRequestException.class, () -> profileImageService.createUploadUrl("member", request));
+
+        // then
+        assertThat(fail.getHttpStatus()).isEqualTo(ErrorCode.FILE_SIZE_EXCEEDED.getStatus());
+        assertThat(fail.getMessage()).isEqualTo(ErrorCode.FILE_SIZE_EXCEEDED.getMessage());
+        verify(s3Service, never()).generatePresignedUploadUrl(any(), any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("프로필 이미지 업로드 완료")
+    void completeUpload() throws IOException {
+        // given
+        ReflectionTestUtils.setField(profileImageService, "maxFileSize", 5_242_880L);
+        ProfileUploadCompleteRequest request = ProfileUploadCompleteRequest.builder()
+                .s3FileKey("img/profile/staging/newImage.png")
+                .originalName("original.png")
+                .build();
+
+        Member member = createMember(1L, "member");
+        ProfileImage profileImage = createProfileImage(1L, "savedImage", member);
+        String beforeS3FileKey = profileImage.getS3FileKey();
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(2048);
+
+        when(redisUtils.getData("profile:upload:member")).thenReturn("img/profile/staging/newImage.png");
+        when(profileImageRepository.findByUserId(any())).thenReturn(Optional.of(profileImage));
+        when(imageProperties.getS3FileKey()).thenReturn("img/profile/default.jpg");
+        when(s3Service.getObjectMetadata("img/profile/staging/newImage.png")).thenReturn(metadata);
+        when(s3Service.readObjectHeader(eq("img/profile/staging/newImage.png"), anyInt())).thenReturn(createTestImage("png"));
+        when(s3Service.generateS3FileKey("newImage.png")).thenReturn("img/profile/newImage.png");
+        when(s3Service.copyToPublic("img/profile/staging/newImage.png", "img/profile/newImage.png")).thenReturn("/img/profile/newImage.png");
+
+        // when
+        profileImageService.completeUpload("member", request);
+
+        // then
+        assertThat(profileImage.getS3FileKey()).isEqualTo("img/profile/newImage.png");
+        assertThat(profileImage.getS3ObjectUrl()).isEqualTo("/img/profile/newImage.png");
+        assertThat(profileImage.getFileName()).isEqualTo("newImage.png");
+        assertThat(profileImage.getOriginalName()).isEqualTo("original.png");
+        assertThat(profileImage.getFileType()).isEqualTo("png");
+        assertThat(profileImage.getFileSize()).isEqualTo(2048);
+        verify(eventPublisher).publishEvent(new ProfileImageReplacedEvent(beforeS3FileKey, "img/profile/newImage.png"));
+        verify(memberProfileCacheService).evict(member.getMemberId());
+        verify(redisUtils).deleteData("profile:upload:member");
+        verify(s3Service).deleteS3File("img/profile/staging/newImage.png");
+    }
+
+    @Test
+    @DisplayName("프로필 이미지 업로드 완료 시 발급하지 않은 파일 키로 예외 발생")
+    void completeUpload_uploadRequestNotFoundException(){
+        // given
+        ProfileUploadCompleteRequest request = ProfileUploadCompleteRequest.builder()
+                .s3FileKey("img/profile/staging/otherImage.png")
+                .build();
+
+        when(redisUtils.getData("profile:upload:member")).thenReturn("img/profile/staging/newImage.png");
+
+        // when
+        FileBadRequestException fail = assertThrows(FileBadRequestException.class, () -> profileImageService.completeUpload("member", request));
+
+        // then
+        assertThat(fail.getMessage()).isEqualTo(ErrorCode.UPLOAD_REQUEST_NOT_FOUND.getMessage());
+        verify(s3Service, never()).getObjectMetadata(any());
+    }
+
+    @Test
+    @DisplayName("프로필 이미지 업로드 완료 시 이미지 파일이 아니라 예외 발생")
+    void completeUpload_invalidExtensionException(){
+        // given
+        ReflectionTestUtils.setField(profileImageService, "maxFileSize", 5_242_880L);
+        ProfileUploadCompleteRequest request = ProfileUploadCompleteRequest.builder()
+                .s3FileKey("img/profile/staging/newImage.png")
+                .build();
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(2048);
+
+        when(redisUtils.getData("profile:upload:member")).thenReturn("img/profile/staging/newImage.png");
+        when(s3Service.getObjectMetadata("img/profile/staging/newImage.png")).thenReturn(metadata);
+        when(s3Service.readObjectHeader(eq("img/profile/staging/newImage.png"), anyInt())).thenReturn("<html></html>".getBytes());
+
+        // when
+        FileBadRequestException fail = assertThrows(FileBadRequestException.class, () -> profileImageService.completeUpload("member", request));
+
+        // then
+        assertThat(fail.getMessage()).isEqualTo(ErrorCode.INVALID_EXTENSION.getMessage());
+        verify(s3Service, never()).copyToPublic(any(), any());
+        verify(s3Service).deleteS3File("img/profile/staging/newImage.png");
+        verify(profileImageRepository, never()).findByUserId(any());
+        verify(redisUtils, never()).deleteData(any());
+    }
+
+    @Test
+    @DisplayName("프로필 이미지 업로드 완료 시 발급 요청과 실제 파일 형식이 달라 예외 발생")
+    void completeUpload_extensionMismatchException() throws IOException {
+        // given
+        ReflectionTestUtils.setField(profileImageService, "maxFileSize", 5_242_880L);
+        ProfileUploadCompleteRequest request = ProfileUploadCompleteRequest.builder()
+                .s3FileKey("img/profile/staging/newImage.png")
+                .build();
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(2048);
+
+        when(redisUtils.getData("profile:upload:member")).thenReturn("img/profile/staging/newImage.png");
+        when(s3Service.getObjectMetadata("img/profile/staging/newImage.png")).thenReturn(metadata);
+        when(s3Service.readObjectHeader(eq("img/profile/staging/newImage.png"), anyInt())).thenReturn(createTestImage("jpeg"));
+
+        // when
+        FileBadRequestException fail = assertThrows(FileBadRequestException.class, () -> profileImageService.completeUpload("member", request));
+
+        // then
+        assertThat(fail.getMessage()).isEqualTo(ErrorCode.INVALID_EXTENSION.getMessage());
+        verify(s3Service, never()).copyToPublic(any(), any());
+        verify(s3Service).deleteS3File("img/profile/staging/newImage.png");
+    }
 
 }
@@ -9,6 +9,9 @@ import com.triptune.travel.entity.TravelPlace;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public abstract class ScheduleTest extends BaseTest {
     protected ScheduleCreateRequest createScheduleRequest() {
@@ -75,4 +78,9 @@ public abstract class ScheduleTest extends BaseTest {
                 .build();
     }
 
+    protected Map<Long, MemberProfileResponse> createMemberProfileMap(List<MemberProfileResponse> memberProfileResponses){
+        return memberProfileResponses.stream()
+                .collect(Collectors.toMap(MemberProfileResponse::getMemberId, Function.identity()));
+    }
+
 }
@@ -3,6 +3,7 @@ package com.triptune.schedule.controller;
 import com.triptune.member.entity.Member;
 import com.triptune.profile.entity.ProfileImage;
 import com.triptune.member.repository.MemberRepository;
+import com.triptune.member.service.MemberProfileCacheService;
 import com.triptune.profile.repository.ProfileImageRepository;
 import com.triptune.schedule.ScheduleTest;
 import com.triptune.schedule.entity.ChatMessage;
@@ -13,6 +14,7 @@ import com.triptune.schedule.enumclass.AttendeeRole;
 import com.triptune.schedule.repository.ChatMessageRepository;
 import com.triptune.schedule.repository.TravelAttendeeRepository;
 import com.triptune.schedule.repository.TravelScheduleRepository;
+import com.triptune.schedule.service.ChatTailCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -45,6 +47,8 @@ public class ChatControllerTest extends ScheduleTest {
     private final ProfileImageRepository profileImageRepository;
     private final TravelAttendeeRepository travelAttendeeRepository;
     private final ChatMessageRepository chatMessageRepository;
+    private final ChatTailCache chatTailCache;
+    private final MemberProfileCacheService memberProfileCacheService;
 
     private MockMvc mockMvc;
 
@@ -54,13 +58,15 @@ public class ChatControllerTest extends ScheduleTest {
     private Member member3;
 
     @Autowired
-    public ChatControllerTest(WebApplicationContext wac, TravelScheduleRepository travelScheduleRepository, MemberRepository memberRepository, ProfileImageRepository profileImageRepository, TravelAttendeeRepository travelAttendeeRepository, ChatMessageRepository chatMessageRepository) {
+    public ChatControllerTest(WebApplicationContext wac, TravelScheduleRepository travelScheduleRepository, MemberRepository memberRepository, ProfileImageRepository profileImageRepository, TravelAttendeeRepository travelAttendeeRepository, ChatMessageRepository chatMessageRepository, ChatTailCache chatTailCache, MemberProfileCacheService memberProfileCacheService) {
         this.wac = wac;
         this.travelScheduleRepository = travelScheduleRepository;
         this.memberRepository = memberRepository;
         this.profileImageRepository = profileImageRepository;
         this.travelAttendeeRepository = travelAttendeeRepository;
         this.chatMessageRepository = chatMessageRepository;
+        this.chatTailCache = chatTailCache;
+        this.memberProfileCacheService = memberProfileCacheService;
     }
 
     @BeforeEach
@@ -80,8 +86,10 @@ public class ChatControllerTest extends ScheduleTest {
         member1 = memberRepository.save(createMember(null, "member1", profileImage1));
         member2 = memberRepository.save(createMember(null, "member2", profileImage2));
         member3 = memberRepository.save(createMember(null, "member3", profileImage3));
+        List.of(member1, member2, member3).forEach(member -> memberProfileCacheService.evict(member.getMemberId()));
 
         schedule = travelScheduleRepository.save(createTravelSchedule(null,"테스트1"));
+        chatTailCache.evict(schedule.getScheduleId());
 
         TravelAttendee attendee1 = travelAttendeeRepository.save(createTravelAttendee(0L, member1, schedule, AttendeeRole.AUTHOR, AttendeePermission.ALL));
         TravelAttendee attendee2 = travelAttendeeRepository.save(createTravelAttendee(0L, member2, schedule, AttendeeRole.GUEST, AttendeePermission.READ));
@@ -132,4 +140,32 @@ public class ChatControllerTest extends ScheduleTest {
                 .andExpect(jsonPath("$.data.content").isEmpty());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("기준 메시지 이전 채팅 내용 조회")
+    @WithMockUser(username = "member1")
+    void getChatMessagesBefore() throws Exception {
+        ChatMessage message1 = chatMessageRepository.save(createChatMessage("id1", schedule.getScheduleId(), member1, "hello1"));
+        ChatMessage message2 = chatMessageRepository.save(createChatMessage("id2", schedule.getScheduleId(), member2, "hello2"));
+        ChatMessage message3 = chatMessageRepository.save(createChatMessage("id3", schedule.getScheduleId(), member3, "hello3"));
+
+        mockMvc.perform(get("/api/schedules/{scheduleId}/chats/history", schedule.getScheduleId())
+                        .param("before", message3.getMessageId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.hasNext").value(false))
+                .andExpect(jsonPath("$.data.content[0].nickname").value(member1.getNickname()))
+                .andExpect(jsonPath("$.data.content[0].message").value(message1.getMessage()))
+                .andExpect(jsonPath("$.data.content[1].nickname").value(member2.getNickname()))
+                .andExpect(jsonPath("$.data.content[1].message").value(message2.getMessage()));
+    }
+
+    @Test
+    @DisplayName("기준 메시지 이전 채팅 내용 조회 시 데이터가 없는 경우")
+    @WithMockUser(username = "member1")
+    void getChatMessagesBeforeNoMessage() throws Exception {
+        mockMvc.perform(get("/api/schedules/{scheduleId}/chats/history", schedule.getScheduleId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.hasNext").value(false))
+                .andExpect(jsonPath("$.data.content").isEmpty());
+    }
+
+}
@@ -19,6 +19,8 @@ import com.triptune.travel.repository.TravelImageRepository;
 import com.triptune.travel.repository.TravelPlaceRepository;
 import com.triptune.global.enumclass.ErrorCode;
 import com.triptune.global.enumclass.SuccessCode;
+import com.triptune.global.filter.QueryCountMetricsFilter;
+import com.triptune.global.metrics.MaxQueries;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -83,6 +85,7 @@ public class RouteControllerTest extends ScheduleTest {
     void setUp(){
         mockMvc = MockMvcBuilders.webAppContextSetup(wac)
                 .addFilter(new CharacterEncodingFilter("UTF-8", true))
+                .addFilter(wac.getBean(QueryCountMetricsFilter.class))
                 .apply(springSecurity())
                 .alwaysDo(print())
                 .build();
@@ -116,6 +119,8 @@ public class RouteControllerTest extends ScheduleTest {
 
     @Test
     @DisplayName("여행 루트 조회 성공")
+    // 루트 목록, 전체 개수 (페이지가 가득 찬 경우)
+    @MaxQueries(2)
     @WithMockUser(username = "member1")
     void getTravelRoutes() throws Exception {
         // given
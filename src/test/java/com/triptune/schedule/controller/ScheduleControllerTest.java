@@ -5,6 +5,7 @@ import com.triptune.common.repository.*;
 import com.triptune.member.entity.Member;
 import com.triptune.profile.entity.ProfileImage;
 import com.triptune.member.repository.MemberRepository;
+import com.triptune.member.service.MemberProfileCacheService;
 import com.triptune.profile.repository.ProfileImageRepository;
 import com.triptune.schedule.ScheduleTest;
 import com.triptune.schedule.dto.request.ScheduleCreateRequest;
@@ -25,6 +26,8 @@ import com.triptune.travel.entity.TravelPlace;
 import com.triptune.travel.repository.TravelImageRepository;
 import com.triptune.travel.repository.TravelPlaceRepository;
 import com.triptune.global.enumclass.ErrorCode;
+import com.triptune.global.filter.QueryCountMetricsFilter;
+import com.triptune.global.metrics.MaxQueries;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -66,6 +69,7 @@ public class ScheduleControllerTest extends ScheduleTest {
     @Autowired private TravelRouteRepository travelRouteRepository;
     @Autowired private ProfileImageRepository profileImageRepository;
     @Autowired private ChatMessageRepository chatMessageRepository;
+    @Autowired private MemberProfileCacheService memberProfileCacheService;
 
     private MockMvc mockMvc;
 
@@ -85,6 +89,7 @@ public class ScheduleControllerTest extends ScheduleTest {
     void setUp(){
         mockMvc = MockMvcBuilders.webAppContextSetup(wac)
                 .addFilter(new CharacterEncodingFilter("UTF-8", true))
+                .addFilter(wac.getBean(QueryCountMetricsFilter.class))
                 .apply(springSecurity())
                 .alwaysDo(print())
                 .build();
@@ -98,6 +103,7 @@ public class ScheduleControllerTest extends ScheduleTest {
         member1 = memberRepository.save(createMember(null, "member1", profileImage1));
         member2 = memberRepository.save(createMember(null, "member2", profileImage2));
         member3 = memberRepository.save(createMember(null, "member3", profileImage3));
+        List.of(member1, member2, member3).forEach(member -> memberProfileCacheService.evict(member.getMemberId()));
 
         Country country = countryRepository.save(createCountry());
         City city = cityRepository.save(createCity(country));
@@ -124,6 +130,8 @@ public class ScheduleControllerTest extends ScheduleTest {
 
     @Test
     @DisplayName("전체 일정 목록 조회")
+    // 일정 목록, 전체 개수, 공유 일정 개수, 작성자 프로필 (캐시 미스)
+    @MaxQueries(4)
     @WithMockUser(username = "member1")
     void getAllSchedulesByUserId() throws Exception {
         TravelAttendee attendee1 = travelAttendeeRepository.save(createTravelAttendee(0L, member1, schedule1, AttendeeRole.AUTHOR, AttendeePermission.ALL));
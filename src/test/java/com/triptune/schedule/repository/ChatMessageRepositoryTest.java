@@ -10,6 +10,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
@@ -70,6 +71,60 @@ public class ChatMessageRepositoryTest extends ScheduleTest {
         assertThat(response.size()).isEqualTo(0);
     }
 
+    @Test
+    @DisplayName("기준 메시지 이전 채팅 목록 조회")
+    void findChatMessagesBefore(){
+        // given
+        Member member1 = memberRepository.save(createMember(null, "member1"));
+        chatMessageRepository.save(createChatMessage("chat1", schedule.getScheduleId(), member1, "hello1"));
+        chatMessageRepository.save(createChatMessage("chat2", schedule.getScheduleId(), member1, "hello2"));
+        chatMessageRepository.save(createChatMessage("chat3", schedule.getScheduleId(), member1, "hello3"));
+        chatMessageRepository.save(createChatMessage("chat4", schedule.getScheduleId(), member1, "hello4"));
+
+        // when
+        Slice<ChatMessage> response = chatMessageRepository.findChatMessagesBefore(schedule.getScheduleId(), "chat4", 2);
+
+        // then
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.getContent().size()).isEqualTo(2);
+        assertThat(response.getContent().get(0).getMessageId()).isEqualTo("chat2");
+        assertThat(response.getContent().get(1).getMessageId()).isEqualTo("chat3");
+    }
+
+    @Test
+    @DisplayName("기준 메시지 없이 최신 채팅 목록 조회")
+    void findChatMessagesBefore_latest(){
+        // given
+        Member member1 = memberRepository.save(createMember(null, "member1"));
+        chatMessageRepository.save(createChatMessage("chat1", schedule.getScheduleId(), member1, "hello1"));
+        chatMessageRepository.save(createChatMessage("chat2", schedule.getScheduleId(), member1, "hello2"));
+        chatMessageRepository.save(createChatMessage("chat3", schedule.getScheduleId(), member1, "hello3"));
+
+        // when
+        Slice<ChatMessage> response = chatMessageRepository.findChatMessagesBefore(schedule.getScheduleId(), null, 20);
+
+        // then
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.getContent().size()).isEqualTo(3);
+        assertThat(response.getContent().get(0).getMessageId()).isEqualTo("chat1");
+        assertThat(response.getContent().get(2).getMessageId()).isEqualTo("chat3");
+    }
+
+    @Test
+    @DisplayName("기준 메시지 이전 채팅 목록 조회 시 기준 메시지가 없는 경우")
+    void findChatMessagesBefore_notFoundCursor(){
+        // given
+        Member member1 = memberRepository.save(createMember(null, "member1"));
+        chatMessageRepository.save(createChatMessage("chat1", schedule.getScheduleId(), member1, "hello1"));
+
+        // when
+        Slice<ChatMessage> response = chatMessageRepository.findChatMessagesBefore(schedule.getScheduleId(), "notExist", 20);
+
+        // then
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.getContent()).isEmpty();
+    }
+
     @Test
     @DisplayName("일정 id를 통해 채팅 삭제")
     void deleteAllByScheduleId(){
@@ -101,4 +156,25 @@ public class ChatMessageRepositoryTest extends ScheduleTest {
         assertThat(chatMessages).isEmpty();
     }
 
+    @Test
+    @DisplayName("일정 id 목록을 통해 채팅 삭제")
+    void deleteAllByScheduleIdIn(){
+        // given
+        TravelSchedule otherSchedule = travelScheduleRepository.save(createTravelSchedule(null, "테스트2"));
+        TravelSchedule remainSchedule = travelScheduleRepository.save(createTravelSchedule(null, "테스트3"));
+        Member member = memberRepository.save(createMember(null, "member1"));
+        chatMessageRepository.save(createChatMessage("chat1", schedule.getScheduleId(), member, "hello1"));
+        chatMessageRepository.save(createChatMessage("chat2", otherSchedule.getScheduleId(), member, "hello2"));
+        chatMessageRepository.save(createChatMessage("chat3", remainSchedule.getScheduleId(), member, "hello3"));
+
+        // when
+        long deleted = chatMessageRepository.deleteAllByScheduleIdIn(List.of(schedule.getScheduleId(), otherSchedule.getScheduleId()));
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(chatMessageRepository.findAllByScheduleId(schedule.getScheduleId())).isEmpty();
+        assertThat(chatMessageRepository.findAllByScheduleId(otherSchedule.getScheduleId())).isEmpty();
+        assertThat(chatMessageRepository.findAllByScheduleId(remainSchedule.getScheduleId())).hasSize(1);
+    }
+
 }
\ No newline at end of file
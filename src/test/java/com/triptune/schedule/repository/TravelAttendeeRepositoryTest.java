@@ -80,15 +80,5 @@ public class TravelAttendeeRepositoryTest extends ScheduleTest {
         assertThat(response).isFalse();
     }
 
-    @Test
-    @DisplayName("일정 작성자 닉네임 조회")
-    void findAuthorNicknameByScheduleId(){
-        // given, when
-        String response = travelAttendeeRepository.findAuthorNicknameByScheduleId(schedule1.getScheduleId());
-
-        // then
-        assertThat(response).isEqualTo(member1.getNickname());
-    }
-
 
 }
@@ -5,6 +5,7 @@ import com.triptune.common.repository.*;
 import com.triptune.member.entity.Member;
 import com.triptune.member.repository.MemberRepository;
 import com.triptune.schedule.ScheduleTest;
+import com.triptune.schedule.dto.response.OverviewScheduleResponse;
 import com.triptune.schedule.entity.TravelAttendee;
 import com.triptune.schedule.entity.TravelRoute;
 import com.triptune.schedule.entity.TravelSchedule;
@@ -16,6 +17,7 @@ import com.triptune.travel.enumclass.ThemeType;
 import com.triptune.travel.repository.TravelImageRepository;
 import com.triptune.travel.repository.TravelPlaceRepository;
 import com.triptune.global.config.QueryDSLConfig;
+import com.triptune.global.metrics.QueryCountInspector;
 import com.triptune.global.util.PageUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,6 +26,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -32,6 +35,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -379,6 +383,61 @@ public class TravelScheduleRepositoryTest extends ScheduleTest {
         assertThat(response).isEqualTo(0);
     }
 
+    @Test
+    @DisplayName("수정 권한 있는 일정 목록 조회")
+    void findEnableEditTravelSchedulesByUserId(){
+        // given
+        Pageable pageable = PageUtils.scheduleModalPageable(1);
+
+        travelAttendeeRepository.save(createTravelAttendee(0L, member1, schedule1, AttendeeRole.AUTHOR, AttendeePermission.ALL));
+        travelAttendeeRepository.save(createTravelAttendee(0L, member2, schedule2, AttendeeRole.AUTHOR, AttendeePermission.ALL));
+        travelAttendeeRepository.save(createTravelAttendee(0L, member1, schedule2, AttendeeRole.GUEST, AttendeePermission.EDIT));
+        travelAttendeeRepository.save(createTravelAttendee(0L, member2, schedule3, AttendeeRole.AUTHOR, AttendeePermission.ALL));
+        travelAttendeeRepository.save(createTravelAttendee(0L, member1, schedule3, AttendeeRole.GUEST, AttendeePermission.READ));
+
+        // when
+        Page<OverviewScheduleResponse> response = travelScheduleRepository.findEnableEditTravelSchedulesByUserId(pageable, member1.getUserId());
+
+        // then
+        assertThat(response.getTotalElements()).isEqualTo(2);
+        assertThat(response.getContent())
+                .extracting(OverviewScheduleResponse::getScheduleId, OverviewScheduleResponse::getAuthor)
+                .containsExactlyInAnyOrder(
+                        tuple(schedule1.getScheduleId(), member1.getNickname()),
+                        tuple(schedule2.getScheduleId(), member2.getNickname())
+                );
+    }
+
+    @Test
+    @DisplayName("수정 권한 있는 일정 목록 조회 시 페이지 크기와 관계없이 쿼리 수 일정")
+    void findEnableEditTravelSchedulesByUserId_statementCount(){
+        // given
+        for (int i = 0; i < 12; i++){
+            TravelSchedule schedule = travelScheduleRepository.save(createTravelSchedule(null, "테스트" + i));
+            travelAttendeeRepository.save(createTravelAttendee(0L, member2, schedule, AttendeeRole.AUTHOR, AttendeePermission.ALL));
+            travelAttendeeRepository.save(createTravelAttendee(0L, member1, schedule, AttendeeRole.GUEST, AttendeePermission.EDIT));
+        }
+
+        // when
+        // 공유 EntityManagerFactory 의 Hibernate 통계 대신 현재 스레드에서 실행된 SQL 만 집계
+        QueryCountInspector.start();
+        Page<OverviewScheduleResponse> smallPage = travelScheduleRepository.findEnableEditTravelSchedulesByUserId(PageRequest.of(0, 3), member1.getUserId());
+        long smallPageStatements = QueryCountInspector.stop().getCount();
+
+        QueryCountInspector.start();
+        Page<OverviewScheduleResponse> largePage = travelScheduleRepository.findEnableEditTravelSchedulesByUserId(PageRequest.of(0, 12), member1.getUserId());
+        long largePageStatements = QueryCountInspector.stop().getCount();
+
+        // then
+        assertThat(smallPage.getContent().size()).isEqualTo(3);
+        assertThat(largePage.getContent().size()).isEqualTo(12);
+        assertThat(largePage.getContent()).allMatch(schedule -> member2.getNickname().equals(schedule.getAuthor()));
+
+        // 목록 조회 1 + 전체 개수 조회 1
+        assertThat(smallPageStatements).isEqualTo(2);
+        assertThat(largePageStatements).isEqualTo(smallPageStatements);
+    }
+
     @Test
     @DisplayName("일정 삭제")
     void deleteById(){
@@ -405,4 +464,39 @@ public class TravelScheduleRepositoryTest extends ScheduleTest {
     }
 
 
+    @Test
+    @DisplayName("일정 여러 건 벌크 삭제")
+    void deleteAllByScheduleIdIn(){
+        // given
+        travelAttendeeRepository.save(createTravelAttendee(0L, member1, schedule1, AttendeeRole.AUTHOR, AttendeePermission.ALL));
+        travelAttendeeRepository.save(createTravelAttendee(0L, member2, schedule1, AttendeeRole.GUEST, AttendeePermission.READ));
+        travelAttendeeRepository.save(createTravelAttendee(0L, member1, schedule2, AttendeeRole.AUTHOR, AttendeePermission.ALL));
+        travelAttendeeRepository.save(createTravelAttendee(0L, member2, schedule3, AttendeeRole.AUTHOR, AttendeePermission.ALL));
+
+        travelRouteRepository.save(createTravelRoute(schedule1, travelPlace, 1));
+        travelRouteRepository.save(createTravelRoute(schedule2, travelPlace, 1));
+        travelRouteRepository.save(createTravelRoute(schedule3, travelPlace, 1));
+
+        List<Long> scheduleIds = List.of(schedule1.getScheduleId(), schedule2.getScheduleId());
+
+        // when
+        int deletedRoutes = travelRouteRepository.deleteAllByScheduleIdIn(scheduleIds);
+        int deletedAttendees = travelAttendeeRepository.deleteAllByScheduleIdIn(scheduleIds);
+        int deletedSchedules = travelScheduleRepository.deleteAllByScheduleIdIn(scheduleIds);
+
+        // then
+        assertThat(deletedRoutes).isEqualTo(2);
+        assertThat(deletedAttendees).isEqualTo(3);
+        assertThat(deletedSchedules).isEqualTo(2);
+
+        assertThat(travelScheduleRepository.existsById(schedule1.getScheduleId())).isFalse();
+        assertThat(travelScheduleRepository.existsById(schedule2.getScheduleId())).isFalse();
+        assertThat(travelAttendeeRepository.findAllByTravelSchedule_ScheduleId(schedule1.getScheduleId())).isEmpty();
+
+        // 다른 일정은 삭제 안됐는지 확인
+        assertThat(travelScheduleRepository.existsById(schedule3.getScheduleId())).isTrue();
+        assertThat(travelAttendeeRepository.findAllByTravelSchedule_ScheduleId(schedule3.getScheduleId())).hasSize(1);
+        assertThat(travelRouteRepository.findAllByTravelSchedule_ScheduleId(PageUtils.defaultPageable(1), schedule3.getScheduleId()).getTotalElements()).isEqualTo(1);
+    }
+
 }
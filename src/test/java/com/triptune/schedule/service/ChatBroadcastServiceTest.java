@@ -0,0 +1,117 @@
+package com.triptune.schedule.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.triptune.schedule.ScheduleTest;
+import com.triptune.schedule.dto.response.ChatResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChatBroadcastServiceTest extends ScheduleTest {
+
+    @InjectMocks
+    private ChatBroadcastService chatBroadcastService;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ChatTailCache chatTailCache;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private ChatResponse chatResponse;
+
+    @BeforeEach
+    void setUp(){
+        chatResponse = ChatResponse.builder()
+                .messageId("message1")
+                .nickname("member1")
+                .profileUrl("member1.jpg")
+                .message("hello")
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("simple 브로커 사용 시 현재 노드 구독자에게 채팅 전달")
+    void broadcast_simple(){
+        // given
+        ReflectionTestUtils.setField(chatBroadcastService, "brokerType", "simple");
+
+        // when
+        chatBroadcastService.broadcast(1L, chatResponse);
+
+        // then
+        verify(messagingTemplate).convertAndSend("/sub/schedules/1/chats", chatResponse);
+        verify(redisTemplate, never()).convertAndSend(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("redis 브로커 사용 시 Redis 채널로 채팅 발행")
+    void broadcast_redis(){
+        // given
+        ReflectionTestUtils.setField(chatBroadcastService, "brokerType", "redis");
+
+        // when
+        chatBroadcastService.broadcast(1L, chatResponse);
+
+        // then
+        verify(redisTemplate).convertAndSend(eq(ChatBroadcastService.CHAT_CHANNEL), anyString());
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Redis 채널로 발행된 채팅을 수신해 현재 노드 구독자에게 전달")
+    void broadcast_redisFanOut(){
+        // given
+        ReflectionTestUtils.setField(chatBroadcastService, "brokerType", "redis");
+        RedisChatSubscriber subscriber = new RedisChatSubscriber(chatBroadcastService, chatTailCache, objectMapper);
+
+        chatBroadcastService.broadcast(1L, chatResponse);
+
+        ArgumentCaptor<String> payloadCaptor = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(ChatBroadcastService.CHAT_CHANNEL), payloadCaptor.capture());
+
+        // when
+        subscriber.onMessage(new DefaultMessage(
+                ChatBroadcastService.CHAT_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                payloadCaptor.getValue().getBytes(StandardCharsets.UTF_8)
+        ), null);
+
+        // then
+        ArgumentCaptor<ChatResponse> responseCaptor = ArgumentCaptor.forClass(ChatResponse.class);
+        verify(messagingTemplate).convertAndSend(eq("/sub/schedules/1/chats"), responseCaptor.capture());
+        assertThat(responseCaptor.getValue().getMessageId()).isEqualTo(chatResponse.getMessageId());
+        assertThat(responseCaptor.getValue().getNickname()).isEqualTo(chatResponse.getNickname());
+        assertThat(responseCaptor.getValue().getMessage()).isEqualTo(chatResponse.getMessage());
+        verify(chatTailCache).evictLocal(1L);
+    }
+
+}
@@ -0,0 +1,219 @@
+package com.triptune.schedule.service;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.triptune.schedule.entity.ChatMessage;
+import com.triptune.schedule.repository.ChatMessageRepository;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageWriterTest {
+
+    @InjectMocks
+    private ChatMessageWriter chatMessageWriter;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+
+    @Test
+    @DisplayName("채팅 메시지 일괄 저장")
+    void flush(){
+        // given
+        List<ChatMessage> batch = List.of(createMessage("message1"), createMessage("message2"));
+
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(ChatMessage.class))).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+
+        // when
+        List<ChatMessage> response = chatMessageWriter.flush(batch);
+
+        // then
+        assertThat(response).isEmpty();
+        verify(mongoTemplate).bulkOps(BulkOperations.BulkMode.UNORDERED, ChatMessage.class);
+        verify(bulkOperations).execute();
+    }
+
+    @Test
+    @DisplayName("채팅 메시지 일괄 저장 시 중복 키 오류는 저장 성공으로 처리하고 나머지 실패만 반환")
+    void flush_bulkOperationException(){
+        // given
+        ChatMessage message1 = createMessage("message1");
+        ChatMessage message2 = createMessage("message2");
+        ChatMessage message3 = createMessage("message3");
+
+        BulkOperationException exception = mock(BulkOperationException.class);
+        when(exception.getErrors()).thenReturn(List.of(
+                new BulkWriteError(11000, "duplicate key", new BsonDocument(), 0),
+                new BulkWriteError(91, "shutdown in progress", new BsonDocument(), 2)
+        ));
+
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(ChatMessage.class))).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenThrow(exception);
+
+        // when
+        List<ChatMessage> response = chatMessageWriter.flush(List.of(message1, message2, message3));
+
+        // then
+        assertThat(response).containsExactly(message3);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 찬 경우 호출 스레드에서 직접 저장")
+    void write_queueFull(){
+        // given
+        BlockingQueue<ChatMessage> queue = new LinkedBlockingQueue<>(1);
+        queue.offer(createMessage("message1"));
+        ReflectionTestUtils.setField(chatMessageWriter, "queue", queue);
+
+        ChatMessage message = createMessage("message2");
+
+        // when
+        chatMessageWriter.write(message);
+
+        // then
+        assertThat(queue).hasSize(1);
+        verify(chatMessageRepository).save(message);
+    }
+
+    @Test
+    @DisplayName("큐에 여유가 있는 경우 큐에 적재")
+    void write(){
+        // given
+        BlockingQueue<ChatMessage> queue = new LinkedBlockingQueue<>(10);
+        ReflectionTestUtils.setField(chatMessageWriter, "queue", queue);
+
+        ChatMessage message = createMessage("message1");
+
+        // when
+        chatMessageWriter.write(message);
+
+        // then
+        assertThat(queue).containsExactly(message);
+        verify(chatMessageRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("삭제된 일정의 메시지를 큐에서 제거하고 이후 메시지는 저장하지 않음")
+    void discard(){
+        // given
+        ReflectionTestUtils.setField(chatMessageWriter, "discardRetentionSeconds", 60L);
+        BlockingQueue<ChatMessage> queue = new LinkedBlockingQueue<>(10);
+        ReflectionTestUtils.setField(chatMessageWriter, "queue", queue);
+
+        ChatMessage deletedMessage = createMessage("message1", 1L);
+        ChatMessage message = createMessage("message2", 2L);
+        queue.offer(deletedMessage);
+        queue.offer(message);
+
+        // when
+        chatMessageWriter.discard(List.of(1L));
+        chatMessageWriter.write(createMessage("message3", 1L));
+
+        // then
+        assertThat(queue).containsExactly(message);
+        verify(chatMessageRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("일괄 저장 시 삭제된 일정의 메시지는 제외")
+    void flush_discardedSchedule(){
+        // given
+        ReflectionTestUtils.setField(chatMessageWriter, "discardRetentionSeconds", 60L);
+        ReflectionTestUtils.setField(chatMessageWriter, "queue", new LinkedBlockingQueue<>(10));
+        chatMessageWriter.discard(List.of(1L));
+
+        ChatMessage message = createMessage("message2", 2L);
+
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(ChatMessage.class))).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+
+        // when
+        List<ChatMessage> response = chatMessageWriter.flush(List.of(createMessage("message1", 1L), message));
+
+        // then
+        assertThat(response).isEmpty();
+        verify(bulkOperations).insert(List.of(message));
+    }
+
+    @Test
+    @DisplayName("일괄 저장 시 모든 메시지가 삭제된 일정의 메시지면 저장하지 않음")
+    void flush_allDiscarded(){
+        // given
+        ReflectionTestUtils.setField(chatMessageWriter, "discardRetentionSeconds", 60L);
+        ReflectionTestUtils.setField(chatMessageWriter, "queue", new LinkedBlockingQueue<>(10));
+        chatMessageWriter.discard(List.of(1L));
+
+        // when
+        List<ChatMessage> response = chatMessageWriter.flush(List.of(createMessage("message1", 1L)));
+
+        // then
+        assertThat(response).isEmpty();
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("일괄 저장 중 예상하지 못한 예외가 발생해도 writer 스레드가 종료되지 않고 재시도")
+    void run_runtimeException() throws Exception {
+        // given
+        ReflectionTestUtils.setField(chatMessageWriter, "queueCapacity", 10);
+        ReflectionTestUtils.setField(chatMessageWriter, "batchSize", 10);
+        ReflectionTestUtils.setField(chatMessageWriter, "flushIntervalMillis", 10L);
+        ReflectionTestUtils.setField(chatMessageWriter, "offerTimeoutMillis", 10L);
+
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(ChatMessage.class)))
+                .thenThrow(new IllegalStateException("mapping error"))
+                .thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+
+        chatMessageWriter.start();
+
+        // when
+        chatMessageWriter.write(createMessage("message1"));
+
+        // then
+        verify(bulkOperations, timeout(1000)).execute();
+        chatMessageWriter.shutdown();
+        verify(mongoTemplate, times(2)).bulkOps(BulkOperations.BulkMode.UNORDERED, ChatMessage.class);
+    }
+
+    private ChatMessage createMessage(String messageId){
+        return createMessage(messageId, 1L);
+    }
+
+    private ChatMessage createMessage(String messageId, Long scheduleId){
+        return ChatMessage.builder()
+                .messageId(messageId)
+                .scheduleId(scheduleId)
+                .memberId(1L)
+                .message("hello")
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+}
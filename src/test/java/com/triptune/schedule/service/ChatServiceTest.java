@@ -4,14 +4,19 @@ import com.triptune.member.dto.response.MemberProfileResponse;
 import com.triptune.member.entity.Member;
 import com.triptune.profile.entity.ProfileImage;
 import com.triptune.member.repository.MemberRepository;
+import com.triptune.member.service.MemberProfileCacheService;
 import com.triptune.schedule.ScheduleTest;
+import com.triptune.schedule.dto.ChatPrincipal;
+import com.triptune.schedule.dto.ChatTailDTO;
 import com.triptune.schedule.dto.request.ChatMessageRequest;
+import com.triptune.schedule.dto.response.ChatHistoryResponse;
 import com.triptune.schedule.dto.response.ChatResponse;
 import com.triptune.schedule.entity.ChatMessage;
 import com.triptune.schedule.entity.TravelAttendee;
 import com.triptune.schedule.entity.TravelSchedule;
 import com.triptune.schedule.enumclass.AttendeePermission;
 import com.triptune.schedule.enumclass.AttendeeRole;
+import com.triptune.schedule.exception.DataNotFoundChatException;
 import com.triptune.schedule.exception.ForbiddenChatException;
 import com.triptune.schedule.repository.ChatMessageRepository;
 import com.triptune.schedule.repository.TravelAttendeeRepository;
@@ -26,13 +31,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -53,6 +63,15 @@ class ChatServiceTest extends ScheduleTest {
     @Mock
     private TravelScheduleRepository travelScheduleRepository;
 
+    @Mock
+    private ChatMessageWriter chatMessageWriter;
+
+    @Mock
+    private ChatTailCache chatTailCache;
+
+    @Mock
+    private MemberProfileCacheService memberProfileCacheService;
+
 
     private TravelSchedule schedule;
     private Member member1;
@@ -85,7 +104,7 @@ class ChatServiceTest extends ScheduleTest {
         ChatMessage message5 = createChatMessage("id5", schedule.getScheduleId(), member3, "hello5");
         ChatMessage message6 = createChatMessage("id6", schedule.getScheduleId(), member1, "hello6");
 
-        List<ChatMessage> messageList = List.of(message1, message2, message3, message4, message5, message6);
+        List<ChatMessage> messageList = List.of(message6, message5, message4, message3, message2, message1);
         Page<ChatMessage> chatPage = PageUtils.createPage(messageList, pageable, messageList.size());
 
         List<MemberProfileResponse> memberProfileResponses = List.of(
@@ -95,7 +114,7 @@ class ChatServiceTest extends ScheduleTest {
         );
 
         when(chatMessageRepository.findAllByScheduleId(pageable, schedule.getScheduleId())).thenReturn(chatPage);
-        when(memberRepository.findMembersProfileByMemberId(any())).thenReturn(memberProfileResponses);
+        when(memberProfileCacheService.getMemberProfiles(any())).thenReturn(createMemberProfileMap(memberProfileResponses));
 
 
         // when
@@ -127,9 +146,9 @@ class ChatServiceTest extends ScheduleTest {
         Pageable pageable = PageUtils.chatPageable(1);
 
         List<ChatMessage> messageList = List.of(
-                createChatMessage("id1", schedule.getScheduleId(), member1, "hello1"),
+                createChatMessage("id3", schedule.getScheduleId(), member1, "hello3"),
                 createChatMessage("id2", schedule.getScheduleId(), member1, "hello2"),
-                createChatMessage("id3", schedule.getScheduleId(), member1, "hello3")
+                createChatMessage("id1", schedule.getScheduleId(), member1, "hello1")
         );
 
         Page<ChatMessage> chatPage = PageUtils.createPage(messageList, pageable, messageList.size());
@@ -140,7 +159,7 @@ class ChatServiceTest extends ScheduleTest {
         );
 
         when(chatMessageRepository.findAllByScheduleId(pageable, schedule.getScheduleId())).thenReturn(chatPage);
-        when(memberRepository.findMembersProfileByMemberId(any())).thenReturn(memberProfileResponses);
+        when(memberProfileCacheService.getMemberProfiles(any())).thenReturn(createMemberProfileMap(memberProfileResponses));
 
         // when
         Page<ChatResponse> response = chatService.getChatMessages(1, schedule.getScheduleId());
@@ -163,7 +182,7 @@ class ChatServiceTest extends ScheduleTest {
         ChatMessage message2 = createChatMessage("id4", schedule.getScheduleId(), member2, "hello2");
         ChatMessage message3 = createChatMessage("id5", schedule.getScheduleId(), member3, "hello3");
 
-        List<ChatMessage> messageList = List.of(message1, message2, message3);
+        List<ChatMessage> messageList = List.of(message3, message2, message1);
         Page<ChatMessage> chatPage = PageUtils.createPage(messageList, pageable, messageList.size());
 
         List<MemberProfileResponse> memberProfileResponses = List.of(
@@ -173,7 +192,7 @@ class ChatServiceTest extends ScheduleTest {
         );
 
         when(chatMessageRepository.findAllByScheduleId(pageable, schedule.getScheduleId())).thenReturn(chatPage);
-        when(memberRepository.findMembersProfileByMemberId(any())).thenReturn(memberProfileResponses);
+        when(memberProfileCacheService.getMemberProfiles(any())).thenReturn(createMemberProfileMap(memberProfileResponses));
 
 
         // when
@@ -192,6 +211,70 @@ class ChatServiceTest extends ScheduleTest {
 
     }
 
+    @Test
+    @DisplayName("채팅 메시지 조회 시 최근 채팅 캐시에서 첫 페이지 조회 후 프로필은 프로필 캐시에서 조회")
+    void getChatMessages_tailCache(){
+        // given
+        List<ChatMessage> chats = List.of(
+                createChatMessage("id1", schedule.getScheduleId(), member1, "hello1"),
+                createChatMessage("id2", schedule.getScheduleId(), member2, "hello2")
+        );
+
+        List<MemberProfileResponse> memberProfileResponses = List.of(
+                createMemberProfileResponse(1L, "member1"),
+                createMemberProfileResponse(2L, "changedNickname")
+        );
+
+        when(chatTailCache.getTail(schedule.getScheduleId())).thenReturn(Optional.of(ChatTailDTO.of(chats, 25)));
+        when(memberProfileCacheService.getMemberProfiles(Set.of(1L, 2L))).thenReturn(createMemberProfileMap(memberProfileResponses));
+
+        // when
+        Page<ChatResponse> response = chatService.getChatMessages(1, schedule.getScheduleId());
+
+        // then
+        assertThat(response.getTotalElements()).isEqualTo(25);
+        assertThat(response.getContent().get(0).getMessage()).isEqualTo("hello1");
+        assertThat(response.getContent().get(1).getNickname()).isEqualTo("changedNickname");
+        verify(chatMessageRepository, never()).findAllByScheduleId(any(Pageable.class), anyLong());
+    }
+
+    @Test
+    @DisplayName("채팅 메시지 조회 시 최근 채팅 캐시가 없어 DB 조회 후 캐시 저장")
+    void getChatMessages_warmTailCache(){
+        // given
+        Pageable pageable = PageUtils.chatPageable(1);
+
+        ChatMessage message1 = createChatMessage("id1", schedule.getScheduleId(), member1, "hello1");
+        List<ChatMessage> messageList = List.of(message1);
+        Page<ChatMessage> chatPage = PageUtils.createPage(messageList, pageable, messageList.size());
+
+        when(chatMessageRepository.findAllByScheduleId(pageable, schedule.getScheduleId())).thenReturn(chatPage);
+        when(memberProfileCacheService.getMemberProfiles(any())).thenReturn(createMemberProfileMap(List.of(createMemberProfileResponse(1L, "member1"))));
+
+        // when
+        chatService.getChatMessages(1, schedule.getScheduleId());
+
+        // then
+        verify(chatTailCache).warm(eq(schedule.getScheduleId()), anyList(), eq(1L));
+    }
+
+    @Test
+    @DisplayName("채팅 메시지 조회 시 첫 페이지가 아니면 최근 채팅 캐시 사용 X")
+    void getChatMessages_notFirstPage(){
+        // given
+        Pageable pageable = PageUtils.chatPageable(2);
+        Page<ChatMessage> chatPage = PageUtils.createPage(new ArrayList<>(), pageable, 0);
+
+        when(chatMessageRepository.findAllByScheduleId(pageable, schedule.getScheduleId())).thenReturn(chatPage);
+
+        // when
+        chatService.getChatMessages(2, schedule.getScheduleId());
+
+        // then
+        verify(chatTailCache, never()).getTail(anyLong());
+        verify(chatTailCache, never()).warm(anyLong(), anyList(), anyLong());
+    }
+
     @Test
     @DisplayName("채팅 메시지 조회 시 메시지가 없는 경우")
     void getChatMessagesNotMessages(){
@@ -212,6 +295,70 @@ class ChatServiceTest extends ScheduleTest {
     }
 
 
+    @Test
+    @DisplayName("기준 메시지 이전 채팅 조회")
+    void getChatMessagesBefore(){
+        // given
+        ChatMessage message1 = createChatMessage("id1", schedule.getScheduleId(), member1, "hello1");
+        ChatMessage message2 = createChatMessage("id2", schedule.getScheduleId(), member2, "hello2");
+
+        Slice<ChatMessage> chatSlice = new SliceImpl<>(List.of(message1, message2), PageRequest.of(0, PageUtils.CHAT_SIZE), true);
+
+        List<MemberProfileResponse> memberProfileResponses = List.of(
+                createMemberProfileResponse(1L, "member1"),
+                createMemberProfileResponse(2L, "member2")
+        );
+
+        when(chatMessageRepository.findChatMessagesBefore(schedule.getScheduleId(), "id3", PageUtils.CHAT_SIZE)).thenReturn(chatSlice);
+        when(memberProfileCacheService.getMemberProfiles(any())).thenReturn(createMemberProfileMap(memberProfileResponses));
+
+        // when
+        ChatHistoryResponse response = chatService.getChatMessagesBefore(schedule.getScheduleId(), "id3");
+
+        // then
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getNextCursor()).isEqualTo(message1.getMessageId());
+        assertThat(response.getContent().get(0).getMessage()).isEqualTo(message1.getMessage());
+        assertThat(response.getContent().get(1).getNickname()).isEqualTo(member2.getNickname());
+        assertThat(response.getContent().get(1).getMessage()).isEqualTo(message2.getMessage());
+    }
+
+    @Test
+    @DisplayName("기준 메시지 이전 채팅 조회 시 더 이상 메시지가 없는 경우")
+    void getChatMessagesBefore_noNext(){
+        // given
+        Slice<ChatMessage> chatSlice = new SliceImpl<>(new ArrayList<>(), PageRequest.of(0, PageUtils.CHAT_SIZE), false);
+
+        when(chatMessageRepository.findChatMessagesBefore(schedule.getScheduleId(), "id1", PageUtils.CHAT_SIZE)).thenReturn(chatSlice);
+
+        // when
+        ChatHistoryResponse response = chatService.getChatMessagesBefore(schedule.getScheduleId(), "id1");
+
+        // then
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+        assertThat(response.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기준 메시지 없이 이전 채팅 조회 시 최근 채팅 캐시 사용")
+    void getChatMessagesBefore_tailCache(){
+        // given
+        List<ChatMessage> chats = List.of(createChatMessage("id1", schedule.getScheduleId(), member1, "hello1"));
+
+        when(chatTailCache.getTail(schedule.getScheduleId())).thenReturn(Optional.of(ChatTailDTO.of(chats, 30)));
+        when(memberProfileCacheService.getMemberProfiles(Set.of(1L))).thenReturn(createMemberProfileMap(List.of(createMemberProfileResponse(1L, "member1"))));
+
+        // when
+        ChatHistoryResponse response = chatService.getChatMessagesBefore(schedule.getScheduleId(), null);
+
+        // then
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getNextCursor()).isEqualTo("id1");
+        verify(chatMessageRepository, never()).findChatMessagesBefore(anyLong(), any(), anyInt());
+    }
+
+
     @Test
     @DisplayName("채팅 메시지에서 사용자 인덱스 추출")
     void extractMemberId(){
@@ -258,8 +405,7 @@ class ChatServiceTest extends ScheduleTest {
                 createMemberProfileResponse(2L, "member2")
         );
 
-        when(memberRepository.findMembersProfileByMemberId(request))
-                .thenReturn(memberProfileResponses);
+        when(memberProfileCacheService.getMemberProfiles(request)).thenReturn(createMemberProfileMap(memberProfileResponses));
 
         // when
         Map<Long, MemberProfileResponse> response = chatService.getMemberProfiles(request);
@@ -278,8 +424,7 @@ class ChatServiceTest extends ScheduleTest {
         // given
         Set<Long> request = new HashSet<>();
 
-        when(memberRepository.findMembersProfileByMemberId(request))
-                .thenReturn(new ArrayList<>());
+        when(memberProfileCacheService.getMemberProfiles(request)).thenReturn(new HashMap<>());
 
         // when
         Map<Long, MemberProfileResponse> response = chatService.getMemberProfiles(request);
@@ -303,9 +448,10 @@ class ChatServiceTest extends ScheduleTest {
         memberProfileMap.put(1L, createMemberProfileResponse(1L, "member1"));
         memberProfileMap.put(2L, createMemberProfileResponse(2L, "member2"));
 
+        when(memberProfileCacheService.getMemberProfiles(Set.of(1L, 2L))).thenReturn(memberProfileMap);
 
         // when
-        List<ChatResponse> response = chatService.convertChatResponse(chatMessages, memberProfileMap);
+        List<ChatResponse> response = chatService.convertChatResponse(chatMessages);
 
         // then
         assertThat(response.size()).isEqualTo(3);
@@ -319,25 +465,106 @@ class ChatServiceTest extends ScheduleTest {
 
 
     @Test
-    @DisplayName("채팅 메시지 저장")
-    void sendChatMessage(){
+    @DisplayName("WebSocket 세션 사용자 정보 생성")
+    void createChatPrincipal(){
         // given
-        ChatMessageRequest request = createChatMessageRequest(schedule.getScheduleId(), member1.getNickname(), "hello1");
-        TravelAttendee attendee = createTravelAttendee(1L, member1, schedule, AttendeeRole.AUTHOR, AttendeePermission.ALL);
+        when(memberRepository.findByUserId(anyString())).thenReturn(Optional.of(member1));
+
+        // when
+        ChatPrincipal response = chatService.createChatPrincipal(member1.getUserId());
+
+        // then
+        assertThat(response.getMemberId()).isEqualTo(member1.getMemberId());
+        assertThat(response.getName()).isEqualTo(member1.getUserId());
+        assertThat(response.getNickname()).isEqualTo(member1.getNickname());
+        assertThat(response.getProfileUrl()).isEqualTo(member1.getProfileImage().getS3ObjectUrl());
+    }
+
+    @Test
+    @DisplayName("WebSocket 세션 사용자 정보 생성 시 사용자 데이터가 없어 예외 발생")
+    void createChatPrincipal_dataNotFoundChatException(){
+        // given
+        when(memberRepository.findByUserId(anyString())).thenReturn(Optional.empty());
+
+        // when
+        DataNotFoundChatException fail = assertThrows(DataNotFoundChatException.class, () -> chatService.createChatPrincipal("notMember"));
+
+        // then
+        assertThat(fail.getHttpStatus()).isEqualTo(ErrorCode.MEMBER_NOT_FOUND.getStatus());
+        assertThat(fail.getMessage()).isEqualTo(ErrorCode.MEMBER_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("채팅 구독 시 참석자 권한 조회")
+    void getAttendeePermission(){
+        // given
+        TravelAttendee attendee = createTravelAttendee(1L, member1, schedule, AttendeeRole.GUEST, AttendeePermission.CHAT);
 
         when(travelScheduleRepository.existsById(anyLong())).thenReturn(true);
-        when(memberRepository.findByNickname(anyString())).thenReturn(Optional.of(member1));
-        when(travelAttendeeRepository.findByTravelSchedule_ScheduleIdAndMember_UserId(anyLong(), anyString())).thenReturn(Optional.of(attendee));
-        when(chatMessageRepository.save(any())).thenReturn(createChatMessage("message1", request.getScheduleId(), member1, request.getMessage()));
+        when(travelAttendeeRepository.findByTravelSchedule_ScheduleIdAndMember_UserId(anyLong(), anyString()))
+                .thenReturn(Optional.of(attendee));
 
+        // when
+        AttendeePermission response = chatService.getAttendeePermission(schedule.getScheduleId(), member1.getUserId());
+
+        // then
+        assertThat(response).isEqualTo(AttendeePermission.CHAT);
+    }
+
+    @Test
+    @DisplayName("채팅 구독 시 일정 데이터가 없어 예외 발생")
+    void getAttendeePermission_dataNotFoundChatException(){
+        // given
+        when(travelScheduleRepository.existsById(anyLong())).thenReturn(false);
 
         // when
-        ChatResponse response = chatService.sendChatMessage(request);
+        DataNotFoundChatException fail = assertThrows(DataNotFoundChatException.class,
+                () -> chatService.getAttendeePermission(schedule.getScheduleId(), member1.getUserId()));
+
+        // then
+        assertThat(fail.getHttpStatus()).isEqualTo(ErrorCode.SCHEDULE_NOT_FOUND.getStatus());
+        assertThat(fail.getMessage()).isEqualTo(ErrorCode.SCHEDULE_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("채팅 구독 시 참석자가 아니라 예외 발생")
+    void getAttendeePermission_forbiddenChatException(){
+        // given
+        when(travelScheduleRepository.existsById(anyLong())).thenReturn(true);
+        when(travelAttendeeRepository.findByTravelSchedule_ScheduleIdAndMember_UserId(anyLong(), anyString()))
+                .thenReturn(Optional.empty());
+
+        // when
+        ForbiddenChatException fail = assertThrows(ForbiddenChatException.class,
+                () -> chatService.getAttendeePermission(schedule.getScheduleId(), member1.getUserId()));
+
+        // then
+        assertThat(fail.getHttpStatus()).isEqualTo(ErrorCode.FORBIDDEN_ACCESS_SCHEDULE.getStatus());
+        assertThat(fail.getMessage()).isEqualTo(ErrorCode.FORBIDDEN_ACCESS_SCHEDULE.getMessage());
+    }
+
+
+    @Test
+    @DisplayName("채팅 메시지 저장")
+    void sendChatMessage(){
+        // given
+        ChatMessageRequest request = createChatMessageRequest(schedule.getScheduleId(), member1.getNickname(), "hello1");
+        ChatPrincipal principal = ChatPrincipal.from(member1);
+
+        // when
+        ChatResponse response = chatService.sendChatMessage(principal, AttendeePermission.ALL, request);
 
         // then
         assertThat(response.getMessageId()).isNotEmpty();
-        assertThat(response.getNickname()).isEqualTo(request.getNickname());
+        assertThat(response.getNickname()).isEqualTo(member1.getNickname());
+        assertThat(response.getProfileUrl()).isEqualTo(member1.getProfileImage().getS3ObjectUrl());
         assertThat(response.getMessage()).isEqualTo(request.getMessage());
+        assertThat(response.getTimestamp()).isNotNull();
+        verify(chatMessageWriter).write(any(ChatMessage.class));
+        verify(chatTailCache).append(eq(schedule.getScheduleId()), any(ChatMessage.class));
+        verify(chatMessageRepository, never()).save(any());
+        verify(memberRepository, never()).findByNickname(anyString());
+        verify(travelAttendeeRepository, never()).findByTravelSchedule_ScheduleIdAndMember_UserId(anyLong(), anyString());
     }
 
     @Test
@@ -345,15 +572,10 @@ class ChatServiceTest extends ScheduleTest {
     void sendChatMessage_ForbiddenChatException1(){
         // given
         ChatMessageRequest request = createChatMessageRequest(schedule.getScheduleId(), member1.getNickname(), "hello1");
-        TravelAttendee attendee = createTravelAttendee(1L, member1, schedule, AttendeeRole.GUEST, AttendeePermission.EDIT);
-
-        when(travelScheduleRepository.existsById(anyLong())).thenReturn(true);
-        when(memberRepository.findByNickname(anyString())).thenReturn(Optional.of(member1));
-        when(travelAttendeeRepository.findByTravelSchedule_ScheduleIdAndMember_UserId(anyLong(), anyString()))
-                .thenReturn(Optional.of(attendee));
+        ChatPrincipal principal = ChatPrincipal.from(member1);
 
         // when
-        ForbiddenChatException fail = assertThrows(ForbiddenChatException.class, () -> chatService.sendChatMessage(request));
+        ForbiddenChatException fail = assertThrows(ForbiddenChatException.class, () -> chatService.sendChatMessage(principal, AttendeePermission.EDIT, request));
 
         // then
         assertThat(fail.getHttpStatus()).isEqualTo(ErrorCode.FORBIDDEN_CHAT_ATTENDEE.getStatus());
@@ -365,20 +587,30 @@ class ChatServiceTest extends ScheduleTest {
     void sendChatMessage_ForbiddenChatException2(){
         // given
         ChatMessageRequest request = createChatMessageRequest(schedule.getScheduleId(), member1.getNickname(), "hello1");
-        TravelAttendee attendee = createTravelAttendee(1L, member1, schedule, AttendeeRole.GUEST, AttendeePermission.READ);
-
-        when(travelScheduleRepository.existsById(anyLong())).thenReturn(true);
-        when(memberRepository.findByNickname(anyString())).thenReturn(Optional.of(member1));
-        when(travelAttendeeRepository.findByTravelSchedule_ScheduleIdAndMember_UserId(anyLong(), anyString()))
-                .thenReturn(Optional.of(attendee));
-
+        ChatPrincipal principal = ChatPrincipal.from(member1);
 
         // when
-        ForbiddenChatException fail = assertThrows(ForbiddenChatException.class, () -> chatService.sendChatMessage(request));
+        ForbiddenChatException fail = assertThrows(ForbiddenChatException.class, () -> chatService.sendChatMessage(principal, AttendeePermission.READ, request));
+
         // then
         assertThat(fail.getHttpStatus()).isEqualTo(ErrorCode.FORBIDDEN_CHAT_ATTENDEE.getStatus());
         assertThat(fail.getMessage()).isEqualTo(ErrorCode.FORBIDDEN_CHAT_ATTENDEE.getMessage());
     }
 
+    @Test
+    @DisplayName("채팅 메시지 저장 시 구독하지 않은 일정이라 예외 발생")
+    void sendChatMessage_notSubscribed(){
+        // given
+        ChatMessageRequest request = createChatMessageRequest(schedule.getScheduleId(), member1.getNickname(), "hello1");
+        ChatPrincipal principal = ChatPrincipal.from(member1);
+
+        // when
+        ForbiddenChatException fail = assertThrows(ForbiddenChatException.class, () -> chatService.sendChatMessage(principal, null, request));
+
+        // then
+        assertThat(fail.getHttpStatus()).isEqualTo(ErrorCode.FORBIDDEN_ACCESS_SCHEDULE.getStatus());
+        assertThat(fail.getMessage()).isEqualTo(ErrorCode.FORBIDDEN_ACCESS_SCHEDULE.getMessage());
+    }
+
 
-}
\ No newline at end of file
+}
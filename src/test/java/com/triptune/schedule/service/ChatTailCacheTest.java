@@ -0,0 +1,236 @@
+package com.triptune.schedule.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.triptune.global.util.PageUtils;
+import com.triptune.schedule.ScheduleTest;
+import com.triptune.schedule.dto.ChatTailDTO;
+import com.triptune.schedule.entity.ChatMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatTailCacheTest extends ScheduleTest {
+
+    @InjectMocks
+    private ChatTailCache chatTailCache;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ListOperations<String, String> listOperations;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @BeforeEach
+    void setUp(){
+        ReflectionTestUtils.setField(chatTailCache, "brokerType", "simple");
+        ReflectionTestUtils.setField(chatTailCache, "maxSchedules", 2);
+        ReflectionTestUtils.setField(chatTailCache, "ttlSeconds", 3600L);
+        ReflectionTestUtils.setField(chatTailCache, "localTtlSeconds", 60L);
+        chatTailCache.init();
+    }
+
+    @Test
+    @DisplayName("캐시 저장 후 로컬 캐시에서 최근 채팅 조회")
+    void getTail_local(){
+        // given
+        chatTailCache.warm(1L, List.of(createTailMessage("id1"), createTailMessage("id2")), 2);
+
+        // when
+        Optional<ChatTailDTO> response = chatTailCache.getTail(1L);
+
+        // then
+        assertThat(response).isPresent();
+        assertThat(response.get().getTotalElements()).isEqualTo(2);
+        assertThat(response.get().getChats()).extracting(ChatMessage::getMessageId).containsExactly("id1", "id2");
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("채팅 추가 시 로컬 캐시는 최근 채팅 개수만 유지")
+    void append_trim(){
+        // given
+        List<ChatMessage> chats = new ArrayList<>();
+        for (int i = 1; i <= PageUtils.CHAT_SIZE; i++){
+            chats.add(createTailMessage("id" + i));
+        }
+
+        chatTailCache.warm(1L, chats, 30);
+
+        // when
+        chatTailCache.append(1L, createTailMessage("new"));
+
+        // then
+        ChatTailDTO response = chatTailCache.getTail(1L).orElseThrow();
+        assertThat(response.getTotalElements()).isEqualTo(31);
+        assertThat(response.getChats().size()).isEqualTo(PageUtils.CHAT_SIZE);
+        assertThat(response.getChats().get(0).getMessageId()).isEqualTo("id2");
+        assertThat(response.getChats().get(PageUtils.CHAT_SIZE - 1).getMessageId()).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("로컬 캐시에 없는 경우 Redis 에서 조회")
+    void getTail_redis() throws Exception {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+        when(valueOperations.get("chat:tail:1:count")).thenReturn("5");
+        when(listOperations.range("chat:tail:1", 0, -1))
+                .thenReturn(List.of(objectMapper.writeValueAsString(createTailMessage("id5"))));
+
+        // when
+        Optional<ChatTailDTO> response = chatTailCache.getTail(1L);
+
+        // then
+        assertThat(response).isPresent();
+        assertThat(response.get().getTotalElements()).isEqualTo(5);
+        assertThat(response.get().getChats().get(0).getMessageId()).isEqualTo("id5");
+    }
+
+    @Test
+    @DisplayName("Redis 에도 캐시가 없는 경우")
+    void getTail_empty(){
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenReturn(null);
+
+        // when
+        Optional<ChatTailDTO> response = chatTailCache.getTail(1L);
+
+        // then
+        assertThat(response).isEmpty();
+    }
+
+    @Test
+    @DisplayName("relay 브로커 사용 시 로컬 캐시 사용 X")
+    void warm_relay(){
+        // given
+        ReflectionTestUtils.setField(chatTailCache, "brokerType", "relay");
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        chatTailCache.warm(1L, List.of(createTailMessage("id1")), 1);
+        chatTailCache.getTail(1L);
+
+        // then
+        verify(valueOperations).get("chat:tail:1:count");
+    }
+
+    @Test
+    @DisplayName("로컬 캐시는 최근 조회한 일정만 유지")
+    void warm_maxSchedules(){
+        // given
+        chatTailCache.warm(1L, List.of(createTailMessage("id1")), 1);
+        chatTailCache.warm(2L, List.of(createTailMessage("id2")), 1);
+        chatTailCache.warm(3L, List.of(createTailMessage("id3")), 1);
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        chatTailCache.getTail(1L);
+
+        // then
+        verify(valueOperations).get("chat:tail:1:count");
+    }
+
+    @Test
+    @DisplayName("캐시 저장 시 DB 에 아직 저장되지 않은 채팅을 이어 붙임")
+    void warm_pendingChats() throws Exception {
+        // given
+        String pending = objectMapper.writeValueAsString(createTailMessage("pending"));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(List.of(pending));
+
+        // when
+        chatTailCache.warm(1L, List.of(createTailMessage("id1"), createTailMessage("id2")), 2);
+
+        // then
+        ChatTailDTO response = chatTailCache.getTail(1L).orElseThrow();
+        assertThat(response.getTotalElements()).isEqualTo(3);
+        assertThat(response.getChats()).extracting(ChatMessage::getMessageId).containsExactly("id1", "id2", "pending");
+    }
+
+    @Test
+    @DisplayName("로컬 캐시가 만료된 경우 Redis 에서 조회")
+    void getTail_localExpired(){
+        // given
+        ReflectionTestUtils.setField(chatTailCache, "localTtlSeconds", 0L);
+        chatTailCache.warm(1L, List.of(createTailMessage("id1")), 1);
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        chatTailCache.getTail(1L);
+
+        // then
+        verify(valueOperations).get("chat:tail:1:count");
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 채팅이 추가된 경우 로컬 캐시만 삭제 후 Redis 에서 조회")
+    void evictLocal(){
+        // given
+        chatTailCache.warm(1L, List.of(createTailMessage("id1")), 1);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        chatTailCache.evictLocal(1L);
+
+        // then
+        chatTailCache.getTail(1L);
+        verify(valueOperations).get("chat:tail:1:count");
+        verify(redisTemplate, never()).delete(anyList());
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 없는 경우 일정 캐시 바로 삭제")
+    void evictAll(){
+        // given
+        chatTailCache.warm(1L, List.of(createTailMessage("id1")), 1);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        chatTailCache.evictAll(List.of(1L, 2L));
+
+        // then
+        verify(redisTemplate).delete(List.of("chat:tail:1", "chat:tail:1:count"));
+        verify(redisTemplate).delete(List.of("chat:tail:2", "chat:tail:2:count"));
+        chatTailCache.getTail(1L);
+        verify(valueOperations).get("chat:tail:1:count");
+    }
+
+    private ChatMessage createTailMessage(String messageId){
+        return ChatMessage.builder()
+                .messageId(messageId)
+                .scheduleId(1L)
+                .memberId(1L)
+                .message("hello")
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+}
@@ -4,9 +4,11 @@ import com.triptune.common.entity.ApiCategory;
 import com.triptune.common.entity.City;
 import com.triptune.common.entity.Country;
 import com.triptune.common.entity.District;
+import com.triptune.member.dto.response.MemberProfileResponse;
 import com.triptune.member.entity.Member;
 import com.triptune.profile.entity.ProfileImage;
 import com.triptune.member.repository.MemberRepository;
+import com.triptune.member.service.MemberProfileCacheService;
 import com.triptune.schedule.ScheduleTest;
 import com.triptune.schedule.dto.AuthorDTO;
 import com.triptune.schedule.dto.request.ScheduleCreateRequest;
@@ -16,14 +18,12 @@ import com.triptune.schedule.dto.response.OverviewScheduleResponse;
 import com.triptune.schedule.dto.response.ScheduleCreateResponse;
 import com.triptune.schedule.dto.response.ScheduleDetailResponse;
 import com.triptune.schedule.dto.response.ScheduleInfoResponse;
-import com.triptune.schedule.entity.ChatMessage;
 import com.triptune.schedule.entity.TravelAttendee;
 import com.triptune.schedule.entity.TravelRoute;
 import com.triptune.schedule.entity.TravelSchedule;
 import com.triptune.schedule.enumclass.AttendeePermission;
 import com.triptune.schedule.enumclass.AttendeeRole;
 import com.triptune.schedule.exception.ForbiddenScheduleException;
-import com.triptune.schedule.repository.ChatMessageRepository;
 import com.triptune.schedule.repository.TravelAttendeeRepository;
 import com.triptune.schedule.repository.TravelRouteRepository;
 import com.triptune.schedule.repository.TravelScheduleRepository;
@@ -47,8 +47,11 @@ import org.springframework.data.domain.Pageable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -78,7 +81,10 @@ public class ScheduleServiceTest extends ScheduleTest {
     private TravelRouteRepository travelRouteRepository;
 
     @Mock
-    private ChatMessageRepository chatMessageRepository;
+    private ScheduleBulkDeleteService scheduleBulkDeleteService;
+
+    @Mock
+    private MemberProfileCacheService memberProfileCacheService;
 
 
     private Country country;
@@ -121,6 +127,11 @@ public class ScheduleServiceTest extends ScheduleTest {
         schedule2.setTravelAttendeeList(new ArrayList<>(List.of(attendee3, attendee4)));
         schedule3.setTravelAttendeeList(new ArrayList<>(List.of(attendee5)));
 
+        lenient().when(memberProfileCacheService.getMemberProfiles(anyCollection())).thenReturn(createMemberProfileMap(List.of(
+                MemberProfileResponse.of(member1.getMemberId(), member1.getNickname(), member1.getProfileImage().getS3ObjectUrl()),
+                MemberProfileResponse.of(member2.getMemberId(), member2.getNickname(), member2.getProfileImage().getS3ObjectUrl())
+        )));
+
     }
 
 
@@ -390,11 +401,10 @@ public class ScheduleServiceTest extends ScheduleTest {
         // given
         Pageable pageable = PageUtils.scheduleModalPageable(1);
 
-        List<TravelSchedule> schedules = new ArrayList<>(List.of(schedule1));
-        Page<TravelSchedule> schedulePage = PageUtils.createPage(schedules, pageable, schedules.size());
+        List<OverviewScheduleResponse> schedules = new ArrayList<>(List.of(OverviewScheduleResponse.from(schedule1, member1.getNickname())));
+        Page<OverviewScheduleResponse> schedulePage = PageUtils.createPage(schedules, pageable, schedules.size());
 
         when(travelScheduleRepository.findEnableEditTravelSchedulesByUserId(any(), anyString())).thenReturn(schedulePage);
-        when(travelAttendeeRepository.findAuthorNicknameByScheduleId(anyLong())).thenReturn(member1.getNickname());
 
         // when
         Page<OverviewScheduleResponse> response = scheduleService.getEnableEditScheduleByUserId(1, member1.getUserId());
@@ -412,7 +422,7 @@ public class ScheduleServiceTest extends ScheduleTest {
         // given
         Pageable pageable = PageUtils.scheduleModalPageable(1);
 
-        Page<TravelSchedule> schedulePage = PageUtils.createPage(new ArrayList<>(), pageable, 0);
+        Page<OverviewScheduleResponse> schedulePage = PageUtils.createPage(new ArrayList<>(), pageable, 0);
 
         when(travelScheduleRepository.findEnableEditTravelSchedulesByUserId(any(), anyString())).thenReturn(schedulePage);
 
@@ -770,12 +780,15 @@ public class ScheduleServiceTest extends ScheduleTest {
     @DisplayName("작성자 조회해서 MemberProfileDTO 생성")
     void createAuthorDTO(){
         // given
+        Map<Long, MemberProfileResponse> authorProfiles = scheduleService.getAuthorProfiles(List.of(schedule1));
+
         // when
-        AuthorDTO response = scheduleService.createAuthorDTO(schedule1);
+        AuthorDTO response = scheduleService.createAuthorDTO(schedule1, authorProfiles);
 
         // then
         assertThat(response.getNickname()).isEqualTo(member1.getNickname());
         assertThat(response.getProfileUrl()).isEqualTo(member1.getProfileImage().getS3ObjectUrl());
+        verify(memberProfileCacheService).getMemberProfiles(Set.of(member1.getMemberId()));
 
     }
 
@@ -788,7 +801,7 @@ public class ScheduleServiceTest extends ScheduleTest {
         }
 
         // when
-        DataNotFoundException fail = assertThrows(DataNotFoundException.class, () -> scheduleService.createAuthorDTO(schedule1));
+        DataNotFoundException fail = assertThrows(DataNotFoundException.class, () -> scheduleService.createAuthorDTO(schedule1, new HashMap<>()));
 
         // then
         assertThat(fail.getHttpStatus()).isEqualTo(ErrorCode.AUTHOR_NOT_FOUND.getStatus());
@@ -1206,33 +1219,14 @@ public class ScheduleServiceTest extends ScheduleTest {
     @DisplayName("일정 삭제")
     void deleteSchedule(){
         // given
-        ChatMessage message1 = createChatMessage("chat1", schedule1.getScheduleId(), member1, "hello1");
-        ChatMessage message2 = createChatMessage("chat2", schedule1.getScheduleId(), member1, "hello2");
-        ChatMessage message3 = createChatMessage("chat3", schedule1.getScheduleId(), member2, "hello3");
-        List<ChatMessage> chatMessages = new ArrayList<>(List.of(message1, message2, message3));
-
         when(travelAttendeeRepository.findByTravelSchedule_ScheduleIdAndMember_UserId(anyLong(), anyString())).thenReturn(Optional.of(attendee1));
-        when(chatMessageRepository.findAllByScheduleId(anyLong())).thenReturn(chatMessages);
 
         // when
         assertDoesNotThrow(() -> scheduleService.deleteSchedule(schedule1.getScheduleId(), member1.getUserId()));
 
         // then
-        verify(chatMessageRepository, times(1)).deleteAllByScheduleId(schedule1.getScheduleId());
-    }
-
-    @Test
-    @DisplayName("일정 삭제 시 채팅 메시지 없는 경우")
-    void deleteScheduleNoChatMessageData(){
-        // given
-        when(travelAttendeeRepository.findByTravelSchedule_ScheduleIdAndMember_UserId(anyLong(), anyString())).thenReturn(Optional.of(attendee1));
-        when(chatMessageRepository.findAllByScheduleId(anyLong())).thenReturn(new ArrayList<>());
-
-        // when
-        assertDoesNotThrow(() -> scheduleService.deleteSchedule(schedule1.getScheduleId(), member1.getUserId()));
-
-        // then
-        verify(chatMessageRepository, times(0)).deleteAllByScheduleId(schedule1.getScheduleId());
+        verify(scheduleBulkDeleteService, times(1)).deleteSchedules(List.of(schedule1.getScheduleId()));
+        verify(travelScheduleRepository, never()).deleteById(anyLong());
     }
 
     @Test
@@ -1248,40 +1242,6 @@ public class ScheduleServiceTest extends ScheduleTest {
         assertThat(fail.getMessage()).isEqualTo(ErrorCode.FORBIDDEN_DELETE_SCHEDULE.getMessage());
     }
 
-    @Test
-    @DisplayName("일정 id를 통해 채팅 메시지 삭제")
-    void deleteChatMessageByScheduleId(){
-        // given
-        ChatMessage message1 = createChatMessage("chat1", schedule1.getScheduleId(), member1, "hello1");
-        ChatMessage message2 = createChatMessage("chat2", schedule1.getScheduleId(), member1, "hello2");
-        ChatMessage message3 = createChatMessage("chat3", schedule1.getScheduleId(), member2, "hello3");
-        List<ChatMessage> chatMessages = new ArrayList<>(List.of(message1, message2, message3));
-
-       when(chatMessageRepository.findAllByScheduleId(anyLong())).thenReturn(chatMessages);
-
-        // when
-        assertDoesNotThrow(() -> scheduleService.deleteChatMessageByScheduleId(schedule1.getScheduleId()));
-
-        // then
-        verify(chatMessageRepository, times(1)).deleteAllByScheduleId(schedule1.getScheduleId());
-
-    }
-
-
-    @Test
-    @DisplayName("일정 id를 통해 채팅 메시지 삭제 시 채팅 메시지 데이터 없는 경우")
-    void deleteChatMessageByScheduleId_noData(){
-        // given
-        when(chatMessageRepository.findAllByScheduleId(anyLong())).thenReturn(new ArrayList<>());
-
-        // when
-        assertDoesNotThrow(() -> scheduleService.deleteChatMessageByScheduleId(schedule1.getScheduleId()));
-
-        // then
-        verify(chatMessageRepository, times(0)).deleteAllByScheduleId(schedule1.getScheduleId());
-
-    }
-
 
     @Test
     @DisplayName("저장된 사용자 정보 조회")
@@ -15,6 +15,8 @@ import com.triptune.travel.enumclass.ThemeType;
 import com.triptune.travel.repository.TravelImageRepository;
 import com.triptune.travel.repository.TravelPlaceRepository;
 import com.triptune.global.enumclass.ErrorCode;
+import com.triptune.global.filter.QueryCountMetricsFilter;
+import com.triptune.global.metrics.MaxQueries;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -76,6 +78,7 @@ public class TravelControllerTest extends TravelTest {
     void setUp() {
         mockMvc = MockMvcBuilders.webAppContextSetup(wac)
                 .addFilter(new CharacterEncodingFilter("UTF-8", true))
+                .addFilter(wac.getBean(QueryCountMetricsFilter.class))
                 .apply(springSecurity())
                 .alwaysDo(print())
                 .build();
@@ -99,6 +102,8 @@ public class TravelControllerTest extends TravelTest {
 
     @Test
     @DisplayName("로그인한 사용자의 현재 위치에 따른 여행지 목록을 제공하며 데이터가 존재하는 경우")
+    // 여행지 목록, 전체 개수, 북마크 여부
+    @MaxQueries(3)
     @WithMockUser("member")
     void getNearByTravelPlaces_loginAndExitsData() throws Exception {
         bookmarkRepository.save(createBookmark(null, member, travelPlace1, LocalDateTime.now()));
@@ -118,6 +123,29 @@ public class TravelControllerTest extends TravelTest {
                 .andExpect(jsonPath("$.data.content[1].bookmarkStatus").value(false));
     }
 
+    @Test
+    @DisplayName("로그인한 사용자의 현재 위치에 따른 여행지 목록 조회 시 페이지 크기만큼 북마크한 여행지가 있어도 쿼리 수 유지")
+    @MaxQueries(3)
+    @WithMockUser("member")
+    void getNearByTravelPlaces_loginAndFullPageOfBookmarks() throws Exception {
+        bookmarkRepository.save(createBookmark(null, member, travelPlace1, LocalDateTime.now()));
+
+        for (int i = 0; i < 6; i++) {
+            TravelPlace travelPlace = travelPlaceRepository.save(createTravelPlace(null, country, city, district1, apiCategory, attractionContentType, 0));
+            bookmarkRepository.save(createBookmark(null, member, travelPlace, LocalDateTime.now()));
+        }
+
+        mockMvc.perform(post("/api/travels")
+                        .param("page", "1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJsonString(createTravelLocationRequest(37.4970465429, 127.0281573537))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(8))
+                .andExpect(jsonPath("$.data.content.length()").value(5))
+                .andExpect(jsonPath("$.data.content[0].bookmarkStatus").value(true))
+                .andExpect(jsonPath("$.data.content[4].bookmarkStatus").value(true));
+    }
+
     @Test
     @DisplayName("익명의 사용자의 현재 위치에 따른 여행지 목록을 제공하며 데이터가 존재하는 경우")
     void getNearByTravelPlaces_anonymousAndExistsData() throws Exception {
@@ -310,6 +338,8 @@ public class TravelControllerTest extends TravelTest {
 
     @Test
     @DisplayName("로그인한 사용자의 여행지 상세정보 조회")
+    // 여행지, 북마크 여부
+    @MaxQueries(2)
     @WithMockUser("member")
     void getTravelDetails_login() throws Exception {
         ApiContentType apiContentType = apiContentTypeRepository.save(createApiContentType(ThemeType.ATTRACTIONS));
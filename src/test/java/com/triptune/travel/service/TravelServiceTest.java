@@ -98,8 +98,7 @@ public class TravelServiceTest extends TravelTest {
         Page<PlaceLocation> mockResponse = PageUtils.createPage(locationList, pageable, locationList.size());
 
         when(travelPlaceRepository.findNearByTravelPlaces(pageable, request, 5)).thenReturn(mockResponse);
-        when(bookmarkRepository.existsByMember_UserIdAndTravelPlace_PlaceId("member", travelPlace1.getPlaceId())).thenReturn(true);
-        when(bookmarkRepository.existsByMember_UserIdAndTravelPlace_PlaceId("member", travelPlace2.getPlaceId())).thenReturn(false);
+        when(bookmarkRepository.findBookmarkedPlaceIds("member", List.of(travelPlace1.getPlaceId(), travelPlace2.getPlaceId()))).thenReturn(List.of(travelPlace1.getPlaceId()));
 
         // when
         Page<PlaceLocation> response = travelService.getNearByTravelPlaces(1, "member", request);
@@ -200,8 +199,7 @@ public class TravelServiceTest extends TravelTest {
         Page<PlaceLocation> mockResponse = PageUtils.createPage(locationList, pageable, locationList.size());
 
         when(travelPlaceRepository.searchTravelPlacesWithLocation(pageable, request)).thenReturn(mockResponse);
-        when(bookmarkRepository.existsByMember_UserIdAndTravelPlace_PlaceId("member", travelPlace1.getPlaceId())).thenReturn(true);
-        when(bookmarkRepository.existsByMember_UserIdAndTravelPlace_PlaceId("member", travelPlace2.getPlaceId())).thenReturn(false);
+        when(bookmarkRepository.findBookmarkedPlaceIds("member", List.of(travelPlace1.getPlaceId(), travelPlace2.getPlaceId()))).thenReturn(List.of(travelPlace1.getPlaceId()));
 
         // when
         Page<PlaceLocation> response = travelService.searchTravelPlacesWithLocation(1, "member", request);
@@ -304,8 +302,7 @@ public class TravelServiceTest extends TravelTest {
         Page<PlaceResponse> mockResponse = PageUtils.createPage(locationList, pageable, locationList.size());
 
         when(travelPlaceRepository.searchTravelPlaces(pageable, request.getKeyword())).thenReturn(mockResponse);
-        when(bookmarkRepository.existsByMember_UserIdAndTravelPlace_PlaceId("member", travelPlace1.getPlaceId())).thenReturn(true);
-        when(bookmarkRepository.existsByMember_UserIdAndTravelPlace_PlaceId("member", travelPlace2.getPlaceId())).thenReturn(false);
+        when(bookmarkRepository.findBookmarkedPlaceIds("member", List.of(travelPlace1.getPlaceId(), travelPlace2.getPlaceId()))).thenReturn(List.of(travelPlace1.getPlaceId()));
 
         // when
         Page<PlaceLocation> response = travelService.searchTravelPlacesWithoutLocation(1, "member", request);